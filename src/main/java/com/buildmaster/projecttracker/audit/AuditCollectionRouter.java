@@ -0,0 +1,136 @@
+package com.buildmaster.projecttracker.audit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Maps audit timestamps to monthly bucket collections ({@code audit_logs_yyyyMM}) and resolves
+ * which buckets overlap a query window. Bucket names are learned from MongoDB and refreshed
+ * periodically so buckets created by other instances are picked up. The pre-partitioning
+ * {@code audit_logs} collection, if it still exists, is treated as the oldest bucket.
+ */
+@Component
+public class AuditCollectionRouter {
+
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditLogIndexInitializer indexInitializer;
+    private final String prefix;
+    private final Pattern bucketPattern;
+    private final Set<String> indexedBuckets = ConcurrentHashMap.newKeySet();
+    private final NavigableSet<YearMonth> buckets = new ConcurrentSkipListSet<>();
+    // A lock rather than synchronized, so a virtual thread listing collections does not pin its carrier.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile boolean legacyCollectionExists;
+    private volatile long lastRefresh;
+
+    public AuditCollectionRouter(MongoTemplate mongoTemplate,
+                                 AuditLogIndexInitializer indexInitializer,
+                                 @Value("${application.audit.collection-prefix:audit_logs}") String prefix) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexInitializer = indexInitializer;
+        this.prefix = prefix;
+        this.bucketPattern = Pattern.compile(Pattern.quote(prefix) + "_\\d{6}");
+        // nanoTime has an arbitrary origin, so 0 is not "long ago"; start out already stale.
+        this.lastRefresh = System.nanoTime() - REFRESH_INTERVAL_NANOS - 1;
+    }
+
+    public String collectionFor(LocalDateTime timestamp) {
+        return collectionFor(YearMonth.from(timestamp != null ? timestamp : LocalDateTime.now()));
+    }
+
+    public String collectionFor(YearMonth month) {
+        return prefix + "_" + month.format(BUCKET_FORMAT);
+    }
+
+    /**
+     * Makes sure the bucket for {@code collection} has its indexes before the first write lands in it.
+     */
+    public void prepare(String collection) {
+        if (indexedBuckets.add(collection)) {
+            indexInitializer.ensureIndexes(collection);
+            buckets.add(YearMonth.parse(collection.substring(prefix.length() + 1), BUCKET_FORMAT));
+        }
+    }
+
+    /**
+     * Buckets overlapping {@code [from, to]}, newest first. Open bounds extend to the oldest or newest
+     * known bucket. The legacy collection is appended last when it exists and the window reaches back to it.
+     */
+    public List<String> collectionsBetween(LocalDateTime from, LocalDateTime to) {
+        refreshIfStale();
+        List<String> collections = new ArrayList<>();
+        if (buckets.isEmpty()) {
+            if (legacyCollectionExists) {
+                collections.add(prefix);
+            }
+            return collections;
+        }
+        YearMonth lower = from != null ? YearMonth.from(from) : buckets.first();
+        YearMonth upper = to != null ? YearMonth.from(to) : buckets.last();
+        if (!lower.isAfter(upper)) {
+            buckets.subSet(lower, true, upper, true).descendingSet()
+                    .forEach(month -> collections.add(collectionFor(month)));
+        }
+        if (legacyCollectionExists && !lower.isAfter(buckets.first())) {
+            collections.add(prefix);
+        }
+        return collections;
+    }
+
+    /**
+     * Buckets whose whole month is before {@code cutoff}, oldest first.
+     */
+    public List<String> collectionsBefore(YearMonth cutoff) {
+        refresh();
+        return buckets.headSet(cutoff, false).stream()
+                .sorted(Comparator.naturalOrder())
+                .map(this::collectionFor)
+                .toList();
+    }
+
+    public void forget(String collection) {
+        indexedBuckets.remove(collection);
+        buckets.remove(YearMonth.parse(collection.substring(prefix.length() + 1), BUCKET_FORMAT));
+    }
+
+    private void refreshIfStale() {
+        if (System.nanoTime() - lastRefresh > REFRESH_INTERVAL_NANOS) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        refreshLock.lock();
+        try {
+            Set<String> names = mongoTemplate.getCollectionNames();
+            legacyCollectionExists = names.contains(prefix);
+            for (String name : names) {
+                if (bucketPattern.matcher(name).matches()) {
+                    buckets.add(YearMonth.parse(name.substring(prefix.length() + 1), BUCKET_FORMAT));
+                }
+            }
+            lastRefresh = System.nanoTime();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Field-level diff between two snapshots of the same record type. Accessors are resolved once
+ * per type and cached, so a diff costs one accessor call and one equals per component.
+ */
+final class AuditFieldDiff {
+
+    private record Accessor(String name, MethodHandle getter) {
+    }
+
+    private static final ClassValue<List<Accessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected List<Accessor> computeValue(Class<?> type) {
+            if (!type.isRecord()) {
+                return List.of();
+            }
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            List<Accessor> accessors = new ArrayList<>();
+            for (RecordComponent component : type.getRecordComponents()) {
+                try {
+                    accessors.add(new Accessor(component.getName(), lookup.unreflect(component.getAccessor())));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot access " + type.getName() + "." + component.getName(), e);
+                }
+            }
+            return List.copyOf(accessors);
+        }
+    };
+
+    private AuditFieldDiff() {
+    }
+
+    static Map<String, AuditLogDTO.AuditFieldChange> diff(Object before, Object after) {
+        Object reference = after != null ? after : before;
+        if (reference == null) {
+            return Map.of();
+        }
+        if (before != null && after != null && before.getClass() != after.getClass()) {
+            throw new IllegalArgumentException("Cannot diff " + before.getClass().getName() + " against " + after.getClass().getName());
+        }
+        List<Accessor> accessors = ACCESSORS.get(reference.getClass());
+        if (accessors.isEmpty()) {
+            return Objects.equals(before, after) ? Map.of() : Map.of("value", new AuditLogDTO.AuditFieldChange(before, after));
+        }
+        Map<String, AuditLogDTO.AuditFieldChange> changes = new LinkedHashMap<>();
+        for (Accessor accessor : accessors) {
+            Object previous = read(accessor, before);
+            Object current = read(accessor, after);
+            if (!Objects.equals(previous, current)) {
+                changes.put(accessor.name(), new AuditLogDTO.AuditFieldChange(previous, current));
+            }
+        }
+        return changes;
+    }
+
+    private static Object read(Accessor accessor, Object target) {
+        if (target == null) {
+            return null;
+        }
+        try {
+            return accessor.getter().invoke(target);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to read audit field " + accessor.name(), e);
+        }
+    }
+}
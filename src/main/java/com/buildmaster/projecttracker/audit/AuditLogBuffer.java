@@ -0,0 +1,383 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.enums.AuditOverflowPolicy;
+import com.buildmaster.projecttracker.model.AuditLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory buffer in front of the audit_logs collection.
+ * Callers enqueue without touching MongoDB; a single drainer thread flushes
+ * the queued documents with insertMany once a batch fills up or the flush
+ * interval elapses, whichever comes first. A batch MongoDB rejects is retried with backoff under
+ * BLOCK and DROP_OLDEST and then, like every batch under SPILL_TO_DISK, spilled to disk and
+ * replayed once MongoDB accepts writes again, so a failed write never loses records.
+ */
+@Component
+public class AuditLogBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogBuffer.class);
+    private static final String SPILL_FILE = "audit-spill.ndjson";
+    private static final String REPLAY_FILE = SPILL_FILE + ".replaying";
+    private static final String REPLAY_OFFSET_FILE = REPLAY_FILE + ".offset";
+    private static final String REJECTED_FILE = "audit-spill.rejected.ndjson";
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5_000;
+
+    private final AuditLogWriter auditLogWriter;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final Path spillDirectory;
+    private final int flushRetries;
+    private final long retryBackoffMillis;
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter failedFlushCounter;
+    private final Counter rejectedCounter;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public AuditLogBuffer(AuditLogWriter auditLogWriter,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${application.audit.buffer.capacity:10000}") int capacity,
+                          @Value("${application.audit.buffer.batch-size:500}") int batchSize,
+                          @Value("${application.audit.buffer.flush-interval-ms:50}") long flushIntervalMs,
+                          @Value("${application.audit.buffer.overflow-policy:BLOCK}") AuditOverflowPolicy overflowPolicy,
+                          @Value("${application.audit.buffer.spill-directory:data/audit-spill}") String spillDirectory,
+                          @Value("${application.audit.buffer.flush-retries:3}") int flushRetries,
+                          @Value("${application.audit.buffer.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.auditLogWriter = auditLogWriter;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.spillDirectory = Path.of(spillDirectory);
+        this.flushRetries = flushRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        Gauge.builder("audit.buffer.depth", queue, BlockingQueue::size)
+                .description("Audit log documents waiting to be flushed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.buffer.flush")
+                .description("Time spent writing one audit batch to MongoDB")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("audit.buffer.flushed").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.buffer.dropped").register(meterRegistry);
+        this.spilledCounter = Counter.builder("audit.buffer.spilled").register(meterRegistry);
+        this.failedFlushCounter = Counter.builder("audit.buffer.flush.failures").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("audit.buffer.spill.rejected")
+                .description("Spilled audit lines that could not be parsed and were moved to the rejected file")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        drainer = new Thread(this::drainLoop, "audit-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+        logger.info("Audit buffer started (batchSize={}, overflowPolicy={})", batchSize, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (drainer != null) {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Hands an audit document to the drainer. Never touches MongoDB on the caller's thread;
+     * what happens when the buffer is full depends on the configured overflow policy.
+     */
+    public void submit(AuditLog auditLog) {
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(auditLog);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCounter.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(auditLog)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+            }
+            case SPILL_TO_DISK -> {
+                if (!queue.offer(auditLog)) {
+                    spill(List.of(auditLog));
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands several audit documents to the drainer in one call, which batches them together
+     * with whatever else is queued.
+     */
+    public void submitAll(List<AuditLog> auditLogs) {
+        if (overflowPolicy != AuditOverflowPolicy.SPILL_TO_DISK) {
+            auditLogs.forEach(this::submit);
+            return;
+        }
+        List<AuditLog> overflow = new ArrayList<>();
+        for (AuditLog auditLog : auditLogs) {
+            if (!queue.offer(auditLog)) {
+                overflow.add(auditLog);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            spill(overflow);
+        }
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLog first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                logger.error("Audit drainer iteration failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        logger.info("Audit drainer stopped");
+    }
+
+    private boolean flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        long backoff = retryBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                auditLogWriter.write(new ArrayList<>(batch));
+                flushedCounter.increment(batch.size());
+                return true;
+            } catch (Exception e) {
+                failedFlushCounter.increment();
+                // SPILL_TO_DISK spills at once; the other policies retry first, as a short outage is
+                // the usual cause. Retries are idempotent: the writer keeps the ids it assigned.
+                if (overflowPolicy == AuditOverflowPolicy.SPILL_TO_DISK || attempt > flushRetries || !running) {
+                    logger.warn("Failed to flush {} audit logs, spilling them to disk: {}", batch.size(), e.getMessage());
+                    spill(batch);
+                    return false;
+                }
+                logger.warn("Failed to flush {} audit logs (attempt {}), retrying in {} ms: {}", batch.size(), attempt,
+                        backoff, e.getMessage());
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                spill(batch);
+                return false;
+            }
+            backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MILLIS);
+        }
+    }
+
+    private void spill(List<AuditLog> auditLogs) {
+        spillLock.lock();
+        try {
+            Files.createDirectories(spillDirectory);
+            try (BufferedWriter writer = Files.newBufferedWriter(spillDirectory.resolve(SPILL_FILE), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (AuditLog auditLog : auditLogs) {
+                    if (auditLog.getId() == null) {
+                        // A replay that fails halfway re-sends its batch; the id makes that idempotent.
+                        auditLog.setId(new ObjectId().toHexString());
+                    }
+                    writer.write(objectMapper.writeValueAsString(auditLog));
+                    writer.newLine();
+                }
+            }
+            spilledCounter.increment(auditLogs.size());
+        } catch (IOException e) {
+            logger.error("Failed to spill {} audit logs to disk: {}", auditLogs.size(), e.getMessage());
+            droppedCounter.increment(auditLogs.size());
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * Moves spilled documents back into MongoDB once the drainer is idle. The spill file is
+     * renamed before reading so concurrent spills start a fresh file instead of racing the replay.
+     * The number of lines already written is kept next to the renamed file, so a replay that stops
+     * on a MongoDB failure resumes where it left off instead of re-inserting what it already wrote.
+     * Lines that cannot be parsed are moved to {@value #REJECTED_FILE} and skipped. Runs under
+     * every policy, since each spills the batches MongoDB kept rejecting.
+     */
+    private void replaySpill() {
+        Path spillFile = spillDirectory.resolve(SPILL_FILE);
+        Path replayFile = spillDirectory.resolve(REPLAY_FILE);
+        Path offsetFile = spillDirectory.resolve(REPLAY_OFFSET_FILE);
+        spillLock.lock();
+        try {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                Files.deleteIfExists(offsetFile);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not rotate audit spill file: {}", e.getMessage());
+            return;
+        } finally {
+            spillLock.unlock();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            long done = readOffset(offsetFile);
+            long lineNumber = 0;
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= done || line.isBlank()) {
+                    continue;
+                }
+                AuditLog auditLog;
+                try {
+                    auditLog = objectMapper.readValue(line, AuditLog.class);
+                } catch (JsonProcessingException e) {
+                    // Write what precedes it first, so the offset never moves past an unwritten line.
+                    if (!replayBatch(batch)) {
+                        return;
+                    }
+                    batch.clear();
+                    reject(line, lineNumber, e);
+                    done = lineNumber;
+                    writeOffset(offsetFile, done);
+                    continue;
+                }
+                batch.add(auditLog);
+                if (batch.size() >= batchSize) {
+                    if (!replayBatch(batch)) {
+                        return;
+                    }
+                    batch.clear();
+                    done = lineNumber;
+                    writeOffset(offsetFile, done);
+                }
+            }
+            if (!replayBatch(batch)) {
+                return;
+            }
+            Files.delete(replayFile);
+            Files.deleteIfExists(offsetFile);
+        } catch (IOException e) {
+            logger.error("Failed to replay audit spill file: {}", e.getMessage());
+        }
+    }
+
+    /** Writes one replayed batch; on failure the lines stay in the replay file for the next attempt. */
+    private boolean replayBatch(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            auditLogWriter.write(new ArrayList<>(batch));
+            flushedCounter.increment(batch.size());
+            return true;
+        } catch (Exception e) {
+            failedFlushCounter.increment();
+            logger.warn("Failed to replay {} spilled audit logs, retrying later: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void reject(String line, long lineNumber, JsonProcessingException cause) throws IOException {
+        Files.writeString(spillDirectory.resolve(REJECTED_FILE), line + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        rejectedCounter.increment();
+        logger.warn("Moved unreadable spilled audit line {} to {}: {}", lineNumber, REJECTED_FILE, cause.getOriginalMessage());
+    }
+
+    private static long readOffset(Path offsetFile) throws IOException {
+        if (!Files.exists(offsetFile)) {
+            return 0;
+        }
+        String offset = Files.readString(offsetFile, StandardCharsets.UTF_8).trim();
+        return offset.isEmpty() ? 0 : Long.parseLong(offset);
+    }
+
+    private static void writeOffset(Path offsetFile, long done) throws IOException {
+        Path temporary = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        Files.writeString(temporary, Long.toString(done), StandardCharsets.UTF_8);
+        Files.move(temporary, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,50 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.model.AuditLog;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the compound indexes declared on {@link AuditLog} on a given audit collection. The hand-built
+ * MongoTemplate does not auto-create indexes, so without this the annotations are never applied.
+ * Monthly buckets are indexed by {@link AuditCollectionRouter} on first write; the legacy
+ * unpartitioned collection is indexed at startup if it still exists.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogIndexInitializer.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        String legacyCollection = mongoTemplate.getCollectionName(AuditLog.class);
+        try {
+            if (mongoTemplate.collectionExists(legacyCollection)) {
+                ensureIndexes(legacyCollection);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not check legacy audit collection {}: {}", legacyCollection, e.getMessage());
+        }
+    }
+
+    public void ensureIndexes(String collectionName) {
+        try {
+            IndexOperations indexOperations = mongoTemplate.indexOps(collectionName);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(AuditLog.class)
+                    .forEach(indexOperations::createIndex);
+        } catch (Exception e) {
+            logger.warn("Could not ensure audit log indexes on {}: {}", collectionName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.model.AuditLog;
+import org.bson.types.Binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Compact binary form of an {@link AuditLog} used for spool records.
+ * Layout: version byte followed by the fields in declaration order; each string is
+ * an int length (-1 for null) plus UTF-8 bytes, the timestamp is ISO text.
+ * Version 2 appends the payload encoding and the binary payload; version 1 records still decode.
+ */
+public final class AuditLogRecordCodec {
+
+    private static final byte VERSION = 2;
+
+    private AuditLogRecordCodec() {
+    }
+
+    public static byte[] encode(AuditLog auditLog) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, auditLog.getId());
+            writeString(out, auditLog.getActionType() != null ? auditLog.getActionType().name() : null);
+            writeString(out, auditLog.getEntityType() != null ? auditLog.getEntityType().name() : null);
+            writeString(out, auditLog.getEntityId());
+            writeString(out, auditLog.getTimestamp() != null ? auditLog.getTimestamp().toString() : null);
+            writeString(out, auditLog.getActorName());
+            writeString(out, auditLog.getPayload());
+            writeString(out, auditLog.getPayloadEncoding());
+            writeBytes(out, auditLog.getPayloadBinary() != null ? auditLog.getPayloadBinary().getData() : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static AuditLog decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte version = in.readByte();
+            if (version != 1 && version != VERSION) {
+                throw new IllegalStateException("Unsupported audit record version: " + version);
+            }
+            String id = readString(in);
+            String actionType = readString(in);
+            String entityType = readString(in);
+            String entityId = readString(in);
+            String timestamp = readString(in);
+            String actorName = readString(in);
+            String payload = readString(in);
+            String payloadEncoding = version >= 2 ? readString(in) : null;
+            byte[] payloadBinary = version >= 2 ? readBytes(in) : null;
+            return AuditLog.builder()
+                    .id(id)
+                    .actionType(actionType != null ? ActionType.valueOf(actionType) : null)
+                    .entityType(entityType != null ? EntityType.valueOf(entityType) : null)
+                    .entityId(entityId)
+                    .timestamp(timestamp != null ? LocalDateTime.parse(timestamp) : null)
+                    .actorName(actorName)
+                    .payload(payload)
+                    .payloadEncoding(payloadEncoding)
+                    .payloadBinary(payloadBinary != null ? new Binary(payloadBinary) : null)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return in.readNBytes(length);
+    }
+}
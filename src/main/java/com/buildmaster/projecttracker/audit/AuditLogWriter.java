@@ -0,0 +1,97 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.model.AuditLog;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes batches of audit documents to their monthly bucket collections with one unordered
+ * insertMany per bucket, then folds them into the hourly rollups. Documents without an id get one
+ * here, so a batch can be safely re-sent after a partial failure: duplicate-key errors are ignored.
+ * Each write attempt stamps its documents with a rollup token that is cleared once they are counted;
+ * a re-sent batch counts the duplicates still carrying a token under that original token, so the
+ * rollups neither miss nor double count them.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditCollectionRouter auditCollectionRouter;
+    private final AuditRollupRecorder auditRollupRecorder;
+
+    public void write(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        String rollupToken = new ObjectId().toHexString();
+        Map<String, List<AuditLog>> byCollection = new LinkedHashMap<>();
+        for (AuditLog auditLog : auditLogs) {
+            if (auditLog.getId() == null) {
+                auditLog.setId(new ObjectId().toHexString());
+            }
+            auditLog.setRollupToken(rollupToken);
+            byCollection.computeIfAbsent(auditCollectionRouter.collectionFor(auditLog.getTimestamp()), name -> new ArrayList<>())
+                    .add(auditLog);
+        }
+        List<AuditLog> uncounted = new ArrayList<>(auditLogs.size());
+        for (Map.Entry<String, List<AuditLog>> entry : byCollection.entrySet()) {
+            auditCollectionRouter.prepare(entry.getKey());
+            uncounted.addAll(insert(entry.getKey(), entry.getValue()));
+        }
+        auditRollupRecorder.record(uncounted);
+        for (Map.Entry<String, List<AuditLog>> entry : byCollection.entrySet()) {
+            List<String> ids = entry.getValue().stream().map(AuditLog::getId).toList();
+            mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(ids)), new Update().unset("rollupToken"),
+                    AuditLog.class, entry.getKey());
+        }
+    }
+
+    /** Inserts the documents and returns those not yet counted in the rollups. */
+    private List<AuditLog> insert(String collection, List<AuditLog> auditLogs) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class, collection);
+        bulkOperations.insert(auditLogs);
+        try {
+            bulkOperations.execute();
+            return auditLogs;
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream()
+                    .map(BulkWriteError::getCode)
+                    .allMatch(code -> code == DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+            Set<Integer> duplicates = e.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+            List<AuditLog> uncounted = new ArrayList<>(auditLogs.size());
+            List<String> duplicateIds = new ArrayList<>(duplicates.size());
+            for (int i = 0; i < auditLogs.size(); i++) {
+                if (duplicates.contains(i)) {
+                    duplicateIds.add(auditLogs.get(i).getId());
+                } else {
+                    uncounted.add(auditLogs.get(i));
+                }
+            }
+            // An earlier attempt inserted these; it may have failed before counting them.
+            uncounted.addAll(mongoTemplate.find(new Query(Criteria.where("_id").in(duplicateIds).and("rollupToken").exists(true)),
+                    AuditLog.class, collection));
+            return uncounted;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.buildmaster.projecttracker.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link Auditable#message()} template parsed once into literal text and {@code {n}} argument slots.
+ * Rendering is a single pass over the parts into a StringBuilder, unlike {@code MessageFormat.format},
+ * which re-parses the pattern and allocates a formatter per call. Quotes are kept as literal text.
+ */
+final class AuditMessageTemplate {
+
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final int estimatedLength;
+
+    private AuditMessageTemplate(String[] literals, int[] argumentIndexes, int estimatedLength) {
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        this.estimatedLength = estimatedLength;
+    }
+
+    static AuditMessageTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            int close = c == '{' ? pattern.indexOf('}', i) : -1;
+            if (close > i + 1 && isDigits(pattern, i + 1, close)) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                indexes.add(Integer.parseInt(pattern, i + 1, close, 10));
+                i = close + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new AuditMessageTemplate(
+                literals.toArray(String[]::new),
+                indexes.stream().mapToInt(Integer::intValue).toArray(),
+                pattern.length() + 16 * indexes.size());
+    }
+
+    String render(Object[] args) {
+        StringBuilder message = new StringBuilder(estimatedLength);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            message.append(literals[i]);
+            int index = argumentIndexes[i];
+            message.append(index < args.length ? args[index] : "{" + index + "}");
+        }
+        return message.append(literals[literals.length - 1]).toString();
+    }
+
+    private static boolean isDigits(String pattern, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(pattern.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.buildmaster.projecttracker.audit;
+
+/**
+ * Encoded audit payload. Text encodings are stored in {@code AuditLog.payload};
+ * binary encodings are stored as a BSON {@code Binary} in {@code AuditLog.payloadBinary}.
+ */
+public record AuditPayload(String encoding, String text, byte[] binary) {
+
+    public static final String TEXT = "text";
+    public static final String JSON = "json";
+    public static final String SMILE = "smile";
+
+    public static AuditPayload text(String message) {
+        return new AuditPayload(TEXT, message, null);
+    }
+
+    public static AuditPayload json(String json) {
+        return new AuditPayload(JSON, json, null);
+    }
+
+    public static AuditPayload smile(byte[] bytes) {
+        return new AuditPayload(SMILE, null, bytes);
+    }
+
+    public boolean isBinary() {
+        return binary != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.buildmaster.projecttracker.audit;
+
+/**
+ * Turns audited state into a stored payload. The active implementation is selected with
+ * {@code application.audit.payload.encoding} ({@code json} or {@code smile}).
+ */
+public interface AuditPayloadEncoder {
+
+    /**
+     * Encodes the full state of {@code entity}.
+     */
+    AuditPayload encode(Object entity);
+
+    /**
+     * Encodes only the fields that differ between {@code before} and {@code after},
+     * as {@code {"field": {"before": ..., "after": ...}}}.
+     */
+    AuditPayload encodeDiff(Object before, Object after);
+}
@@ -0,0 +1,85 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.enums.AuditRetentionMode;
+import com.mongodb.client.MongoCursor;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Enforces audit retention one whole monthly bucket at a time. Buckets older than the retention
+ * window are either dropped, which is far cheaper than a TTL index deleting documents one by one,
+ * or first archived to a gzipped NDJSON file and then dropped.
+ */
+@Component
+public class AuditRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditRetentionJob.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditCollectionRouter auditCollectionRouter;
+    private final int retentionMonths;
+    private final AuditRetentionMode mode;
+    private final Path archiveDirectory;
+
+    public AuditRetentionJob(MongoTemplate mongoTemplate,
+                             AuditCollectionRouter auditCollectionRouter,
+                             @Value("${application.audit.retention.months:12}") int retentionMonths,
+                             @Value("${application.audit.retention.mode:DROP}") AuditRetentionMode mode,
+                             @Value("${application.audit.retention.archive-directory:data/audit-archive}") String archiveDirectory) {
+        this.mongoTemplate = mongoTemplate;
+        this.auditCollectionRouter = auditCollectionRouter;
+        this.retentionMonths = retentionMonths;
+        this.mode = mode;
+        this.archiveDirectory = Path.of(archiveDirectory);
+    }
+
+    @Scheduled(cron = "${application.audit.retention.cron:0 30 3 * * *}")
+    public void enforceRetention() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths - 1L);
+        for (String collection : auditCollectionRouter.collectionsBefore(cutoff)) {
+            try {
+                if (mode == AuditRetentionMode.ARCHIVE) {
+                    archive(collection);
+                }
+                mongoTemplate.dropCollection(collection);
+                auditCollectionRouter.forget(collection);
+                logger.info("Audit bucket {} removed by retention ({})", collection, mode);
+            } catch (Exception e) {
+                logger.error("Failed to apply retention to audit bucket {}: {}", collection, e.getMessage());
+            }
+        }
+    }
+
+    private void archive(String collection) throws IOException {
+        Files.createDirectories(archiveDirectory);
+        Path target = archiveDirectory.resolve(collection + ".ndjson.gz");
+        Path temp = archiveDirectory.resolve(collection + ".ndjson.gz.tmp");
+        try (MongoCursor<Document> cursor = mongoTemplate.getCollection(collection).find().batchSize(1000).iterator();
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                     new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            while (cursor.hasNext()) {
+                writer.write(cursor.next().toJson());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,125 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.model.AuditLog;
+import com.buildmaster.projecttracker.model.AuditRollup;
+import com.mongodb.bulk.BulkWriteError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains hourly audit counts per (entityType, actionType, actorName). Each written batch is
+ * folded into per-key counts in memory first, then applied as one unordered bulk of $inc upserts.
+ * Every increment is tagged with the rollup token of the write attempt that inserted the documents,
+ * and a rollup document remembers the last {@value #APPLIED_TOKENS_KEPT} tokens applied to it, so
+ * re-applying an attempt's counts after a retry changes nothing.
+ * Rollup documents expire through a TTL index on {@code hour}.
+ */
+@Component
+public class AuditRollupRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditRollupRecorder.class);
+    private static final int APPLIED_TOKENS_KEPT = 500;
+    private static final int DUPLICATE_KEY = 11000;
+
+    private record RollupKey(String rollupToken, LocalDateTime hour, EntityType entityType, ActionType actionType,
+                             String actorName) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration retention;
+
+    public AuditRollupRecorder(MongoTemplate mongoTemplate,
+                               @Value("${application.audit.rollup.retention-days:400}") long retentionDays) {
+        this.mongoTemplate = mongoTemplate;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOperations = mongoTemplate.indexOps(AuditRollup.class);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(AuditRollup.class)
+                    .forEach(indexOperations::createIndex);
+            indexOperations.createIndex(new Index().on("hour", Sort.Direction.ASC).named("hour_ttl").expire(retention));
+        } catch (Exception e) {
+            logger.warn("Could not ensure audit rollup indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the given, already persisted audit logs to their hourly buckets, grouped by their
+     * rollup token. Failures propagate so the caller retries the batch; counts that were already
+     * applied under the same token are skipped on the retry.
+     */
+    public void record(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        Map<RollupKey, Long> counts = new LinkedHashMap<>();
+        for (AuditLog auditLog : auditLogs) {
+            LocalDateTime timestamp = auditLog.getTimestamp() != null ? auditLog.getTimestamp() : LocalDateTime.now();
+            RollupKey key = new RollupKey(auditLog.getRollupToken(), timestamp.truncatedTo(ChronoUnit.HOURS),
+                    auditLog.getEntityType(), auditLog.getActionType(), auditLog.getActorName());
+            counts.merge(key, 1L, Long::sum);
+        }
+        List<Map.Entry<RollupKey, Long>> entries = new ArrayList<>(counts.entrySet());
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditRollup.class);
+        entries.forEach(entry -> bulkOperations.upsert(unapplied(entry.getKey()), increment(entry)));
+        try {
+            bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream()
+                    .map(BulkWriteError::getCode)
+                    .allMatch(code -> code == DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+            // The rollup document exists: either another writer created it concurrently, or it already
+            // carries this token and the upsert tried to insert a second one. A plain update settles both.
+            BulkOperations updates = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditRollup.class);
+            e.getErrors().forEach(error -> {
+                Map.Entry<RollupKey, Long> entry = entries.get(error.getIndex());
+                updates.updateOne(unapplied(entry.getKey()), increment(entry));
+            });
+            updates.execute();
+        }
+    }
+
+    private Query unapplied(RollupKey key) {
+        return new Query(Criteria.where("hour").is(key.hour())
+                .and("entityType").is(key.entityType())
+                .and("actionType").is(key.actionType())
+                .and("actorName").is(key.actorName())
+                .and("appliedTokens").ne(key.rollupToken()));
+    }
+
+    private Update increment(Map.Entry<RollupKey, Long> entry) {
+        return new Update().inc("count", entry.getValue())
+                .push("appliedTokens").slice(-APPLIED_TOKENS_KEPT).each(entry.getKey().rollupToken());
+    }
+}
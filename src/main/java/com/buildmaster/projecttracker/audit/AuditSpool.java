@@ -0,0 +1,375 @@
+package com.buildmaster.projecttracker.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, memory-mapped write-ahead spool for audit records.
+ *
+ * <p>Records are stored in fixed-size segment files as {@code [int length][int crc32c][payload]}.
+ * An append is a copy into the mapped region of the active segment, so callers never wait on
+ * MongoDB. When the active segment cannot fit the next record a new one is rolled.
+ * A checkpoint file records the position up to which records have been acknowledged by
+ * the store; segments entirely before the checkpoint are deleted.</p>
+ *
+ * <p>On open, every segment is scanned and verified record by record. The first record with a
+ * bad length or CRC marks the end of that segment, which discards a torn write left by a crash.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "application.audit.spool.enabled", havingValue = "true")
+public class AuditSpool {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditSpool.class);
+    static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String DEAD_LETTER_FILE = "dead-letter.records";
+
+    public record Position(long segmentId, int offset) {
+    }
+
+    public record Batch(List<byte[]> records, Position next) {
+        public boolean isEmpty() {
+            return records.isEmpty();
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock deadLetterLock = new ReentrantLock();
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Counter appendedCounter;
+
+    private volatile Segment active;
+    private volatile Position checkpoint;
+
+    public AuditSpool(MeterRegistry meterRegistry,
+                      @Value("${application.audit.spool.directory:data/audit-spool}") String directory,
+                      @Value("${application.audit.spool.segment-size-bytes:16777216}") int segmentSize) {
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.appendedCounter = Counter.builder("audit.spool.appended").register(meterRegistry);
+        Gauge.builder("audit.spool.segments", segments, Map::size)
+                .description("Spool segment files not yet acknowledged by MongoDB")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        checkpoint = readCheckpoint();
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            long segmentId = Long.parseLong(file.getFileName().toString().replace(SEGMENT_SUFFIX, ""));
+            if (segmentId < checkpoint.segmentId()) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            Segment segment = Segment.open(segmentId, file, segmentSize);
+            segment.recover();
+            segments.put(segmentId, segment);
+        }
+        if (segments.isEmpty()) {
+            long firstId = Math.max(checkpoint.segmentId(), 0);
+            segments.put(firstId, Segment.open(firstId, segmentPath(firstId), segmentSize));
+        }
+        active = segments.lastEntry().getValue();
+        segments.headMap(active.id).values().forEach(Segment::seal);
+        if (!segments.containsKey(checkpoint.segmentId())) {
+            checkpoint = new Position(segments.firstKey(), 0);
+        }
+        logger.info("Audit spool opened at {} with {} segment(s), resuming from {}", directory, segments.size(), checkpoint);
+    }
+
+    @PreDestroy
+    public void close() {
+        appendLock.lock();
+        try {
+            segments.values().forEach(Segment::close);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Appends one record. Only the append lock and a memory copy are on the hot path;
+     * the data reaches disk through the page cache or an explicit {@link #force()}.
+     */
+    public void append(byte[] record) {
+        int required = HEADER_BYTES + record.length;
+        if (required > segmentSize) {
+            throw new IllegalArgumentException("Audit record of " + record.length + " bytes exceeds spool segment size");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(record);
+        appendLock.lock();
+        try {
+            Segment segment = active;
+            if (segment.remaining() < required) {
+                segment = roll(segment);
+            }
+            segment.write(record, (int) crc.getValue());
+        } finally {
+            appendLock.unlock();
+        }
+        appendedCounter.increment();
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records starting at {@code from}, crossing into newer
+     * segments when a sealed one is exhausted.
+     */
+    public Batch read(Position from, int maxRecords) {
+        List<byte[]> records = new ArrayList<>();
+        Position position = from;
+        while (records.size() < maxRecords) {
+            Segment segment = segments.get(position.segmentId());
+            if (segment == null) {
+                Map.Entry<Long, Segment> next = segments.higherEntry(position.segmentId());
+                if (next == null) {
+                    break;
+                }
+                position = new Position(next.getKey(), 0);
+                continue;
+            }
+            int end = segment.published();
+            int offset = position.offset();
+            while (offset < end && records.size() < maxRecords) {
+                byte[] record = segment.readAt(offset);
+                records.add(record);
+                offset += HEADER_BYTES + record.length;
+            }
+            position = new Position(position.segmentId(), offset);
+            if (records.size() >= maxRecords) {
+                break;
+            }
+            Map.Entry<Long, Segment> next = segments.higherEntry(position.segmentId());
+            if (!segment.sealed() || next == null || offset < segment.published()) {
+                break;
+            }
+            position = new Position(next.getKey(), 0);
+        }
+        return new Batch(records, position);
+    }
+
+    /**
+     * Records that everything before {@code position} is durable in MongoDB and deletes
+     * segments that no longer hold unacknowledged records.
+     */
+    public void acknowledge(Position position) {
+        writeCheckpoint(position);
+        checkpoint = position;
+        for (Long segmentId : List.copyOf(segments.headMap(position.segmentId()).keySet())) {
+            Segment segment = segments.remove(segmentId);
+            segment.close();
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                logger.warn("Could not delete acknowledged spool segment {}: {}", segment.path, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Appends a record that cannot be replayed to {@value #DEAD_LETTER_FILE}, in the segment record
+     * format, and forces it to disk so the record may be acknowledged past.
+     */
+    public void deadLetter(byte[] record) throws IOException {
+        CRC32C crc = new CRC32C();
+        crc.update(record);
+        ByteBuffer framed = ByteBuffer.allocate(HEADER_BYTES + record.length)
+                .putInt(record.length)
+                .putInt((int) crc.getValue())
+                .put(record)
+                .flip();
+        deadLetterLock.lock();
+        try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (framed.hasRemaining()) {
+                channel.write(framed);
+            }
+            channel.force(false);
+        } finally {
+            deadLetterLock.unlock();
+        }
+    }
+
+    public Position checkpoint() {
+        return checkpoint;
+    }
+
+    public void force() {
+        Segment segment = active;
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    private Segment roll(Segment current) {
+        current.seal();
+        current.force();
+        long nextId = current.id + 1;
+        try {
+            Segment next = Segment.open(nextId, segmentPath(nextId), segmentSize);
+            segments.put(nextId, next);
+            active = next;
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll audit spool segment", e);
+        }
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("%020d%s", segmentId, SEGMENT_SUFFIX));
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return new Position(0, 0);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        return new Position(buffer.getLong(), buffer.getInt());
+    }
+
+    private void writeCheckpoint(Position position) {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(12).putLong(position.segmentId()).putInt(position.offset());
+        try {
+            Files.write(temp, buffer.array(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write audit spool checkpoint", e);
+        }
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private volatile int published;
+        private volatile boolean sealed;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(long id, Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(id, path, channel, buffer);
+        }
+
+        /**
+         * Scans forward verifying each record and positions the writer after the last good one.
+         * Anything beyond that point is zeroed so a later append cannot resurrect a torn record.
+         */
+        void recover() {
+            int offset = 0;
+            int capacity = buffer.capacity();
+            CRC32C crc = new CRC32C();
+            while (offset + HEADER_BYTES <= capacity) {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || offset + HEADER_BYTES + length > capacity) {
+                    break;
+                }
+                int storedCrc = buffer.getInt(offset + 4);
+                crc.reset();
+                crc.update(buffer.slice(offset + HEADER_BYTES, length));
+                if ((int) crc.getValue() != storedCrc) {
+                    logger.warn("Discarding corrupt audit spool record in segment {} at offset {}", id, offset);
+                    break;
+                }
+                offset += HEADER_BYTES + length;
+            }
+            for (int i = offset; i < capacity; i++) {
+                if (buffer.get(i) != 0) {
+                    buffer.put(i, (byte) 0);
+                }
+            }
+            writePosition = offset;
+            published = offset;
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        void write(byte[] record, int crc) {
+            int offset = writePosition;
+            buffer.putInt(offset + 4, crc);
+            buffer.put(offset + HEADER_BYTES, record);
+            // Length goes last so a reader or recovery never sees a header for bytes not yet copied.
+            buffer.putInt(offset, record.length);
+            writePosition = offset + HEADER_BYTES + record.length;
+            published = writePosition;
+        }
+
+        byte[] readAt(int offset) {
+            int length = buffer.getInt(offset);
+            byte[] record = new byte[length];
+            buffer.get(offset + HEADER_BYTES, record);
+            return record;
+        }
+
+        int published() {
+            return published;
+        }
+
+        boolean sealed() {
+            return sealed;
+        }
+
+        void seal() {
+            sealed = true;
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void close() {
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close spool segment {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
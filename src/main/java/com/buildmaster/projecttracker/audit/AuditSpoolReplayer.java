@@ -0,0 +1,143 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.model.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams records from the {@link AuditSpool} into MongoDB and advances the spool checkpoint
+ * only after the batch has been acknowledged. Failed batches are retried with exponential
+ * backoff, so a MongoDB outage only grows the spool instead of losing events.
+ * On startup it resumes from the last checkpoint, replaying anything written before a crash.
+ * Records that pass their checksum but cannot be decoded are copied to the spool's dead-letter
+ * file before the checkpoint moves past them.
+ */
+@Component
+@ConditionalOnProperty(name = "application.audit.spool.enabled", havingValue = "true")
+public class AuditSpoolReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditSpoolReplayer.class);
+    private static final long MAX_BACKOFF_MS = 5000;
+
+    private final AuditSpool auditSpool;
+    private final AuditLogWriter auditLogWriter;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final long forceIntervalMs;
+    private final Counter replayedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+
+    private volatile boolean running;
+    private Thread replayer;
+
+    public AuditSpoolReplayer(AuditSpool auditSpool,
+                              AuditLogWriter auditLogWriter,
+                              MeterRegistry meterRegistry,
+                              @Value("${application.audit.spool.replay-batch-size:500}") int batchSize,
+                              @Value("${application.audit.spool.poll-interval-ms:50}") long pollIntervalMs,
+                              @Value("${application.audit.spool.force-interval-ms:1000}") long forceIntervalMs) {
+        this.auditSpool = auditSpool;
+        this.auditLogWriter = auditLogWriter;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.forceIntervalMs = forceIntervalMs;
+        this.replayedCounter = Counter.builder("audit.spool.replayed").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.spool.replay.failures").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("audit.spool.dead-lettered")
+                .description("Spool records that could not be decoded and were moved to the dead-letter file")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        replayer = new Thread(this::replayLoop, "audit-spool-replayer");
+        replayer.setDaemon(true);
+        replayer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (replayer != null) {
+            replayer.interrupt();
+            replayer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void replayLoop() {
+        AuditSpool.Position position = auditSpool.checkpoint();
+        long backoffMs = pollIntervalMs;
+        long lastForce = System.currentTimeMillis();
+        // Records already checked for dead-lettering from this position, so a retried batch
+        // does not copy the same undecodable record twice.
+        AuditSpool.Position checkedFrom = null;
+        int checked = 0;
+        while (running) {
+            try {
+                if (System.currentTimeMillis() - lastForce >= forceIntervalMs) {
+                    auditSpool.force();
+                    lastForce = System.currentTimeMillis();
+                }
+                AuditSpool.Batch batch = auditSpool.read(position, batchSize);
+                if (batch.isEmpty()) {
+                    if (!batch.next().equals(position)) {
+                        position = batch.next();
+                        auditSpool.acknowledge(position);
+                    }
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMs);
+                    continue;
+                }
+                if (!position.equals(checkedFrom)) {
+                    checkedFrom = position;
+                    checked = 0;
+                }
+                List<AuditLog> auditLogs = new ArrayList<>(batch.records().size());
+                for (int i = 0; i < batch.records().size(); i++) {
+                    byte[] record = batch.records().get(i);
+                    try {
+                        auditLogs.add(AuditLogRecordCodec.decode(record));
+                    } catch (RuntimeException e) {
+                        if (i >= checked) {
+                            auditSpool.deadLetter(record);
+                            deadLetteredCounter.increment();
+                            logger.error("Moved undecodable audit spool record to the dead-letter file: {}", e.getMessage());
+                        }
+                    }
+                }
+                checked = Math.max(checked, batch.records().size());
+                try {
+                    auditLogWriter.write(auditLogs);
+                } catch (Exception e) {
+                    failedCounter.increment();
+                    logger.warn("Audit spool replay of {} records failed, retrying in {} ms: {}",
+                            auditLogs.size(), backoffMs, e.getMessage());
+                    TimeUnit.MILLISECONDS.sleep(backoffMs);
+                    backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+                    continue;
+                }
+                backoffMs = pollIntervalMs;
+                position = batch.next();
+                auditSpool.acknowledge(position);
+                replayedCounter.increment(auditLogs.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Audit spool replayer iteration failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
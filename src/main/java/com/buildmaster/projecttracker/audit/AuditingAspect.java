@@ -1,4 +1,5 @@
 package com.buildmaster.projecttracker.audit;
+import com.buildmaster.projecttracker.dto.CustomApiResponse;
 import com.buildmaster.projecttracker.dto.DeveloperDTO;
 import com.buildmaster.projecttracker.dto.ProjectDTO;
 import com.buildmaster.projecttracker.dto.TaskDTO;
@@ -19,8 +20,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.text.MessageFormat;
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Aspect for auditing method executions annotated with @Auditable.
@@ -36,6 +37,7 @@ public class AuditingAspect {
 
     private final AuditLogService auditLogService;
     private final SecurityUtil securityUtil;
+    private final Map<String, AuditMessageTemplate> templates = new ConcurrentHashMap<>();
 
     /**
      * Defines a pointcut for any method annotated with @Auditable.
@@ -69,15 +71,14 @@ public class AuditingAspect {
             entityId = extractEntityId(result);
         }
 
-        Object[] args = joinPoint.getArgs();
-        String formattedMessage = MessageFormat.format(auditable.message(), args);
+        String formattedMessage = template(auditable.message()).render(joinPoint.getArgs());
 
         auditLogService.logAudit(
                 auditable.action(),
                 entityType,
                 entityId,
-                formattedMessage,
-                currentUserEmail
+                currentUserEmail,
+                formattedMessage
         );
         logger.debug("Audited successful method execution: {}.{} - Action: {}", className, methodName, auditable.action());
     }
@@ -104,36 +105,33 @@ public class AuditingAspect {
             entityId = (Long) joinPoint.getArgs()[0];
         }
 
-        Object[] args = joinPoint.getArgs();
-        String formattedMessage = MessageFormat.format(auditable.message() + " (Failed: {0})",
-                Arrays.copyOf(args, args.length + 1)); // Add space for exception message
-        formattedMessage = MessageFormat.format(formattedMessage, ex.getMessage());
+        String formattedMessage = template(auditable.message()).render(joinPoint.getArgs())
+                + " (Failed: " + ex.getMessage() + ")";
 
         auditLogService.logAudit(
                 ActionType.GENERIC_FAILURE,
                 entityType,
-                entityId.toString(),
-                formattedMessage,
-                currentUserEmail
+                entityId != null ? entityId.toString() : null,
+                currentUserEmail,
+                formattedMessage
         );
         logger.error("Audited failed method execution: {}.{} - Action: {} - Error: {}", className, methodName, auditable.action(), ex.getMessage());
     }
 
+    private AuditMessageTemplate template(String pattern) {
+        return templates.computeIfAbsent(pattern, AuditMessageTemplate::compile);
+    }
+
     private String extractEntityId(Object result) {
-        try {
-
-            if (result instanceof ProjectDTO.ProjectSummaryResponse) {
-                return ((ProjectDTO.ProjectSummaryResponse) result).id().toString();
-            } else if (result instanceof DeveloperDTO.DeveloperResponse) {
-                return ((DeveloperDTO.DeveloperResponse) result).id().toString();
-            } else if (result instanceof TaskDTO.TaskResponse) {
-                return ((TaskDTO.TaskResponse) result).id().toString();
-            }
-        } catch (Exception e) {
-            logger.debug("Could not extract entity ID from method return result: {}", e.getMessage());
-        }finally {
-            return "unknown";
+        Object value = result instanceof CustomApiResponse<?> response ? response.data() : result;
+        if (value instanceof ProjectDTO.ProjectSummaryResponse project) {
+            return String.valueOf(project.id());
+        } else if (value instanceof DeveloperDTO.DeveloperResponse developer) {
+            return String.valueOf(developer.id());
+        } else if (value instanceof TaskDTO.TaskResponse task) {
+            return String.valueOf(task.id());
         }
+        return "unknown";
     }
 
 }
@@ -0,0 +1,49 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes audit payloads as JSON text using one pre-built {@link ObjectWriter} per payload type,
+ * which skips the serializer lookup {@code ObjectMapper.writeValueAsString} does on every call.
+ */
+@Component
+@ConditionalOnProperty(name = "application.audit.payload.encoding", havingValue = "json", matchIfMissing = true)
+public class JsonAuditPayloadEncoder implements AuditPayloadEncoder {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter diffWriter;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonAuditPayloadEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.diffWriter = objectMapper.writerFor(new TypeReference<Map<String, AuditLogDTO.AuditFieldChange>>() {});
+    }
+
+    @Override
+    public AuditPayload encode(Object entity) {
+        ObjectWriter writer = writers.computeIfAbsent(entity.getClass(), objectMapper::writerFor);
+        try {
+            return AuditPayload.json(writer.writeValueAsString(entity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not encode audit payload of type " + entity.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public AuditPayload encodeDiff(Object before, Object after) {
+        try {
+            return AuditPayload.json(diffWriter.writeValueAsString(AuditFieldDiff.diff(before, after)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not encode audit diff", e);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which cache entries were derived from which entities so a mutation evicts only the entries
+ * it can affect, instead of clearing whole caches.
+ * <p>
+ * A cached method registers its entry (cache name and key) with the dependencies it was built from:
+ * entity tokens such as {@code task:42}, and list tokens for changes that alter a listing without
+ * touching any entity already in it (a new row, a reordering). Mutations invalidate the tokens they
+ * touch; invalidation evicts immediately and again after commit, so a reader that repopulated the
+ * entry from pre-commit state does not keep it.
+ * <p>
+ * Each node only knows the entries it computed itself, so invalidated tokens are also published on
+ * the {@link CacheInvalidationBus}; every other node evicts the entries it registered against them.
+ * With a {@link TwoLevelCacheManager} the dependencies are also stored in the shared level next to
+ * the value, and a node that reads the value from there registers them as well; an entry stays
+ * tracked as long as either level holds it.
+ */
+@Component
+public class CacheDependencyTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheDependencyTracker.class);
+
+    /** Cached list of projects without tasks; changes when a project loses its last task. */
+    public static final String PROJECTS_WITHOUT_TASKS = "projects:without-tasks";
+    /** Cached list of overdue projects; changes when a deadline or status changes. */
+    public static final String OVERDUE_PROJECTS = "projects:overdue";
+
+    record CachedEntry(String cacheName, Object key) {}
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<String, Set<CachedEntry>> entriesByDependency = new ConcurrentHashMap<>();
+    private final Map<CachedEntry, Collection<String>> dependenciesByEntry = new ConcurrentHashMap<>();
+
+    public CacheDependencyTracker(CacheManager cacheManager) {
+        this(cacheManager, (CacheInvalidationBus) null);
+    }
+
+    @Autowired
+    public CacheDependencyTracker(CacheManager cacheManager, ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        this(cacheManager, invalidationBus.getIfAvailable());
+    }
+
+    public CacheDependencyTracker(CacheManager cacheManager, CacheInvalidationBus invalidationBus) {
+        this.cacheManager = cacheManager;
+        this.invalidationBus = invalidationBus;
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            twoLevelCacheManager.onSharedHit(this::track);
+        }
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(invalidation -> {
+                if (invalidation.isDependencyInvalidation()) {
+                    evict(invalidation.dependencies());
+                }
+            });
+        }
+    }
+
+    public static String task(Long id) {
+        return "task:" + id;
+    }
+
+    public static String project(Long id) {
+        return "project:" + id;
+    }
+
+    public static String developer(Long id) {
+        return "developer:" + id;
+    }
+
+    /** Invalidated when rows are added to or removed from an entity's listing. */
+    public static String membership(String entityType) {
+        return entityType + ":*";
+    }
+
+    /** Invalidated when any row of an entity's listing changes in a way that can reorder it. */
+    public static String ordering(String entityType) {
+        return entityType + ":order";
+    }
+
+    /**
+     * Records that {@code cacheName[key]} was built from the given dependencies. Call from inside the
+     * cached method, which only runs on a miss; re-registering an entry replaces its dependencies.
+     */
+    public void register(String cacheName, Object key, Collection<String> dependencies) {
+        if (cacheManager.getCache(cacheName) instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.shareDependencies(key, dependencies);
+        }
+        track(cacheName, key, dependencies);
+    }
+
+    private void track(String cacheName, Object key, Collection<String> dependencies) {
+        CachedEntry entry = new CachedEntry(cacheName, key);
+        Collection<String> previous = dependenciesByEntry.put(entry, List.copyOf(dependencies));
+        if (previous != null) {
+            unlink(entry, previous);
+        }
+        for (String dependency : dependencies) {
+            entriesByDependency.computeIfAbsent(dependency, d -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+    }
+
+    public void invalidate(String... dependencies) {
+        invalidate(List.of(dependencies));
+    }
+
+    /**
+     * Evicts every entry registered against any of the dependencies, now and again after the current
+     * transaction commits.
+     */
+    public void invalidate(Collection<String> dependencies) {
+        List<String> snapshot = List.copyOf(dependencies);
+        evictEverywhere(snapshot);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(snapshot);
+                }
+            });
+        }
+    }
+
+    int trackedEntries() {
+        return dependenciesByEntry.size();
+    }
+
+    /**
+     * Drops index entries whose cache entry has already expired or been evicted by size from every
+     * level, so the index does not outgrow the caches. Reads the native map so cache statistics are
+     * unaffected.
+     */
+    @Scheduled(fixedDelayString = "${application.cache.dependency-prune-interval-ms:60000}")
+    public void prune() {
+        int pruned = 0;
+        for (Map.Entry<CachedEntry, Collection<String>> tracked : dependenciesByEntry.entrySet()) {
+            CachedEntry entry = tracked.getKey();
+            if (!isPresent(entry) && dependenciesByEntry.remove(entry, tracked.getValue())) {
+                unlink(entry, tracked.getValue());
+                pruned++;
+            }
+        }
+        if (pruned > 0) {
+            logger.debug("Pruned {} expired cache dependency entries", pruned);
+        }
+    }
+
+    private void evictEverywhere(List<String> dependencies) {
+        evict(dependencies);
+        if (invalidationBus != null) {
+            invalidationBus.publish(CacheInvalidation.dependencies(dependencies));
+        }
+    }
+
+    private void evict(Collection<String> dependencies) {
+        for (String dependency : dependencies) {
+            Set<CachedEntry> entries = entriesByDependency.remove(dependency);
+            if (entries == null) {
+                continue;
+            }
+            for (CachedEntry entry : entries) {
+                org.springframework.cache.Cache cache = cacheManager.getCache(entry.cacheName());
+                if (cache != null) {
+                    cache.evict(entry.key());
+                }
+                Collection<String> linked = dependenciesByEntry.remove(entry);
+                if (linked != null) {
+                    unlink(entry, linked);
+                }
+            }
+        }
+    }
+
+    private void unlink(CachedEntry entry, Collection<String> dependencies) {
+        for (String dependency : dependencies) {
+            entriesByDependency.computeIfPresent(dependency, (d, entries) -> {
+                entries.remove(entry);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    private boolean isPresent(CachedEntry entry) {
+        if (cacheManager.getCache(entry.cacheName()) instanceof CaffeineCache caffeineCache) {
+            Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            if (nativeCache.asMap().containsKey(entry.key())) {
+                return true;
+            }
+            // Still served to every node from the shared level, so an invalidation must still reach it.
+            return caffeineCache instanceof TwoLevelCache twoLevelCache && twoLevelCache.isShared(entry.key());
+        }
+        return true;
+    }
+}
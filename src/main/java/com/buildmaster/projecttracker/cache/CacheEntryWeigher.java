@@ -0,0 +1,102 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.data.domain.Page;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Approximates the retained size of a cached value in bytes so caches can be bounded by
+ * {@code maximumWeight} rather than entry count. Walks records, collections, maps and pages with
+ * rough per-object costs; it is an estimate for relative sizing, not an exact heap measurement.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_BYTES = 16;
+    private static final int REFERENCE_BYTES = 8;
+    private static final int MAX_DEPTH = 8;
+
+    private static final ClassValue<MethodHandle[]> RECORD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            MethodHandle[] accessors = new MethodHandle[components.length];
+            try {
+                for (int i = 0; i < components.length; i++) {
+                    Method accessor = components[i].getAccessor();
+                    accessor.setAccessible(true);
+                    accessors[i] = MethodHandles.lookup().unreflect(accessor);
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                return new MethodHandle[0];
+            }
+            return accessors;
+        }
+    };
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = estimate(key, 0) + estimate(value, 0);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, bytes));
+    }
+
+    static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return 40 + 2L * text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+            return OBJECT_BYTES;
+        }
+        if (value instanceof Temporal) {
+            return 24;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_BYTES;
+        }
+        if (value instanceof Page<?> page) {
+            return 64 + estimate(page.getContent(), depth + 1);
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 32;
+            for (Object element : collection) {
+                bytes += REFERENCE_BYTES + estimate(element, depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 48;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += 32 + estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return bytes;
+        }
+        if (value instanceof Object[] array) {
+            long bytes = OBJECT_BYTES;
+            for (Object element : array) {
+                bytes += REFERENCE_BYTES + estimate(element, depth + 1);
+            }
+            return bytes;
+        }
+        if (value.getClass().isRecord()) {
+            long bytes = OBJECT_BYTES;
+            for (MethodHandle accessor : RECORD_ACCESSORS.get(value.getClass())) {
+                try {
+                    bytes += REFERENCE_BYTES + estimate(accessor.invoke(value), depth + 1);
+                } catch (Throwable e) {
+                    bytes += REFERENCE_BYTES;
+                }
+            }
+            return bytes;
+        }
+        return 64;
+    }
+}
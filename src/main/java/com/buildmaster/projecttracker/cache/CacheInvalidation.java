@@ -0,0 +1,27 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.List;
+
+/**
+ * Cross-node cache invalidation message: either one cache entry ({@code key} set), a whole cache
+ * ({@code key} null), or a set of {@link CacheDependencyTracker} dependency tokens, which each node
+ * resolves against the entries it registered itself.
+ */
+public record CacheInvalidation(String cacheName, Object key, List<String> dependencies) {
+
+    public static CacheInvalidation evict(String cacheName, Object key) {
+        return new CacheInvalidation(cacheName, key, List.of());
+    }
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(cacheName, null, List.of());
+    }
+
+    public static CacheInvalidation dependencies(List<String> dependencies) {
+        return new CacheInvalidation(null, null, List.copyOf(dependencies));
+    }
+
+    public boolean isDependencyInvalidation() {
+        return cacheName == null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between application nodes. Implementations deliver a published
+ * message to the listeners of every other node, never back to the publishing node.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
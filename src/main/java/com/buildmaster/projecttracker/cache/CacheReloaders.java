@@ -0,0 +1,60 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Recompute functions for caches configured with {@code refreshAfterWrite}. Services register the
+ * uncached body of their {@code @Cacheable} method at startup; the cache then reloads hot keys in
+ * the background instead of every caller missing at once when an entry goes stale.
+ * <p>
+ * Loaders are looked up when a load or reload runs, so the cache manager can be built before the
+ * services that register them. Reloads run on Caffeine's executor, outside any caller's transaction,
+ * so each one runs in its own read-only transaction when a transaction manager is available.
+ */
+@Component
+public class CacheReloaders {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheReloaders.class);
+
+    private final Map<String, Function<Object, Object>> reloaders = new ConcurrentHashMap<>();
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    public CacheReloaders(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    public void register(String cacheName, Function<Object, Object> reloader) {
+        reloaders.put(cacheName, reloader);
+    }
+
+    /**
+     * Returns a loader for the cache. When nothing is registered the load yields null, which Spring
+     * treats as a miss and Caffeine treats as a removal on reload.
+     */
+    public CacheLoader<Object, Object> loaderFor(String cacheName) {
+        return key -> {
+            Function<Object, Object> reloader = reloaders.get(cacheName);
+            if (reloader == null) {
+                logger.debug("No reloader registered for cache {}", cacheName);
+                return null;
+            }
+            PlatformTransactionManager manager = transactionManager.getIfAvailable();
+            if (manager == null) {
+                return reloader.apply(key);
+            }
+            TransactionTemplate transaction = new TransactionTemplate(manager);
+            transaction.setReadOnly(true);
+            return transaction.execute(status -> reloader.apply(key));
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for a shared cache store: one bounded map per cache name, expiring entries
+ * after a fixed time so an entry whose dependencies nobody tracks any more cannot live forever.
+ * Shared between several cache managers in tests to simulate replicas.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private static final long MAX_ENTRIES_PER_CACHE = 10_000;
+
+    private final Duration timeToLive;
+    private final Map<String, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    public InMemorySharedCacheStore(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        return cache(cacheName).getIfPresent(key);
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        cache(cacheName).put(key, value);
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        cache(cacheName).invalidate(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        cache(cacheName).invalidateAll();
+    }
+
+    private Cache<Object, Object> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES_PER_CACHE)
+                .expireAfterWrite(timeToLive)
+                .build());
+    }
+}
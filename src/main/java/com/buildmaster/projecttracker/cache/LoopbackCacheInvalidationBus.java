@@ -0,0 +1,44 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process {@link CacheInvalidationBus}. A standalone instance is a network of one node, so
+ * publishing is a no-op; {@link #join()} adds another node to the same network, which lets tests
+ * run several cache managers side by side as if they were separate replicas.
+ */
+public class LoopbackCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<LoopbackCacheInvalidationBus> network;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public LoopbackCacheInvalidationBus() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private LoopbackCacheInvalidationBus(List<LoopbackCacheInvalidationBus> network) {
+        this.network = network;
+        network.add(this);
+    }
+
+    /** Returns a new node connected to the same in-process network. */
+    public LoopbackCacheInvalidationBus join() {
+        return new LoopbackCacheInvalidationBus(network);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (LoopbackCacheInvalidationBus node : network) {
+            if (node != this) {
+                node.listeners.forEach(listener -> listener.accept(invalidation));
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,19 @@
+package com.buildmaster.projecttracker.cache;
+
+/**
+ * Second-level cache shared by all application nodes, consulted when the local Caffeine cache
+ * misses. Values are Spring cache store values, so a cached null arrives as
+ * {@link org.springframework.cache.support.NullValue}; a remote implementation is responsible for
+ * serializing keys and values.
+ */
+public interface SharedCacheStore {
+
+    /** Returns the stored value, or null when the entry is absent. */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
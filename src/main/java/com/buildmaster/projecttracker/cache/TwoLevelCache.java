@@ -0,0 +1,147 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A Caffeine cache (L1) backed by a {@link SharedCacheStore} (L2). Reads hit L1 first and fall back
+ * to L2, copying the value into L1; writes go to both. Evictions remove the entry from both levels
+ * and tell the other nodes to drop their L1 copy. Remains a {@link CaffeineCache}, so statistics and
+ * metrics keep describing the local level.
+ * <p>
+ * The dependencies an entry was built from are stored in L2 next to its value, in a separate
+ * namespace; a node that takes a value from L2 hands them to its dependency tracker, so the entry is
+ * evicted when they are invalidated even if the node that computed it no longer tracks it.
+ */
+class TwoLevelCache extends CaffeineCache {
+
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final TwoLevelCacheManager.SharedHitListener sharedHits;
+    private final String dependencyNamespace;
+
+    TwoLevelCache(String name, Cache<Object, Object> localCache, boolean allowNullValues,
+                  SharedCacheStore sharedStore, CacheInvalidationBus invalidationBus,
+                  TwoLevelCacheManager.SharedHitListener sharedHits) {
+        super(name, localCache, allowNullValues);
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.sharedHits = sharedHits;
+        this.dependencyNamespace = name + ":dependencies";
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object local = getNativeCache().getIfPresent(key);
+        if (local != null) {
+            return local;
+        }
+        Object shared = sharedStore.get(getName(), key);
+        if (shared != null) {
+            retrack(key);
+            getNativeCache().put(key, shared);
+            return shared;
+        }
+        // Loading caches compute the value here; share it so other nodes do not compute it again.
+        Object loaded = super.lookup(key);
+        if (loaded != null) {
+            sharedStore.put(getName(), key, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> {
+            Object shared = sharedStore.get(getName(), key);
+            if (shared != null) {
+                retrack(key);
+                return (T) fromStoreValue(shared);
+            }
+            T value = valueLoader.call();
+            sharedStore.put(getName(), key, toStoreValue(value));
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        sharedStore.put(getName(), key, toStoreValue(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            sharedStore.put(getName(), key, toStoreValue(value));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        sharedStore.evict(getName(), key);
+        sharedStore.evict(dependencyNamespace, key);
+        invalidationBus.publish(CacheInvalidation.evict(getName(), key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        sharedStore.evict(getName(), key);
+        sharedStore.evict(dependencyNamespace, key);
+        invalidationBus.publish(CacheInvalidation.evict(getName(), key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        sharedStore.clear(getName());
+        sharedStore.clear(dependencyNamespace);
+        invalidationBus.publish(CacheInvalidation.clear(getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = super.invalidate();
+        sharedStore.clear(getName());
+        sharedStore.clear(dependencyNamespace);
+        invalidationBus.publish(CacheInvalidation.clear(getName()));
+        return present;
+    }
+
+    /** Stores the dependencies {@code key} was built from next to its shared value. */
+    void shareDependencies(Object key, Collection<String> dependencies) {
+        sharedStore.put(dependencyNamespace, key, List.copyOf(dependencies));
+    }
+
+    /** Whether the shared level still holds {@code key}, whatever the local level has dropped. */
+    boolean isShared(Object key) {
+        return sharedStore.get(getName(), key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void retrack(Object key) {
+        Object dependencies = sharedStore.get(dependencyNamespace, key);
+        if (dependencies != null) {
+            sharedHits.onSharedHit(getName(), key, (Collection<String>) dependencies);
+        }
+    }
+
+    /** Applies an invalidation published by another node; L2 was already updated there. */
+    void invalidateLocal(Object key) {
+        if (key == null) {
+            getNativeCache().invalidateAll();
+        } else {
+            getNativeCache().invalidate(key);
+        }
+    }
+}
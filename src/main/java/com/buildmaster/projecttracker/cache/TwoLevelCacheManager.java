@@ -0,0 +1,54 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collection;
+
+/**
+ * {@link CaffeineCacheManager} whose caches are {@link TwoLevelCache}s: the Caffeine cache built
+ * for each name is the local level, the {@link SharedCacheStore} the shared one. Entry and cache
+ * invalidations from other nodes arriving on the {@link CacheInvalidationBus} drop the local copy.
+ */
+public class TwoLevelCacheManager extends CaffeineCacheManager {
+
+    /** Told about the dependencies stored next to a value this node read from the shared level. */
+    interface SharedHitListener {
+        void onSharedHit(String cacheName, Object key, Collection<String> dependencies);
+    }
+
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private volatile SharedHitListener sharedHitListener;
+
+    public TwoLevelCacheManager(SharedCacheStore sharedStore, CacheInvalidationBus invalidationBus) {
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+        return new TwoLevelCache(name, cache, isAllowNullValues(), sharedStore, invalidationBus, this::sharedHit);
+    }
+
+    void onSharedHit(SharedHitListener listener) {
+        this.sharedHitListener = listener;
+    }
+
+    private void sharedHit(String cacheName, Object key, Collection<String> dependencies) {
+        SharedHitListener listener = sharedHitListener;
+        if (listener != null) {
+            listener.onSharedHit(cacheName, key, dependencies);
+        }
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.isDependencyInvalidation()) {
+            return;
+        }
+        if (getCache(invalidation.cacheName()) instanceof TwoLevelCache cache) {
+            cache.invalidateLocal(invalidation.key());
+        }
+    }
+}
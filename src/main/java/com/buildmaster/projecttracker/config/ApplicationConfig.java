@@ -1,13 +1,18 @@
 package com.buildmaster.projecttracker.config;
 
+import com.buildmaster.projecttracker.model.User;
 import com.buildmaster.projecttracker.repository.UserRepository;
+import com.buildmaster.projecttracker.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -18,6 +23,16 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class ApplicationConfig {
 
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+    @Value("${application.security.password.hashing-threads:0}")
+    private int hashingThreads;
+    @Value("${application.security.password.hashing-queue-capacity:64}")
+    private int hashingQueueCapacity;
+    @Value("${application.security.password.hashing-max-wait-ms:2000}")
+    private long hashingMaxWaitMs;
 
     @Bean
     public UserDetailsService userDetailsService() {
@@ -30,9 +45,24 @@ public class ApplicationConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authProvider;
     }
 
+    /**
+     * Stores the re-hashed password when a successful login finds the stored hash weaker than the
+     * configured bcrypt strength.
+     */
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (userDetails, newPassword) -> {
+            User user = userRepository.findByEmail(userDetails.getUsername())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+            user.setPassword(newPassword);
+            return userRepository.save(user);
+        };
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
@@ -40,6 +70,8 @@ public class ApplicationConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads,
+                hashingQueueCapacity, hashingMaxWaitMs, meterRegistry);
     }
 }
\ No newline at end of file
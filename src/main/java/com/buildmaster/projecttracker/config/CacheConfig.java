@@ -1,41 +1,97 @@
 package com.buildmaster.projecttracker.config;
 
+import com.buildmaster.projecttracker.cache.CacheEntryWeigher;
+import com.buildmaster.projecttracker.cache.CacheInvalidationBus;
+import com.buildmaster.projecttracker.cache.CacheReloaders;
+import com.buildmaster.projecttracker.cache.InMemorySharedCacheStore;
+import com.buildmaster.projecttracker.cache.LoopbackCacheInvalidationBus;
+import com.buildmaster.projecttracker.cache.SharedCacheStore;
+import com.buildmaster.projecttracker.cache.TwoLevelCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
+/**
+ * One Caffeine cache per name, each built from its own spec:
+ * {@code application.cache.spec.<name>} in {@link CaffeineSpec} syntax, falling back to
+ * {@code application.cache.default-spec}. A spec with {@code maximumWeight} is bounded by the
+ * estimated size of its entries in bytes; a spec with {@code refreshAfterWrite} reloads stale
+ * entries in the background through {@link CacheReloaders}. Statistics are always recorded so the
+ * per-cache metrics are published.
+ * <p>
+ * With {@code application.cache.l2.enabled=true} each Caffeine cache becomes the local level of a
+ * two-level cache over a {@link SharedCacheStore}, and evictions are broadcast to the other replicas
+ * on the {@link CacheInvalidationBus}. The defaults are in-process stand-ins; a deployment with
+ * several replicas provides networked beans of both types, which replace them.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    static final List<String> CACHE_NAMES = List.of(
+            "projects",
+            "allProjects",
+            "overdueProjects",
+            "projectsWithoutTasks",
+
+            "developers",
+            "allDevelopers",
+
+            "tasks",
+            "allTasks",
+            "projectTasks",
+            "developerTasks");
+
+    static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=10m";
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "projects",
-                "allProjects",
-                "overdueProjects",
-                "projectsWithoutTasks",
-
-                "developers",
-                "allDevelopers",
-                "topDevelopers",
-
-                "tasks",
-                "allTasks",
-                "projectTasks",
-                "developerTasks",
-                "overdueTasks",
-                "taskCounts" );
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .recordStats());
+    @ConditionalOnMissingBean
+    public SharedCacheStore sharedCacheStore(@Value("${application.cache.l2.time-to-live:10m}") Duration timeToLive) {
+        return new InMemorySharedCacheStore(timeToLive);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new LoopbackCacheInvalidationBus();
+    }
+
+    @Bean
+    public CacheManager cacheManager(Environment environment, CacheReloaders cacheReloaders,
+                                     SharedCacheStore sharedCacheStore, CacheInvalidationBus cacheInvalidationBus) {
+        CaffeineCacheManager cacheManager = environment.getProperty("application.cache.l2.enabled", Boolean.class, false)
+                ? new TwoLevelCacheManager(sharedCacheStore, cacheInvalidationBus)
+                : new CaffeineCacheManager();
+        String defaultSpec = environment.getProperty("application.cache.default-spec", DEFAULT_SPEC);
+        CacheEntryWeigher weigher = new CacheEntryWeigher();
+        for (String name : CACHE_NAMES) {
+            String spec = environment.getProperty("application.cache.spec." + name, defaultSpec);
+            cacheManager.registerCustomCache(name, buildCache(name, spec, weigher, cacheReloaders));
+        }
+        // No further names: an unknown cache is a programming error, not a new unbounded cache.
+        cacheManager.setCacheNames(List.of());
         return cacheManager;
     }
 
+    static Cache<Object, Object> buildCache(String name, String spec, CacheEntryWeigher weigher, CacheReloaders cacheReloaders) {
+        Caffeine<Object, Object> builder = Caffeine.from(CaffeineSpec.parse(spec)).recordStats();
+        if (spec.contains("maximumWeight")) {
+            builder.weigher(weigher);
+        }
+        if (spec.contains("refreshAfterWrite")) {
+            return builder.build(cacheReloaders.loaderFor(name));
+        }
+        return builder.build();
+    }
 }
@@ -5,6 +5,7 @@ import com.buildmaster.projecttracker.security.JwtAuthenticationFilter;
 import com.buildmaster.projecttracker.service.CustomOAuth2UserService;
 import com.buildmaster.projecttracker.util.CustomAuthenticationSuccessHandler;
 import com.buildmaster.projecttracker.util.HttpCookieOAuth2AuthorizationRequestRepository;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -46,6 +47,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> {
+                    // Async dispatches continue a request that was authorized on its way in; with
+                    // stateless sessions they carry no authentication of their own (SSE, streaming).
+                    authorize.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     authorize.requestMatchers(
                             "/auth/**",
                             "/error"
@@ -64,7 +68,8 @@ public class SecurityConfig {
                     authorize.requestMatchers("/api/v1/projects/**").permitAll();
                     authorize.requestMatchers("/api/v1/tasks/**").hasAnyRole("ADMIN","DEVELOPER", "MANAGER");
                     authorize.requestMatchers("/api/v1/developers/**").hasAnyRole("ADMIN","DEVELOPER","MANAGER");
-                    authorize.requestMatchers("/api/v1/logs").hasAnyRole("ADMIN");
+                    authorize.requestMatchers("/api/v1/search/**").hasAnyRole("ADMIN","DEVELOPER","MANAGER");
+                    authorize.requestMatchers("/api/v1/logs/**").hasAnyRole("ADMIN");
                     authorize.requestMatchers("/actuator/**").permitAll();
                     authorize.requestMatchers("/api/v1/notifications/**").authenticated();
                 })
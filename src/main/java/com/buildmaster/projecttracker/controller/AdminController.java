@@ -1,6 +1,7 @@
 package com.buildmaster.projecttracker.controller;
 
 import com.buildmaster.projecttracker.dto.AuthDTO;
+import com.buildmaster.projecttracker.dto.CacheDTO;
 import com.buildmaster.projecttracker.model.User;
 import com.buildmaster.projecttracker.repository.UserRepository;
 import com.buildmaster.projecttracker.service.AdminService;
@@ -42,4 +43,11 @@ public class AdminController {
         adminService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Get hit/miss statistics for each cache (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheDTO.CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(adminService.getCacheStats());
+    }
+}
@@ -1,40 +1,93 @@
 package com.buildmaster.projecttracker.controller;
 
 import com.buildmaster.projecttracker.dto.AuditLogDTO;
+import com.buildmaster.projecttracker.dto.CustomApiResponse;
+import com.buildmaster.projecttracker.enums.ActionType;
 import com.buildmaster.projecttracker.enums.EntityType;
 import com.buildmaster.projecttracker.service.AuditLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+@Tag(name = "Audit Logs", description = "Read access to the audit trail")
 @RestController
 @RequestMapping("/api/v1/logs")
 @RequiredArgsConstructor
 public class AuditLogController {
     private final AuditLogService auditLogService;
 
+    @Operation(summary = "Get audit logs page by page, newest first",
+            parameters = {
+                    @Parameter(name = "cursor", description = "nextCursor returned by the previous page; omit for the first page"),
+                    @Parameter(name = "limit", description = "Maximum number of records per page (capped at 500)", example = "50"),
+                    @Parameter(name = "from", description = "Inclusive lower bound on timestamp", example = "2025-01-01T00:00:00"),
+                    @Parameter(name = "to", description = "Exclusive upper bound on timestamp", example = "2025-02-01T00:00:00")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved audit logs"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            })
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public ResponseEntity<List<AuditLogDTO.AuditLogResponse>> getAuditLogs(
+    public ResponseEntity<CustomApiResponse<AuditLogDTO.AuditLogPage>> getAuditLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam(required = false) EntityType entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String actorName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        AuditLogDTO.AuditLogFilter filter = new AuditLogDTO.AuditLogFilter(from, to, actionType, entityType, entityId, actorName);
+        return ResponseEntity.ok(CustomApiResponse.success(auditLogService.getLogs(filter, cursor, limit)));
+    }
+
+    @Operation(summary = "Export matching audit logs as newline-delimited JSON",
+            responses = @ApiResponse(responseCode = "200", description = "Audit logs streamed as NDJSON"))
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam(required = false) EntityType entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String actorName) {
+
+        AuditLogDTO.AuditLogFilter filter = new AuditLogDTO.AuditLogFilter(from, to, actionType, entityType, entityId, actorName);
+        StreamingResponseBody body = outputStream -> auditLogService.exportLogs(filter, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Get hourly audit event counts per entity type, action and actor",
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved audit rollups"))
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/rollups")
+    public ResponseEntity<CustomApiResponse<List<AuditLogDTO.AuditRollupResponse>>> getAuditRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) ActionType actionType,
             @RequestParam(required = false) EntityType entityType,
             @RequestParam(required = false) String actorName) {
 
-        List<AuditLogDTO.AuditLogResponse> logs;
-        if (entityType != null && actorName != null) {
-            logs = auditLogService.getLogsByEntityTypeAndActorName(entityType, actorName);
-        } else if (entityType != null) {
-            logs = auditLogService.getLogsByEntityType(entityType);
-        } else if (actorName != null) {
-            logs = auditLogService.getLogsByActorName(actorName);
-        } else {
-            return ResponseEntity.badRequest().build();
-        }
-        return ResponseEntity.ok(logs);
+        AuditLogDTO.AuditLogFilter filter = new AuditLogDTO.AuditLogFilter(from, to, actionType, entityType, null, actorName);
+        return ResponseEntity.ok(CustomApiResponse.success(auditLogService.getRollups(filter)));
     }
 }
@@ -2,6 +2,7 @@ package com.buildmaster.projecttracker.controller;
 
 import com.buildmaster.projecttracker.dto.CustomApiResponse;
 import com.buildmaster.projecttracker.dto.DeveloperDTO;
+import com.buildmaster.projecttracker.enums.SkillMatchMode;
 import com.buildmaster.projecttracker.service.DeveloperService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -97,4 +98,43 @@ public class DeveloperController {
         CustomApiResponse<List<DeveloperDTO.DeveloperSummaryResponse>> developers = developerService.getTop5DevelopersWithMostTasks();
         return ResponseEntity.status(HttpStatus.OK).body(developers);
     }
+
+    @Operation(summary = "Find developers by skills, fewest open tasks first",
+            parameters = {
+                    @Parameter(name = "skills", description = "Skills to match, case-insensitive", example = "java,spring"),
+                    @Parameter(name = "match", description = "ALL to require every skill, ANY for at least one", example = "ALL"),
+                    @Parameter(name = "limit", description = "Number of developers to return (capped at 100)", example = "20")
+            },
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved matching developers"))
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/search")
+    public ResponseEntity<CustomApiResponse<List<DeveloperDTO.SkillMatch>>> searchBySkills(
+            @RequestParam List<String> skills,
+            @RequestParam(defaultValue = "ALL") SkillMatchMode match,
+            @RequestParam(defaultValue = "20") int limit) {
+        CustomApiResponse<List<DeveloperDTO.SkillMatch>> developers = developerService.searchBySkills(skills, match, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(developers);
+    }
+
+    @Operation(summary = "Get developers ranked by assigned tasks",
+            parameters = @Parameter(name = "limit", description = "Number of developers to return (capped at 100)", example = "10"),
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved the leaderboard"))
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/leaderboard")
+    public ResponseEntity<CustomApiResponse<List<DeveloperDTO.LeaderboardEntry>>> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        CustomApiResponse<List<DeveloperDTO.LeaderboardEntry>> leaderboard = developerService.getLeaderboard(limit);
+        return ResponseEntity.status(HttpStatus.OK).body(leaderboard);
+    }
+
+    @Operation(summary = "Get a developer's rank by assigned tasks",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved the developer's rank"),
+                    @ApiResponse(responseCode = "404", description = "Developer not found")
+            })
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/leaderboard/{id}")
+    public ResponseEntity<CustomApiResponse<DeveloperDTO.LeaderboardEntry>> getLeaderboardEntry(@PathVariable Long id) {
+        CustomApiResponse<DeveloperDTO.LeaderboardEntry> entry = developerService.getLeaderboardEntry(id);
+        return ResponseEntity.status(HttpStatus.OK).body(entry);
+    }
 }
@@ -1,15 +1,20 @@
 package com.buildmaster.projecttracker.controller;
 
+import com.buildmaster.projecttracker.dto.NotificationDTO;
 import com.buildmaster.projecttracker.model.Notification;
 import com.buildmaster.projecttracker.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/v1/notifications")
@@ -19,25 +24,56 @@ public class NotificationController {
 
     private final NotificationService notificationService;
 
-    @Operation(summary = "Get all notifications for the authenticated user (most recent first)", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "Get the authenticated user's notifications page by page, most recent first", security = @SecurityRequirement(name = "bearerAuth"),
+            parameters = {
+                    @Parameter(name = "cursor", description = "nextCursor returned by the previous page; omit for the first page"),
+                    @Parameter(name = "limit", description = "Maximum number of notifications per page (capped at 200)", example = "50")
+            })
     @GetMapping
-    public ResponseEntity<List<Notification>> getAllNotificationsForCurrentUser() {
-        List<Notification> notifications = notificationService.getNotificationsForUser();
-        return ResponseEntity.ok(notifications);
+    public ResponseEntity<NotificationDTO.NotificationPage> getAllNotificationsForCurrentUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(notificationService.getInbox(false, cursor, limit));
     }
 
-    @Operation(summary = "Get unread notifications for the authenticated user (most recent first)", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "Get the authenticated user's unread notifications page by page, most recent first", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/unread")
-    public ResponseEntity<List<Notification>> getUnreadNotificationsForCurrentUser() {
-        List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser();
-        return ResponseEntity.ok(unreadNotifications);
+    public ResponseEntity<NotificationDTO.NotificationPage> getUnreadNotificationsForCurrentUser(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(notificationService.getInbox(true, cursor, limit));
+    }
+
+    @Operation(summary = "Stream the authenticated user's new notifications as server-sent events", security = @SecurityRequirement(name = "bearerAuth"),
+            parameters = @Parameter(name = "Last-Event-ID", description = "Id of the last notification received; the ones created after it are sent first"))
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationService.openStream(lastEventId);
+    }
+
+    @Operation(summary = "Get the number of unread notifications for the authenticated user", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/unread/count")
+    public ResponseEntity<NotificationDTO.UnreadCount> getUnreadCount() {
+        return ResponseEntity.ok(notificationService.getUnreadCount());
+    }
+
+    @Operation(summary = "Mark all unread notifications as read, or only those in [from, to)", security = @SecurityRequirement(name = "bearerAuth"),
+            parameters = {
+                    @Parameter(name = "from", description = "Inclusive lower bound on timestamp", example = "2025-01-01T00:00:00"),
+                    @Parameter(name = "to", description = "Exclusive upper bound on timestamp", example = "2025-02-01T00:00:00")
+            })
+    @PatchMapping("/read")
+    public ResponseEntity<NotificationDTO.MarkReadResult> markAllNotificationsAsRead(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(notificationService.markAllAsRead(from, to));
     }
 
     @Operation(summary = "Mark a specific notification as read", security = @SecurityRequirement(name = "bearerAuth"))
     @PatchMapping("/{id}/read")
-    public ResponseEntity<Notification> markNotificationAsRead(@PathVariable String id) {
+    public ResponseEntity<NotificationDTO.NotificationResponse> markNotificationAsRead(@PathVariable String id) {
         Notification updatedNotification = notificationService.markNotificationAsRead(id);
-        return ResponseEntity.ok(updatedNotification);
+        return ResponseEntity.ok(NotificationDTO.NotificationResponse.from(updatedNotification));
     }
 
     @Operation(summary = "Delete a specific notification", security = @SecurityRequirement(name = "bearerAuth"))
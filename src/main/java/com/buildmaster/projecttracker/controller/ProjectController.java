@@ -1,7 +1,9 @@
 package com.buildmaster.projecttracker.controller;
 
 import com.buildmaster.projecttracker.dto.CustomApiResponse;
+import com.buildmaster.projecttracker.dto.NotificationDTO;
 import com.buildmaster.projecttracker.dto.ProjectDTO;
+import com.buildmaster.projecttracker.service.NotificationFanoutService;
 import com.buildmaster.projecttracker.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,9 +28,11 @@ import java.util.List;
 @Tag(name = "Project Management", description = "Operations related to projects")
 public class ProjectController {
     private final ProjectService projectService;
+    private final NotificationFanoutService notificationFanoutService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, NotificationFanoutService notificationFanoutService) {
         this.projectService = projectService;
+        this.notificationFanoutService = notificationFanoutService;
     }
 
     @Operation(summary = "Get all projects with pagination and sorting",
@@ -96,6 +100,18 @@ public class ProjectController {
     }
 
 
+    @Operation(summary = "Notify every developer assigned to a task in the project",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Broadcast accepted; notifications are written in the background"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            })
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @PostMapping("/{id}/broadcast")
+    public ResponseEntity<CustomApiResponse<NotificationDTO.BroadcastResult>> broadcastToProject(@PathVariable Long id, @Valid @RequestBody NotificationDTO.BroadcastRequest request) {
+        NotificationDTO.BroadcastResult result = notificationFanoutService.broadcastToProject(id, request.message());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CustomApiResponse.success("Broadcast accepted", result));
+    }
+
     @Operation(summary = "Get projects without any assigned tasks",
             responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved list of projects without tasks"))
     @PreAuthorize("isAuthenticated()")
@@ -0,0 +1,59 @@
+package com.buildmaster.projecttracker.controller;
+
+import com.buildmaster.projecttracker.dto.CustomApiResponse;
+import com.buildmaster.projecttracker.dto.SearchDTO;
+import com.buildmaster.projecttracker.enums.SearchType;
+import com.buildmaster.projecttracker.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Tag(name = "Search", description = "Full-text search over tasks and projects")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "Search tasks and projects by text, best matches first",
+            parameters = {
+                    @Parameter(name = "q", description = "Words that must all match the title or description; \"quoted phrase\", prefix*", example = "\"login page\" auth*"),
+                    @Parameter(name = "type", description = "Only tasks or only projects", example = "TASK"),
+                    @Parameter(name = "status", description = "Task or project status", example = "IN_PROGRESS"),
+                    @Parameter(name = "from", description = "Inclusive lower bound on task due date or project deadline", example = "2025-01-01"),
+                    @Parameter(name = "to", description = "Inclusive upper bound on task due date or project deadline", example = "2025-12-31"),
+                    @Parameter(name = "cursor", description = "nextCursor returned by the previous page; omit for the first page"),
+                    @Parameter(name = "limit", description = "Maximum number of results per page (capped at 100)", example = "20")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved matching tasks and projects"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            })
+    @PreAuthorize("hasAnyRole('ADMIN', 'DEVELOPER', 'MANAGER')")
+    @GetMapping
+    public ResponseEntity<CustomApiResponse<SearchDTO.SearchPage>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) SearchType type,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CustomApiResponse<SearchDTO.SearchPage> results = searchService.search(
+                new SearchDTO.SearchRequest(q, type, status, from, to), cursor, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(results);
+    }
+}
@@ -2,6 +2,7 @@ package com.buildmaster.projecttracker.controller;
 
 import com.buildmaster.projecttracker.dto.CustomApiResponse;
 import com.buildmaster.projecttracker.dto.TaskDTO;
+import com.buildmaster.projecttracker.enums.TaskSortKey;
 import com.buildmaster.projecttracker.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,6 +41,28 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.OK).body(tasks);
     }
 
+    @Operation(summary = "Get tasks page by page using a keyset cursor",
+            parameters = {
+                    @Parameter(name = "size", description = "Number of records per page (capped at 200)", example = "20"),
+                    @Parameter(name = "sort", description = "Keyset order: ID or DUE_DATE", example = "DUE_DATE"),
+                    @Parameter(name = "cursor", description = "nextCursor returned by the previous page; omit for the first page"),
+                    @Parameter(name = "includeTotal", description = "Also count all tasks; costs an extra query", example = "false")
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            })
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/keyset")
+    public ResponseEntity<CustomApiResponse<TaskDTO.TaskKeysetPage>> getTasksKeyset(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "ID") TaskSortKey sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CustomApiResponse<TaskDTO.TaskKeysetPage> tasks = taskService.getTasksKeyset(sort, cursor, size, includeTotal);
+        return ResponseEntity.status(HttpStatus.OK).body(tasks);
+    }
+
     @Operation(summary = "Create a new task",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Task created successfully"),
@@ -53,6 +76,32 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @Operation(summary = "Create many tasks in one request",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Tasks created successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid task data"),
+                    @ApiResponse(responseCode = "404", description = "Project or Developer not found")
+            })
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @PostMapping("/bulk")
+    public ResponseEntity<CustomApiResponse<TaskDTO.TaskBulkResponse>> createTasks(@Valid @RequestBody TaskDTO.TaskBulkCreateRequest request) {
+        CustomApiResponse<TaskDTO.TaskBulkResponse> createdTasks = taskService.createTasks(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdTasks);
+    }
+
+    @Operation(summary = "Update the status of many tasks in one request",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Task statuses updated successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid status data"),
+                    @ApiResponse(responseCode = "404", description = "One or more tasks not found")
+            })
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @PatchMapping("/status")
+    public ResponseEntity<CustomApiResponse<TaskDTO.TaskBulkResponse>> updateTaskStatuses(@Valid @RequestBody TaskDTO.TaskBulkStatusRequest request) {
+        CustomApiResponse<TaskDTO.TaskBulkResponse> updatedTasks = taskService.updateTaskStatuses(request);
+        return ResponseEntity.status(HttpStatus.OK).body(updatedTasks);
+    }
+
     @Operation(summary = "Get a task by ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Task found"),
@@ -131,11 +180,17 @@ public class TaskController {
     }
 
     @Operation(summary = "Get task counts grouped by status",
+            parameters = {
+                    @Parameter(name = "projectId", description = "Only count tasks of this project"),
+                    @Parameter(name = "developerId", description = "Only count tasks assigned to this developer; ignored when projectId is set")
+            },
             responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved task counts by status"))
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/counts-by-status")
-    public ResponseEntity<CustomApiResponse<List<Object[]>>> getTaskCountsByStatus() {
-        CustomApiResponse<List<Object[]>> counts = taskService.getTaskCountsByStatus();
+    public ResponseEntity<CustomApiResponse<List<Object[]>>> getTaskCountsByStatus(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long developerId) {
+        CustomApiResponse<List<Object[]>> counts = taskService.getTaskCountsByStatus(projectId, developerId);
         return ResponseEntity.status(HttpStatus.OK).body(counts);
     }
 }
@@ -2,10 +2,16 @@ package com.buildmaster.projecttracker.dto;
 
 import com.buildmaster.projecttracker.enums.ActionType;
 import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.model.Developer;
+import com.buildmaster.projecttracker.model.Project;
 import com.buildmaster.projecttracker.model.Task;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 public class AuditLogDTO {
     public record AuditLogResponse(
@@ -18,10 +24,78 @@ public class AuditLogDTO {
             String payload
     ) {}
 
+    public record AuditLogFilter(
+            LocalDateTime from,
+            LocalDateTime to,
+            ActionType actionType,
+            EntityType entityType,
+            String entityId,
+            String actorName
+    ) {}
+
+    public record AuditLogPage(
+            List<AuditLogResponse> items,
+            String nextCursor
+    ) {}
+
+    public record AuditRollupResponse(
+            LocalDateTime hour,
+            EntityType entityType,
+            ActionType actionType,
+            String actorName,
+            long count
+    ) {}
+
+    public record AuditChange(
+            String entityId,
+            Object before,
+            Object after
+    ) {}
+
+    public record AuditFieldChange(
+            Object before,
+            Object after
+    ) {}
+
+    public record AuditProjectInfo(
+            Long id,
+            String name,
+            String description,
+            LocalDate deadline,
+            ProjectStatus status
+    ) {
+        public static AuditProjectInfo from(Project project) {
+            return new AuditProjectInfo(
+                    project.getId(),
+                    project.getName(),
+                    project.getDescription(),
+                    project.getDeadLine(),
+                    project.getStatus()
+            );
+        }
+    }
+
+    public record AuditDeveloperInfo(
+            Long id,
+            String name,
+            String email,
+            Set<String> skills
+    ) {
+        public static AuditDeveloperInfo from(Developer developer) {
+            return new AuditDeveloperInfo(
+                    developer.getId(),
+                    developer.getName(),
+                    developer.getEmail(),
+                    Set.copyOf(developer.getSkills())
+            );
+        }
+    }
+
     public record AuditTaskInfo(
             Long id,
             String title,
             String description,
+            TaskStatus status,
             LocalDate dueDate,
             Long projectId,
             String projectName,
@@ -33,6 +107,7 @@ public class AuditLogDTO {
                     task.getId(),
                     task.getTitle(),
                     task.getDescription(),
+                    task.getStatus(),
                     task.getDueDate(),
                     task.getProject() != null ? task.getProject().getId() : null,
                     task.getProject() != null ? task.getProject().getName() : null,
@@ -0,0 +1,12 @@
+package com.buildmaster.projecttracker.dto;
+
+public class CacheDTO {
+    public record CacheStatsResponse(
+            String name,
+            long size,
+            long hitCount,
+            long missCount,
+            double hitRate,
+            long evictionCount
+    ) {}
+}
@@ -33,4 +33,32 @@ public class DeveloperDTO {
             String name,
             String email
     ) {}
+
+    public record DeveloperTaskCount(
+            Long id,
+            String name,
+            String email,
+            long taskCount
+    ) {}
+
+    public record LeaderboardEntry(
+            long rank,
+            Long id,
+            String name,
+            String email,
+            long taskCount
+    ) {}
+
+    public record DeveloperSkill(
+            Long developerId,
+            String skill
+    ) {}
+
+    public record SkillMatch(
+            Long id,
+            String name,
+            String email,
+            Set<String> skills,
+            long openTasks
+    ) {}
 }
@@ -0,0 +1,54 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.model.Notification;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class NotificationDTO {
+
+    /** A notification as clients see it, without delivery internals such as the idempotency key. */
+    public record NotificationResponse(
+            String id,
+            String recipientEmail,
+            String message,
+            String notificationType,
+            boolean read,
+            LocalDateTime timestamp,
+            LocalDateTime readAt,
+            Long entityId,
+            String entityType
+    ) {
+        public static NotificationResponse from(Notification notification) {
+            return new NotificationResponse(notification.getId(), notification.getRecipientEmail(), notification.getMessage(),
+                    notification.getNotificationType(), notification.isRead(), notification.getTimestamp(),
+                    notification.getReadAt(), notification.getEntityId(), notification.getEntityType());
+        }
+    }
+
+    public record NotificationPage(
+            List<NotificationResponse> items,
+            String nextCursor
+    ) {}
+
+    public record UnreadCount(
+            long unread
+    ) {}
+
+    public record MarkReadResult(
+            long updated
+    ) {}
+
+    public record BroadcastRequest(
+            @NotBlank(message = "Message cannot be blank")
+            @Size(max = 1000, message = "Message cannot exceed 1000 characters")
+            String message
+    ) {}
+
+    public record BroadcastResult(
+            String broadcastId,
+            int recipients
+    ) {}
+}
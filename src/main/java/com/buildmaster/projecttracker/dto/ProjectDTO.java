@@ -1,6 +1,7 @@
 package com.buildmaster.projecttracker.dto;
 
 import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -40,6 +41,14 @@ public class ProjectDTO {
             Set<TaskDTO.TaskSummaryResponse> tasks
     ) {}
 
+    public record ProjectTaskSummary(
+            Long projectId,
+            Long id,
+            String title,
+            TaskStatus status,
+            LocalDate dueDate
+    ) {}
+
     public record ProjectSummaryResponse(
             Long id,
             String name,
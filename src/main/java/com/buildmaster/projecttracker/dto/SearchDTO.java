@@ -0,0 +1,56 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.SearchType;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SearchDTO {
+    /**
+     * Full-text query plus optional filters. {@code status} is matched against the task or project
+     * status name; {@code from} and {@code to} bound the due date of tasks and the deadline of
+     * projects, inclusive.
+     */
+    public record SearchRequest(
+            String query,
+            SearchType type,
+            String status,
+            LocalDate from,
+            LocalDate to
+    ) {}
+
+    public record SearchHit(
+            SearchType type,
+            Long id,
+            String title,
+            String status,
+            LocalDate date,
+            Long projectId,
+            float score
+    ) {}
+
+    public record SearchPage(
+            List<SearchHit> items,
+            String nextCursor
+    ) {}
+
+    /** The indexed fields of a task, as projected for the index rebuild. */
+    public record IndexedTask(
+            Long id,
+            String title,
+            String description,
+            TaskStatus status,
+            LocalDate dueDate,
+            Long projectId
+    ) {}
+
+    public record IndexedProject(
+            Long id,
+            String name,
+            String description,
+            ProjectStatus status,
+            LocalDate deadline
+    ) {}
+}
@@ -1,13 +1,18 @@
 package com.buildmaster.projecttracker.dto;
 
+import com.buildmaster.projecttracker.enums.ProjectStatus;
 import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.model.Task;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 
 public class TaskDTO {
@@ -41,6 +46,30 @@ public class TaskDTO {
             TaskStatus status
     ) {}
 
+    public record TaskBulkCreateRequest(
+            @NotEmpty(message = "At least one task is required")
+            @Size(max = 5000, message = "At most 5000 tasks can be created per request")
+            List<@Valid TaskRequest> tasks
+    ) {}
+
+    public record TaskStatusChange(
+            @NotNull(message = "Task ID is required")
+            Long id,
+            @NotNull(message = "Status is required")
+            TaskStatus status
+    ) {}
+
+    public record TaskBulkStatusRequest(
+            @NotEmpty(message = "At least one status change is required")
+            @Size(max = 5000, message = "At most 5000 tasks can be updated per request")
+            List<@Valid TaskStatusChange> updates
+    ) {}
+
+    public record TaskBulkResponse(
+            int count,
+            List<Long> ids
+    ) {}
+
     public record TaskResponse(
             Long id,
             String title,
@@ -52,8 +81,49 @@ public class TaskDTO {
             LocalDateTime updatedAt,
             DeveloperDTO.DeveloperSummaryResponse assignedDeveloper,
             ProjectDTO.ProjectSummaryResponse project
+    ) {
+        /**
+         * Flat constructor for JPQL constructor expressions, so a listing can be projected
+         * straight from one joined row without loading the task, project or developer entities.
+         */
+        public TaskResponse(Long id, String title, String description, TaskStatus status, LocalDate dueDate,
+                            LocalDateTime createdAt, LocalDateTime updatedAt,
+                            Long developerId, String developerName, String developerEmail,
+                            Long projectId, String projectName, LocalDate projectDeadline, ProjectStatus projectStatus) {
+            this(id, title, description, status, dueDate,
+                    dueDate != null && dueDate.isBefore(LocalDate.now()) && status != TaskStatus.COMPLETED,
+                    createdAt, updatedAt,
+                    developerId != null ? new DeveloperDTO.DeveloperSummaryResponse(developerId, developerName, developerEmail) : null,
+                    new ProjectDTO.ProjectSummaryResponse(projectId, projectName, projectDeadline, projectStatus));
+        }
+    }
+
+    public record TaskKeysetPage(
+            List<TaskResponse> items,
+            String nextCursor,
+            Long totalElements
     ) {}
 
+    public record TaskSnapshot(
+            Long id,
+            String title,
+            TaskStatus status,
+            LocalDate dueDate,
+            Long projectId,
+            Long assignedDeveloperId
+    ) {
+        public static TaskSnapshot from(Task task) {
+            return new TaskSnapshot(
+                    task.getId(),
+                    task.getTitle(),
+                    task.getStatus(),
+                    task.getDueDate(),
+                    task.getProject() != null ? task.getProject().getId() : null,
+                    task.getAssignedDeveloper() != null ? task.getAssignedDeveloper().getId() : null
+            );
+        }
+    }
+
     public record TaskSummaryResponse(
             Long id,
             String title,
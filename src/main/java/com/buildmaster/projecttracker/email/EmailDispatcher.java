@@ -0,0 +1,187 @@
+package com.buildmaster.projecttracker.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends rendered emails from a bounded queue on one background thread, paced to at most
+ * {@code rate-per-second} so a burst never exceeds the mail server's limits. A failed send is
+ * retried with backoff up to {@code max-attempts}, then dropped with an error. {@link #dispatch}
+ * never blocks: a full queue is reported to the caller, which keeps the email for later. The caller
+ * may pass callbacks that run on the sending thread once the email is sent or dropped.
+ * <p>
+ * Stopping lets the sender keep draining the queue for up to {@code drain-timeout-ms}; whatever is
+ * still queued after that is logged and abandoned.
+ */
+@Component
+public class EmailDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDispatcher.class);
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final Runnable NOTHING = () -> {};
+
+    private record Queued(EmailMessage message, Runnable onSent, Runnable onDropped) {}
+
+    private final EmailTransport transport;
+    private final BlockingQueue<Queued> queue;
+    private final long sendIntervalNanos;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long drainTimeoutMs;
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private volatile long drainDeadline;
+    private Thread sender;
+
+    public EmailDispatcher(EmailTransport transport,
+                           MeterRegistry meterRegistry,
+                           @Value("${application.email.queue-capacity:10000}") int queueCapacity,
+                           @Value("${application.email.rate-per-second:10}") double ratePerSecond,
+                           @Value("${application.email.max-attempts:3}") int maxAttempts,
+                           @Value("${application.email.retry-backoff-ms:1000}") long retryBackoffMs,
+                           @Value("${application.email.drain-timeout-ms:10000}") long drainTimeoutMs) {
+        this.transport = transport;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sendIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.drainTimeoutMs = drainTimeoutMs;
+        Gauge.builder("email.queue", queue, BlockingQueue::size)
+                .description("Rendered emails waiting to be sent")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("email.send")
+                .description("Time the transport took to send one email")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("email.sent")
+                .description("Emails sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("email.failed")
+                .description("Emails dropped after the maximum number of send attempts")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        sender = new Thread(this::sendLoop, "email-sender");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    /** Sends what is queued until it is empty or the drain timeout passes. Safe to call twice. */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+        running = false;
+        if (sender != null) {
+            sender.join(drainTimeoutMs + POLL_INTERVAL_MS);
+            if (sender.isAlive()) {
+                sender.interrupt();
+                sender.join(TimeUnit.SECONDS.toMillis(1));
+            }
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Email dispatcher stopped with {} emails unsent after draining for {} ms", queue.size(), drainTimeoutMs);
+        }
+    }
+
+    /**
+     * Queues an email for sending; returns false without queueing when the queue is full.
+     */
+    public boolean dispatch(EmailMessage message) {
+        return dispatch(message, NOTHING, NOTHING);
+    }
+
+    /**
+     * Queues an email and runs {@code onSent} once the transport accepts it, or {@code onDropped}
+     * once it is given up on; returns false without queueing when the queue is full.
+     */
+    public boolean dispatch(EmailMessage message, Runnable onSent, Runnable onDropped) {
+        return queue.offer(new Queued(message, onSent, onDropped));
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    private void sendLoop() {
+        long nextSendAt = System.nanoTime();
+        while (sending()) {
+            Queued queued;
+            try {
+                queued = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (queued == null) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            EmailMessage message = queued.message();
+            for (int attempt = 1; sending(); attempt++) {
+                LockSupport.parkNanos(nextSendAt - System.nanoTime());
+                nextSendAt = Math.max(nextSendAt, System.nanoTime()) + sendIntervalNanos;
+                if (send(message, attempt)) {
+                    notify(queued.onSent(), message);
+                    break;
+                }
+                if (attempt >= maxAttempts) {
+                    failedCounter.increment();
+                    logger.error("Dropping email {} to {} after {} attempts", message.messageId(), message.to(), attempt);
+                    notify(queued.onDropped(), message);
+                    break;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.min(retryBackoffMs << (attempt - 1), MAX_BACKOFF_MS)));
+            }
+        }
+    }
+
+    /** Still accepting work, or stopping but inside the drain timeout. */
+    private boolean sending() {
+        return running || System.nanoTime() - drainDeadline < 0;
+    }
+
+    private void notify(Runnable callback, EmailMessage message) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            logger.error("Callback for email {} failed: {}", message.messageId(), e.getMessage(), e);
+        }
+    }
+
+    private boolean send(EmailMessage message, int attempt) {
+        long started = System.nanoTime();
+        try {
+            transport.send(message);
+            sendTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            sentCounter.increment();
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Sending email {} failed (attempt {} of {}): {}", message.messageId(), attempt, maxAttempts, e.getMessage());
+            return false;
+        }
+    }
+}
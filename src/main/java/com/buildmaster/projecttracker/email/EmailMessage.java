@@ -0,0 +1,7 @@
+package com.buildmaster.projecttracker.email;
+
+/**
+ * A rendered email. {@code messageId} is stable for the same logical email, so a resend can be
+ * recognised downstream.
+ */
+public record EmailMessage(String to, String subject, String body, String messageId) {}
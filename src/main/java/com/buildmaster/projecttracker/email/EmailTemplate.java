@@ -0,0 +1,97 @@
+package com.buildmaster.projecttracker.email;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A plain-text template with {@code {{name}}} placeholders, split once into literal and placeholder
+ * segments so rendering is a single pass of appends. Template files live under {@code email/} on the
+ * classpath; their first line is the subject and the rest is the body.
+ */
+public final class EmailTemplate {
+
+    /** A template file compiled into its subject line and body. */
+    public record Email(EmailTemplate subject, EmailTemplate body) {}
+
+    private record Segment(String text, boolean placeholder) {}
+
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private EmailTemplate(List<Segment> segments) {
+        this.segments = segments;
+        this.literalLength = segments.stream().filter(s -> !s.placeholder()).mapToInt(s -> s.text().length()).sum();
+    }
+
+    public static EmailTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                segments.add(new Segment(source.substring(position), false));
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            if (open > position) {
+                segments.add(new Segment(source.substring(position, open), false));
+            }
+            segments.add(new Segment(source.substring(open + 2, close).trim(), true));
+            position = close + 2;
+        }
+        return new EmailTemplate(List.copyOf(segments));
+    }
+
+    /**
+     * Loads and compiles {@code email/<name>.txt}.
+     */
+    public static Email load(String name) {
+        String source = read(name);
+        int newline = source.indexOf('\n');
+        if (newline < 0) {
+            throw new IllegalArgumentException("Email template " + name + " needs a subject line and a body");
+        }
+        return new Email(compile(source.substring(0, newline).strip()), compile(source.substring(newline + 1)));
+    }
+
+    /**
+     * Loads and compiles {@code email/<name>.txt} as a fragment with no subject line, such as one
+     * line of a digest.
+     */
+    public static EmailTemplate loadFragment(String name) {
+        return compile(read(name));
+    }
+
+    private static String read(String name) {
+        try {
+            return new ClassPathResource("email/" + name + ".txt").getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing email template " + name, e);
+        }
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(literalLength + 16 * segments.size());
+        renderTo(out, values);
+        return out.toString();
+    }
+
+    public void renderTo(StringBuilder out, Map<String, ?> values) {
+        for (Segment segment : segments) {
+            if (segment.placeholder()) {
+                out.append(values.get(segment.text()));
+            } else {
+                out.append(segment.text());
+            }
+        }
+    }
+}
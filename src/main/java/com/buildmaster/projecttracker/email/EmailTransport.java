@@ -0,0 +1,10 @@
+package com.buildmaster.projecttracker.email;
+
+/**
+ * Delivers one rendered email. Chosen with {@code application.email.transport}: {@code smtp},
+ * {@code file} (the default, one {@code .eml} per message) or {@code memory}.
+ */
+public interface EmailTransport {
+
+    void send(EmailMessage message);
+}
@@ -0,0 +1,49 @@
+package com.buildmaster.projecttracker.email;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Local stand-in for SMTP: writes each email to {@code <directory>/<message-id>.eml}. Writing the
+ * same message twice overwrites the file, so redelivery is visible but never duplicated.
+ */
+@Component
+@ConditionalOnProperty(name = "application.email.transport", havingValue = "file", matchIfMissing = true)
+public class FileEmailTransport implements EmailTransport {
+
+    private final Path directory;
+    private final String from;
+
+    public FileEmailTransport(@Value("${application.email.file.directory:data/mail}") Path directory,
+                              @Value("${application.email.from}") String from) {
+        this.directory = directory;
+        this.from = from;
+    }
+
+    @Override
+    public void send(EmailMessage message) {
+        String eml = "Message-ID: <" + message.messageId() + ">\r\n"
+                + "From: " + from + "\r\n"
+                + "To: " + message.to() + "\r\n"
+                + "Subject: " + message.subject() + "\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n"
+                + "\r\n"
+                + message.body();
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(message.messageId().replaceAll("[^A-Za-z0-9._-]", "_") + ".eml"),
+                    eml, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write email " + message.messageId(), e);
+        }
+    }
+}
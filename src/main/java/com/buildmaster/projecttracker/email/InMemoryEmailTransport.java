@@ -0,0 +1,30 @@
+package com.buildmaster.projecttracker.email;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps sent emails in memory, for tests and demos.
+ */
+@Component
+@ConditionalOnProperty(name = "application.email.transport", havingValue = "memory")
+public class InMemoryEmailTransport implements EmailTransport {
+
+    private final List<EmailMessage> sent = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(EmailMessage message) {
+        sent.add(message);
+    }
+
+    public List<EmailMessage> sent() {
+        return List.copyOf(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+    }
+}
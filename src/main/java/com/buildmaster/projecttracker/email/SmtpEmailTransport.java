@@ -0,0 +1,47 @@
+package com.buildmaster.projecttracker.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends through the SMTP server configured with {@code spring.mail.*}, keeping the message's own
+ * Message-ID instead of the one JavaMail would generate.
+ */
+@Component
+@ConditionalOnProperty(name = "application.email.transport", havingValue = "smtp")
+public class SmtpEmailTransport implements EmailTransport {
+
+    private final JavaMailSenderImpl mailSender;
+    private final String from;
+
+    public SmtpEmailTransport(JavaMailSenderImpl mailSender, @Value("${application.email.from}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public void send(EmailMessage message) {
+        MimeMessage mimeMessage = new MimeMessage(mailSender.getSession()) {
+            @Override
+            protected void updateMessageID() throws MessagingException {
+                setHeader("Message-ID", "<" + message.messageId() + ">");
+            }
+        };
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+            helper.setFrom(from);
+            helper.setTo(message.to());
+            helper.setSubject(message.subject());
+            helper.setText(message.body());
+        } catch (MessagingException e) {
+            throw new MailSendException("Could not build email " + message.messageId(), e);
+        }
+        mailSender.send(mimeMessage);
+    }
+}
@@ -0,0 +1,7 @@
+package com.buildmaster.projecttracker.enums;
+
+public enum AuditOverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    SPILL_TO_DISK
+}
@@ -0,0 +1,6 @@
+package com.buildmaster.projecttracker.enums;
+
+public enum OutboxEventType {
+    TASK_ASSIGNED,
+    TASK_STATUS_CHANGED
+}
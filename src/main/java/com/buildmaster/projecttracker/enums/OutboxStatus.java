@@ -0,0 +1,7 @@
+package com.buildmaster.projecttracker.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSED,
+    FAILED
+}
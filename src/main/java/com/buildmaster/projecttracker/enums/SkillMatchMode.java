@@ -0,0 +1,6 @@
+package com.buildmaster.projecttracker.enums;
+
+public enum SkillMatchMode {
+    ALL,
+    ANY
+}
@@ -1,19 +1,35 @@
 package com.buildmaster.projecttracker.event;
 
-import com.buildmaster.projecttracker.model.Developer;
+import com.buildmaster.projecttracker.enums.TaskStatus;
 import com.buildmaster.projecttracker.model.Task;
-import lombok.Getter;
-import org.springframework.context.ApplicationEvent;
 
-@Getter
-public class TaskAssignedEvent  extends ApplicationEvent {
-    private final Task task;
-    private final Developer assignedDeveloper;
+import java.time.LocalDate;
 
-    public TaskAssignedEvent(Object source, Task task, Developer assignedDeveloper) {
-        super(source);
-        this.task = task;
-        this.assignedDeveloper = assignedDeveloper;
+/**
+ * A task was created with, or given, an assignee. Carries a snapshot of everything the notification
+ * and the email need, so it can be stored in the outbox and handled long after the session that
+ * loaded the task has closed.
+ */
+public record TaskAssignedEvent(
+        Long taskId,
+        String title,
+        String description,
+        LocalDate dueDate,
+        TaskStatus status,
+        String projectName,
+        String developerName,
+        String developerEmail
+) {
+    public static TaskAssignedEvent from(Task task) {
+        return new TaskAssignedEvent(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getDueDate(),
+                task.getStatus(),
+                task.getProject().getName(),
+                task.getAssignedDeveloper().getName(),
+                task.getAssignedDeveloper().getEmail()
+        );
     }
-
 }
@@ -0,0 +1,25 @@
+package com.buildmaster.projecttracker.event;
+
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.model.Task;
+
+/**
+ * The status of an assigned task changed; a snapshot stored in the outbox like {@link TaskAssignedEvent}.
+ */
+public record TaskStatusChangedEvent(
+        Long taskId,
+        String title,
+        TaskStatus status,
+        String projectName,
+        String developerEmail
+) {
+    public static TaskStatusChangedEvent from(Task task) {
+        return new TaskStatusChangedEvent(
+                task.getId(),
+                task.getTitle(),
+                task.getStatus(),
+                task.getProject().getName(),
+                task.getAssignedDeveloper().getEmail()
+        );
+    }
+}
@@ -6,6 +6,7 @@ import com.buildmaster.projecttracker.enums.EntityType;
 import com.buildmaster.projecttracker.service.AuditLogService;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -83,6 +84,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<CustomApiResponse> handleTooManyRequestsException(TooManyRequestsException ex, WebRequest request) {
+        CustomApiResponse errorDetails = new CustomApiResponse(false, ex.getMessage(), request.getDescription(false), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDetails);
+    }
+
     @ExceptionHandler(ExpiredJwtException.class)
     public ResponseEntity<CustomApiResponse> handleExpiredJwtException(ExpiredJwtException ex, WebRequest request) {
         CustomApiResponse errorDetails = new CustomApiResponse(false, "Token has expired: " + ex.getMessage(), request.getDescription(false), LocalDateTime.now());
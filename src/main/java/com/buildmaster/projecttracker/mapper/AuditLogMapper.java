@@ -1,5 +1,6 @@
 package com.buildmaster.projecttracker.mapper;
 
+import com.buildmaster.projecttracker.audit.SmileAuditPayloadEncoder;
 import com.buildmaster.projecttracker.dto.AuditLogDTO;
 import com.buildmaster.projecttracker.model.AuditLog;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +17,14 @@ public class AuditLogMapper {
                 auditLog.getEntityId(),
                 auditLog.getTimestamp(),
                 auditLog.getActorName(),
-                auditLog.getPayload()
+                payloadAsText(auditLog)
         );
     }
+
+    private String payloadAsText(AuditLog auditLog) {
+        if (auditLog.getPayloadBinary() != null) {
+            return SmileAuditPayloadEncoder.toJson(auditLog.getPayloadBinary().getData());
+        }
+        return auditLog.getPayload();
+    }
 }
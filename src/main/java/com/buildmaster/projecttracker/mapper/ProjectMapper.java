@@ -5,6 +5,7 @@ import com.buildmaster.projecttracker.dto.TaskDTO;
 import com.buildmaster.projecttracker.model.Project;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,6 +28,22 @@ public class ProjectMapper {
                         task.getDueDate()
                 )).collect(Collectors.toSet());
 
+        return toProjectResponse(project, taskSummaries);
+    }
+
+    public ProjectDTO.ProjectResponse toProjectResponse(Project project, List<ProjectDTO.ProjectTaskSummary> tasks) {
+        Set<TaskDTO.TaskSummaryResponse> taskSummaries = tasks.stream()
+                .map(task -> new TaskDTO.TaskSummaryResponse(
+                        task.id(),
+                        task.title(),
+                        task.status(),
+                        task.dueDate()
+                )).collect(Collectors.toSet());
+
+        return toProjectResponse(project, taskSummaries);
+    }
+
+    private ProjectDTO.ProjectResponse toProjectResponse(Project project, Set<TaskDTO.TaskSummaryResponse> taskSummaries) {
         return new ProjectDTO.ProjectResponse(
                 project.getId(),
                 project.getName(),
@@ -29,6 +29,10 @@ public class TaskMapper {
                     .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + request.assignedDeveloperId()));
         }
 
+        return toTaskEntity(request, project, assignedDeveloper);
+    }
+
+    public Task toTaskEntity(TaskDTO.TaskRequest request, Project project, Developer assignedDeveloper) {
         return Task.builder()
                 .title(request.title())
                 .description(request.description())
@@ -4,12 +4,21 @@ import com.buildmaster.projecttracker.enums.ActionType;
 import com.buildmaster.projecttracker.enums.EntityType;
 import jakarta.persistence.Id;
 import lombok.*;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Document(collection = "audit_logs")
+@CompoundIndexes({
+        @CompoundIndex(name = "timestamp_id", def = "{'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "entityType_timestamp_id", def = "{'entityType': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "entityId_timestamp_id", def = "{'entityId': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "actionType_timestamp_id", def = "{'actionType': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "actorName_timestamp_id", def = "{'actorName': 1, 'timestamp': -1, '_id': -1}")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -19,22 +28,23 @@ public class AuditLog {
     @Id
     private String id;
 
-    @Indexed
     private ActionType actionType;
 
-    @Indexed
     private EntityType entityType;
 
-    @Indexed
     private String entityId;
 
-    @Indexed
     private LocalDateTime timestamp;
 
-    @Indexed
     private String actorName;
 
-    @Indexed
     private String payload;
 
+    private String payloadEncoding;
+
+    private Binary payloadBinary;
+
+    /** Write attempt that inserted this document; cleared once it is counted in the hourly rollups. */
+    private String rollupToken;
+
 }
@@ -0,0 +1,35 @@
+package com.buildmaster.projecttracker.model;
+
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.EntityType;
+import jakarta.persistence.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated count of audit events per hour and (entityType, actionType, actorName).
+ */
+@Document(collection = "audit_rollups_hourly")
+@CompoundIndex(name = "hour_entityType_actionType_actorName", def = "{'hour': 1, 'entityType': 1, 'actionType': 1, 'actorName': 1}", unique = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AuditRollup {
+    @Id
+    private String id;
+
+    private LocalDateTime hour;
+
+    private EntityType entityType;
+
+    private ActionType actionType;
+
+    private String actorName;
+
+    private long count;
+}
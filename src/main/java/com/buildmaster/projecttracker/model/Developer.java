@@ -21,7 +21,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Table(name="developers")
 @Builder
-@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "developers")
 @EntityListeners(AuditingEntityListener.class)
 public class Developer {
 
@@ -4,6 +4,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,13 +17,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "notifications")
+@CompoundIndexes({
+        @CompoundIndex(name = "recipientEmail_timestamp_id", def = "{'recipientEmail': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "recipientEmail_read_timestamp_id", def = "{'recipientEmail': 1, 'read': 1, 'timestamp': -1, '_id': -1}")
+})
 public class Notification {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private String id;
 
-    @Indexed
     private String recipientEmail;
 
     private String message;
@@ -33,7 +38,14 @@ public class Notification {
     @Builder.Default
     private LocalDateTime timestamp = LocalDateTime.now();
 
+    /** When the notification was marked read; read notifications are archived some time after it. */
+    private LocalDateTime readAt;
+
 
     private Long entityId;
     private String entityType;
+
+    /** Set when the notification is delivered from the outbox; a retried delivery reuses the same key. */
+    @Indexed(unique = true, sparse = true)
+    private String idempotencyKey;
 }
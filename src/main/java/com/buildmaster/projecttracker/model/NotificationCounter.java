@@ -0,0 +1,27 @@
+package com.buildmaster.projecttracker.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Unread notification count for one recipient, keyed by email and kept in step with the
+ * notifications by {@code $inc}. {@code version} grows with every change, so reconciliation can
+ * overwrite the count only if nothing changed it in between.
+ */
+@Document(collection = "notification_counters")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class NotificationCounter {
+    @Id
+    private String id;
+
+    private long unread;
+
+    private long version;
+}
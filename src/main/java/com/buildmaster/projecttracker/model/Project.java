@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
@@ -19,11 +20,13 @@ import java.util.Set;
 
 @Entity
 @Table(name="projects")
+@NamedEntityGraph(name = "Project.tasks", attributeNodes = @NamedAttributeNode("tasks"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @EntityListeners(AuditingEntityListener.class)
 public class Project {
 
@@ -48,6 +51,7 @@ public class Project {
     @Builder.Default
     private ProjectStatus status = ProjectStatus.ACTIVE;
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY )
     @Builder.Default
     private Set<Task> tasks = new HashSet<>();
@@ -4,6 +4,9 @@ package com.buildmaster.projecttracker.model;
 import com.buildmaster.projecttracker.enums.RoleName;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -11,8 +14,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
-@Setter
 @Builder
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "roles")
 @EntityListeners(AuditingEntityListener.class)
 public class Role {
 
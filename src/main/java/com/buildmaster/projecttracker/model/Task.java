@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "tasks")
+@NamedEntityGraph(name = "Task.projectAndDeveloper",
+        attributeNodes = {@NamedAttributeNode("project"), @NamedAttributeNode("assignedDeveloper")})
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_due_date_id", columnList = "due_date, id"))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +28,8 @@ import java.time.LocalDateTime;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Task title is required")
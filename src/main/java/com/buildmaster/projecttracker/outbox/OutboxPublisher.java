@@ -0,0 +1,65 @@
+package com.buildmaster.projecttracker.outbox;
+
+import com.buildmaster.projecttracker.enums.OutboxEventType;
+import com.buildmaster.projecttracker.model.OutboxEvent;
+import com.buildmaster.projecttracker.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records side effects in the outbox table. Must be called inside the transaction that makes the
+ * change, so the events commit or roll back with it; the {@link OutboxRelay} delivers them.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    public record PendingEvent(OutboxEventType type, Long aggregateId, Object payload) {}
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEventType type, Long aggregateId, Object payload) {
+        publishAll(List.of(new PendingEvent(type, aggregateId, payload)));
+    }
+
+    /**
+     * Records several events; they are inserted as JDBC batches when the transaction flushes.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(Collection<PendingEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = new ArrayList<>(events.size());
+        for (PendingEvent event : events) {
+            rows.add(OutboxEvent.builder()
+                    .eventType(event.type())
+                    .aggregateId(event.aggregateId())
+                    .payload(toJson(event.payload()))
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build());
+        }
+        outboxEventRepository.saveAll(rows);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload is not serializable: " + payload.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.buildmaster.projecttracker.outbox;
+
+import com.buildmaster.projecttracker.event.TaskAssignedEvent;
+import com.buildmaster.projecttracker.event.TaskStatusChangedEvent;
+import com.buildmaster.projecttracker.enums.OutboxStatus;
+import com.buildmaster.projecttracker.model.Notification;
+import com.buildmaster.projecttracker.model.OutboxEvent;
+import com.buildmaster.projecttracker.model.Task;
+import com.buildmaster.projecttracker.repository.OutboxEventRepository;
+import com.buildmaster.projecttracker.service.EmailNotificationService;
+import com.buildmaster.projecttracker.service.NotificationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains the outbox in batches and carries out each event: the in-app notification, then the email.
+ * <p>
+ * A batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so relays on several replicas never deliver
+ * the same row at once. Its notifications go out as one bulk insert keyed by
+ * {@link OutboxEvent#idempotencyKey}, so a retried event never stores a second copy; the email sender
+ * receives the same kind of key. A failed event is retried with exponential backoff and given up on
+ * (status {@code FAILED}) after {@code max-attempts}. Delivered rows are purged after {@code retention}.
+ * <p>
+ * An assignment email is only queued in memory here, so its row stays pending with its next attempt
+ * pushed out by {@code email-lease}; the email sender marks it processed once the email is sent. If
+ * this node dies first, the row comes due again and is redelivered.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final long MAX_BACKOFF_MS = Duration.ofMinutes(5).toMillis();
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NotificationService notificationService;
+    private final EmailNotificationService emailNotificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Duration retention;
+    private final Duration emailLease;
+    private final Counter relayedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       NotificationService notificationService,
+                       EmailNotificationService emailNotificationService,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${application.outbox.batch-size:100}") int batchSize,
+                       @Value("${application.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${application.outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+                       @Value("${application.outbox.retention:7d}") Duration retention,
+                       @Value("${application.outbox.email-lease:15m}") Duration emailLease) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.notificationService = notificationService;
+        this.emailNotificationService = emailNotificationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.retention = retention;
+        this.emailLease = emailLease;
+        this.relayedCounter = Counter.builder("outbox.relayed")
+                .description("Outbox events delivered")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("outbox.retried")
+                .description("Outbox event deliveries that failed and were scheduled for another attempt")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.failed")
+                .description("Outbox events given up on after the maximum number of attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.poll-interval-ms:500}")
+    public void relay() {
+        Integer claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> relayBatch());
+        } while (claimed != null && claimed == batchSize);
+    }
+
+    @Scheduled(cron = "${application.outbox.purge-cron:0 15 * * * *}")
+    public void purge() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            logger.debug("Purged {} delivered outbox events", purged);
+        }
+    }
+
+    /**
+     * Claims and delivers one batch inside the caller's transaction; returns the number claimed.
+     */
+    int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findDueForUpdate(LocalDateTime.now(), Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<OutboxEvent, Object> decoded = new LinkedHashMap<>();
+        List<Notification> notifications = new ArrayList<>(batch.size());
+        for (OutboxEvent row : batch) {
+            try {
+                Object event = decode(row);
+                decoded.put(row, event);
+                notifications.add(toNotification(event, row.idempotencyKey("notification")));
+            } catch (JsonProcessingException | RuntimeException e) {
+                retryLater(row, e);
+            }
+        }
+
+        try {
+            notificationService.createNotificationsIdempotent(notifications);
+        } catch (RuntimeException e) {
+            decoded.keySet().forEach(row -> retryLater(row, e));
+            return batch.size();
+        }
+
+        decoded.forEach((row, event) -> {
+            try {
+                if (event instanceof TaskAssignedEvent assigned) {
+                    if (emailNotificationService.sendTaskAssignedEmail(assigned, row.idempotencyKey("email"), row.getId())) {
+                        relayedCounter.increment();
+                    }
+                    row.setNextAttemptAt(LocalDateTime.now().plus(emailLease));
+                    row.setLastError(null);
+                    return;
+                }
+                row.setStatus(OutboxStatus.PROCESSED);
+                row.setProcessedAt(LocalDateTime.now());
+                row.setLastError(null);
+                relayedCounter.increment();
+            } catch (RuntimeException e) {
+                retryLater(row, e);
+            }
+        });
+        return batch.size();
+    }
+
+    private Object decode(OutboxEvent row) throws JsonProcessingException {
+        return switch (row.getEventType()) {
+            case TASK_ASSIGNED -> objectMapper.readValue(row.getPayload(), TaskAssignedEvent.class);
+            case TASK_STATUS_CHANGED -> objectMapper.readValue(row.getPayload(), TaskStatusChangedEvent.class);
+        };
+    }
+
+    private Notification toNotification(Object event, String idempotencyKey) {
+        Notification notification = switch (event) {
+            case TaskAssignedEvent assigned -> notificationService.buildNotification(
+                    assigned.developerEmail(),
+                    "You have been assigned to task: " + assigned.title(),
+                    "TASK_ASSIGNMENT",
+                    assigned.taskId(),
+                    Task.class.getSimpleName());
+            case TaskStatusChangedEvent changed -> notificationService.buildNotification(
+                    changed.developerEmail(),
+                    "Status of task '" + changed.title() + "' in project '" + changed.projectName() + "' changed to " + changed.status(),
+                    "TASK_STATUS_UPDATE",
+                    changed.taskId(),
+                    Task.class.getSimpleName());
+            default -> throw new IllegalArgumentException("Unsupported outbox event: " + event.getClass().getName());
+        };
+        notification.setIdempotencyKey(idempotencyKey);
+        return notification;
+    }
+
+    private void retryLater(OutboxEvent row, Exception cause) {
+        int attempts = row.getAttempts() + 1;
+        row.setAttempts(attempts);
+        String error = String.valueOf(cause.getMessage());
+        row.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= maxAttempts) {
+            row.setStatus(OutboxStatus.FAILED);
+            failedCounter.increment();
+            logger.error("Giving up on outbox event {} ({}) after {} attempts: {}", row.getId(), row.getEventType(), attempts, error);
+            return;
+        }
+        long backoffMs = Math.min(retryBackoffMs << Math.min(attempts - 1, 20), MAX_BACKOFF_MS);
+        row.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000));
+        retriedCounter.increment();
+        logger.warn("Outbox event {} ({}) failed, attempt {} of {}, retrying in {} ms: {}",
+                row.getId(), row.getEventType(), attempts, maxAttempts, backoffMs, error);
+    }
+}
@@ -0,0 +1,50 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Pending events that are due, oldest first, locked for the caller's transaction. Rows another
+     * relay has already locked are skipped ({@code FOR UPDATE SKIP LOCKED}), so replicas split the
+     * backlog instead of queueing behind each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = com.buildmaster.projecttracker.enums.OutboxStatus.PENDING " +
+            "AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDueForUpdate(@Param("now") LocalDateTime now, Limit limit);
+
+    /** Marks pending events delivered by a consumer that finished after the relay handed them over. */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.buildmaster.projecttracker.enums.OutboxStatus.PROCESSED, " +
+            "e.processedAt = :now, e.lastError = null " +
+            "WHERE e.id IN :ids AND e.status = com.buildmaster.projecttracker.enums.OutboxStatus.PENDING")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.buildmaster.projecttracker.enums.OutboxStatus.FAILED, e.lastError = :error " +
+            "WHERE e.id IN :ids AND e.status = com.buildmaster.projecttracker.enums.OutboxStatus.PENDING")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.buildmaster.projecttracker.enums.OutboxStatus.PROCESSED " +
+            "AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
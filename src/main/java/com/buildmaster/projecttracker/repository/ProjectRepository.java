@@ -1,21 +1,27 @@
 package com.buildmaster.projecttracker.repository;
 
+import com.buildmaster.projecttracker.dto.ProjectDTO;
+import com.buildmaster.projecttracker.dto.SearchDTO;
 import com.buildmaster.projecttracker.enums.ProjectStatus;
 import com.buildmaster.projecttracker.model.Project;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.id = :id")
+    @EntityGraph("Project.tasks")
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
     Optional<Project> findWithTasksById(@Param("id") Long id);
 
     @Override
@@ -27,4 +33,16 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p WHERE p.deadLine < :now AND p.status = :status")
     List<Project> findOverdueProjects(@Param("now") LocalDate now, @Param("status") ProjectStatus status);
 
+    @Query("""
+            SELECT new com.buildmaster.projecttracker.dto.ProjectDTO$ProjectTaskSummary(t.project.id, t.id, t.title, t.status, t.dueDate)
+            FROM Task t WHERE t.project.id IN :projectIds
+            """)
+    List<ProjectDTO.ProjectTaskSummary> findTaskSummariesByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("""
+            SELECT new com.buildmaster.projecttracker.dto.SearchDTO$IndexedProject(p.id, p.name, p.description, p.status, p.deadLine)
+            FROM Project p WHERE p.id > :afterId ORDER BY p.id
+            """)
+    List<SearchDTO.IndexedProject> findIndexedProjectsAfterId(@Param("afterId") long afterId, Limit limit);
+
 }
@@ -1,9 +1,13 @@
 package com.buildmaster.projecttracker.repository;
 
+import com.buildmaster.projecttracker.dto.SearchDTO;
+import com.buildmaster.projecttracker.dto.TaskDTO;
 import com.buildmaster.projecttracker.enums.TaskStatus;
 import com.buildmaster.projecttracker.model.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,7 +18,16 @@ import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    String TASK_RESPONSE_PROJECTION = """
+            SELECT new com.buildmaster.projecttracker.dto.TaskDTO$TaskResponse(
+                t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, t.updatedAt,
+                d.id, d.name, d.email,
+                p.id, p.name, p.deadLine, p.status)
+            FROM Task t JOIN t.project p LEFT JOIN t.assignedDeveloper d
+            """;
+
     @Override
+    @EntityGraph("Task.projectAndDeveloper")
     Page<Task> findAll(Pageable pageable);
 
 
@@ -25,6 +38,33 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findByDueDateBeforeAndStatusNot(LocalDate date, TaskStatus status);
 
+    @Query(TASK_RESPONSE_PROJECTION + " WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskDTO.TaskResponse> findResponsesAfterId(@Param("afterId") long afterId, Limit limit);
+
+    @Query(TASK_RESPONSE_PROJECTION + " ORDER BY t.dueDate, t.id")
+    List<TaskDTO.TaskResponse> findResponsesByDueDate(Limit limit);
+
+    @Query(TASK_RESPONSE_PROJECTION + " WHERE (t.dueDate, t.id) > (:dueDate, :afterId) ORDER BY t.dueDate, t.id")
+    List<TaskDTO.TaskResponse> findResponsesAfterDueDate(@Param("dueDate") LocalDate dueDate, @Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            SELECT new com.buildmaster.projecttracker.dto.SearchDTO$IndexedTask(t.id, t.title, t.description, t.status, t.dueDate, t.project.id)
+            FROM Task t WHERE t.id > :afterId ORDER BY t.id
+            """)
+    List<SearchDTO.IndexedTask> findIndexedTasksAfterId(@Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT DISTINCT d.email FROM Task t JOIN t.assignedDeveloper d WHERE t.project.id = :projectId")
+    List<String> findAssignedDeveloperEmails(@Param("projectId") Long projectId);
+
+    @EntityGraph("Task.projectAndDeveloper")
+    List<Task> findAllByIdIn(Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.buildmaster.projecttracker.dto.TaskDTO$TaskSnapshot(t.id, t.title, t.status, t.dueDate, t.project.id, d.id)
+            FROM Task t LEFT JOIN t.assignedDeveloper d
+            """)
+    List<TaskDTO.TaskSnapshot> findAllSnapshots();
+
     @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
     List<Object[]> countTasksByStatus();
 
@@ -0,0 +1,127 @@
+package com.buildmaster.projecttracker.security;
+
+import com.buildmaster.projecttracker.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the delegate's hashing on a small dedicated pool with a bounded queue, so a burst of logins
+ * or registrations can occupy at most {@code threads} cores. A request that finds the queue full,
+ * or waits longer than {@code maxWait} for its turn, fails fast with
+ * {@link TooManyRequestsException} instead of tying up a servlet thread behind the burst.
+ * <p>
+ * {@link #UNUSABLE_PASSWORD} marks accounts that have no local password (OAuth sign-ups); it never
+ * matches. The attempt still verifies against a dummy hash made by the delegate, so it costs as
+ * much as a real check and response times do not reveal which accounts have a password.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    public static final String UNUSABLE_PASSWORD = "!no-local-password!";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+    private final Counter rejectedCounter;
+    private final Timer hashTimer;
+    private volatile String dummyHash;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxWaitMs,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("security.password.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a hashing thread")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("security.password.hashing.rejected")
+                .description("Password hashing requests rejected because the hashing pool was saturated")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("security.password.hashing")
+                .description("Time spent hashing or verifying a password, excluding queueing")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || UNUSABLE_PASSWORD.equals(encodedPassword)) {
+            return submit(() -> {
+                delegate.matches(rawPassword, dummyHash());
+                return false;
+            });
+        }
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return !UNUSABLE_PASSWORD.equals(encodedPassword) && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /** A hash at the delegate's current strength; racing first callers may each make one. */
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = delegate.encode(UNUSABLE_PASSWORD);
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    private <T> T submit(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(hashing));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Too many sign-in attempts in progress; please retry shortly.");
+        }
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Too many sign-in attempts in progress; please retry shortly.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
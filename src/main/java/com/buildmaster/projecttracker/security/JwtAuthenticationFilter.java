@@ -2,18 +2,21 @@ package com.buildmaster.projecttracker.security;
 
 import com.buildmaster.projecttracker.dto.CustomApiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -23,13 +26,35 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 
+/**
+ * Authenticates requests carrying a bearer JWT. By default the user is loaded from the database on
+ * every request. With {@code application.security.jwt.stateless=true}, an access token's
+ * {@code role} claim is trusted instead and the only per-request check is {@link UserStatusCache},
+ * so deleted users are still locked out; tokens without a role claim, such as refresh tokens, keep
+ * using the database lookup.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String ROLE_CLAIM = "role";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
     private final ObjectMapper objectMapper;
+    private final UserStatusCache userStatusCache;
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsService userDetailsService,
+                                   ObjectMapper objectMapper,
+                                   UserStatusCache userStatusCache,
+                                   @Value("${application.security.jwt.stateless:false}") boolean stateless) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.objectMapper = objectMapper;
+        this.userStatusCache = userStatusCache;
+        this.stateless = stateless;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -49,11 +74,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try{
-            userEmail = jwtService.extractUsername(jwt);
+            // One verification per request; repeated tokens are served from JwtService's cache.
+            Claims claims = jwtService.extractAllClaims(jwt);
+            userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                UserDetails userDetails = resolveUser(claims);
+                if (userDetails != null && jwtService.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -80,6 +107,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
+    private UserDetails resolveUser(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (!stateless || role == null) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (!userStatusCache.isActive(claims.getSubject(), claims.getIssuedAt())) {
+            return null;
+        }
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(new SimpleGrantedAuthority(role))
+                .build();
+    }
+
     private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
         response.setStatus(status.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -1,26 +1,49 @@
 package com.buildmaster.projecttracker.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies JWTs. The signing key and parser are built once per secret, and the claims of
+ * every successfully verified token are cached under the token's SHA-256 digest until the token
+ * expires, so a client reusing its access token costs one hash and one map lookup per request
+ * instead of an HMAC verification and a JSON parse. Only the digest is kept, never the token itself.
+ * Cached claims are shared between requests and must be treated as read-only.
+ */
 @Service
 @Data
 public class JwtService {
 
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    private record Signing(String secret, Key key, JwtParser parser) {}
+
     @Value("${JWT_SECRET}")
     private String secretKey;
     @Value("${application.security.jwt.expiration}")
@@ -28,6 +51,20 @@ public class JwtService {
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshExpiration;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Signing signing;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(Expiry.<String, Claims>creating((digest, claims) -> {
+                long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                return Duration.ofMillis(Math.max(0, remainingMillis));
+            }))
+            .build();
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -77,29 +114,58 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Checks already-verified claims against the user, so a caller that has the claims does not
+     * parse the token again.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
+    /**
+     * Verifies the token's signature and expiry and returns its claims, from the verified-token
+     * cache when this token has been seen before. Invalid tokens throw and are never cached.
+     */
     public Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = signing().parser().parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signing().key();
+    }
+
+    private Signing signing() {
+        Signing current = signing;
+        if (current == null || !current.secret().equals(secretKey)) {
+            Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+            if (current != null) {
+                // Tokens verified under the previous secret are no longer trusted.
+                verifiedTokens.invalidateAll();
+            }
+            current = new Signing(secretKey, key, Jwts.parserBuilder().setSigningKey(key).build());
+            signing = current;
+        }
+        return current;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
-}
\ No newline at end of file
+}
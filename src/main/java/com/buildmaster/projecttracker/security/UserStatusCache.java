@@ -0,0 +1,74 @@
+package com.buildmaster.projecttracker.security;
+
+import com.buildmaster.projecttracker.cache.CacheInvalidation;
+import com.buildmaster.projecttracker.cache.CacheInvalidationBus;
+import com.buildmaster.projecttracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Short-lived record of which users still exist, used by stateless JWT authentication in place of
+ * loading the user on every request. A user's existence is checked against the database at most
+ * once per {@code application.security.user-status.ttl-ms}; {@link #revoke} takes effect on this
+ * node immediately and rejects every token issued up to that moment for as long as an access token
+ * can live, so a re-registered account does not revive the old tokens. Revocations are broadcast
+ * on the {@link CacheInvalidationBus} so other replicas apply them without waiting for the TTL.
+ */
+@Component
+public class UserStatusCache {
+
+    static final String CACHE_NAME = "userStatus";
+    private static final long MAX_USERS = 10_000;
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<String, Boolean> activeUsers;
+    private final Cache<String, Long> revokedAt;
+
+    public UserStatusCache(UserRepository userRepository,
+                           CacheInvalidationBus invalidationBus,
+                           @Value("${application.security.user-status.ttl-ms:30000}") long ttlMs,
+                           @Value("${application.security.jwt.expiration}") long accessTokenLifetimeMs) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.activeUsers = Caffeine.newBuilder()
+                .maximumSize(MAX_USERS)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+        this.revokedAt = Caffeine.newBuilder()
+                .maximumSize(MAX_USERS)
+                .expireAfterWrite(Duration.ofMillis(accessTokenLifetimeMs))
+                .build();
+        invalidationBus.subscribe(invalidation -> {
+            if (CACHE_NAME.equals(invalidation.cacheName()) && invalidation.key() instanceof String email) {
+                revokeLocally(email);
+            }
+        });
+    }
+
+    /**
+     * Whether a token for this user, issued at {@code issuedAt}, may still be honored.
+     */
+    public boolean isActive(String email, Date issuedAt) {
+        Long revoked = revokedAt.getIfPresent(email);
+        if (revoked != null && (issuedAt == null || issuedAt.getTime() <= revoked)) {
+            return false;
+        }
+        return activeUsers.get(email, userRepository::existsByEmail);
+    }
+
+    public void revoke(String email) {
+        revokeLocally(email);
+        invalidationBus.publish(CacheInvalidation.evict(CACHE_NAME, email));
+    }
+
+    private void revokeLocally(String email) {
+        revokedAt.put(email, System.currentTimeMillis());
+        activeUsers.invalidate(email);
+    }
+}
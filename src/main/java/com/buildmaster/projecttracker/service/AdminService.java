@@ -1,10 +1,15 @@
 package com.buildmaster.projecttracker.service;
 
 import com.buildmaster.projecttracker.dto.AuthDTO;
+import com.buildmaster.projecttracker.dto.CacheDTO;
 import com.buildmaster.projecttracker.exception.ResourceNotFoundException;
 import com.buildmaster.projecttracker.model.User;
 import com.buildmaster.projecttracker.repository.UserRepository;
+import com.buildmaster.projecttracker.security.UserStatusCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
@@ -19,6 +24,8 @@ import java.util.stream.Collectors;
 public class AdminService {
 
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final UserStatusCache userStatusCache;
 
     public List<AuthDTO.UserProfileResponse> getRegisteredUsers(){
         List<User> users = userRepository.findAll();
@@ -33,9 +40,25 @@ public class AdminService {
     }
 
     public void deleteUser(Long id){
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with ID: " + id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        userRepository.delete(user);
+        userStatusCache.revoke(user.getEmail());
+    }
+
+    /**
+     * Hit/miss statistics for every Caffeine cache, as recorded by {@code recordStats()}.
+     */
+    public List<CacheDTO.CacheStatsResponse> getCacheStats() {
+        List<CacheDTO.CacheStatsResponse> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats cacheStats = nativeCache.stats();
+                stats.add(new CacheDTO.CacheStatsResponse(name, nativeCache.estimatedSize(), cacheStats.hitCount(),
+                        cacheStats.missCount(), cacheStats.hitRate(), cacheStats.evictionCount()));
+            }
         }
-        userRepository.deleteById(id);
+        return stats;
     }
 }
@@ -1,66 +1,298 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.audit.AuditCollectionRouter;
+import com.buildmaster.projecttracker.audit.AuditLogBuffer;
+import com.buildmaster.projecttracker.audit.AuditLogRecordCodec;
+import com.buildmaster.projecttracker.audit.AuditPayload;
+import com.buildmaster.projecttracker.audit.AuditPayloadEncoder;
+import com.buildmaster.projecttracker.audit.AuditSpool;
 import com.buildmaster.projecttracker.dto.AuditLogDTO;
 import com.buildmaster.projecttracker.enums.ActionType;
 import com.buildmaster.projecttracker.enums.EntityType;
 import com.buildmaster.projecttracker.mapper.AuditLogMapper;
 import com.buildmaster.projecttracker.model.AuditLog;
-import com.buildmaster.projecttracker.repository.AuditLogRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.buildmaster.projecttracker.model.AuditRollup;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class AuditLogService {
-    private final AuditLogRepository auditLogRepository;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_BATCH_SIZE = 1000;
+    private static final int MAX_ROLLUP_ROWS = 10_000;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp", "id");
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditCollectionRouter auditCollectionRouter;
     private final AuditLogMapper auditLogMapper;
     private final ObjectMapper objectMapper;
+    private final AuditLogBuffer auditLogBuffer;
+    private final ObjectProvider<AuditSpool> auditSpool;
+    private final AuditPayloadEncoder auditPayloadEncoder;
+
+    public void logAction(ActionType actionType, EntityType entityType, String entityId, String actorName, AuditPayload payload) {
+        dispatch(List.of(toAuditLog(actionType, entityType, entityId, actorName, payload)));
+    }
+
+    public void logAudit(ActionType actionType, EntityType entityType, String entityId, String actorName, Object entity) {
+        try {
+            logAction(actionType, entityType, entityId, actorName, encode(entity));
+        } catch (IllegalArgumentException e) {
+            log.error("Error encoding entity for audit log: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Records one audit entry per entity and hands them off together, for bulk operations.
+     *
+     * @param entitiesById Entity snapshots keyed by entity id, in the order they should be recorded.
+     */
+    public void logAuditBatch(ActionType actionType, EntityType entityType, String actorName, Map<String, ?> entitiesById) {
+        List<AuditLog> auditLogs = new ArrayList<>(entitiesById.size());
+        entitiesById.forEach((entityId, entity) -> {
+            try {
+                auditLogs.add(toAuditLog(actionType, entityType, entityId, actorName, encode(entity)));
+            } catch (IllegalArgumentException e) {
+                log.error("Error encoding entity {} for audit log: {}", entityId, e.getMessage());
+            }
+        });
+        dispatch(auditLogs);
+    }
+
+    /**
+     * Records a field diff per change and hands them off together, for bulk operations.
+     */
+    public void logAuditChanges(ActionType actionType, EntityType entityType, String actorName, List<AuditLogDTO.AuditChange> changes) {
+        List<AuditLog> auditLogs = new ArrayList<>(changes.size());
+        for (AuditLogDTO.AuditChange change : changes) {
+            try {
+                auditLogs.add(toAuditLog(actionType, entityType, change.entityId(), actorName,
+                        auditPayloadEncoder.encodeDiff(change.before(), change.after())));
+            } catch (IllegalArgumentException e) {
+                log.error("Error encoding change for {} for audit log: {}", change.entityId(), e.getMessage());
+            }
+        }
+        dispatch(auditLogs);
+    }
+
+    /**
+     * Records only the fields that changed between two snapshots of the same record type.
+     */
+    public void logAuditChange(ActionType actionType, EntityType entityType, String entityId, String actorName, Object before, Object after) {
+        try {
+            logAction(actionType, entityType, entityId, actorName, auditPayloadEncoder.encodeDiff(before, after));
+        } catch (IllegalArgumentException e) {
+            log.error("Error encoding change for audit log: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns one page of audit logs, newest first. The cursor is the (timestamp, id) of the last
+     * row of the previous page, so each page is a bounded index range scan regardless of depth.
+     * Only the monthly buckets overlapping the window are queried, newest first, stopping as soon
+     * as the page is full.
+     */
+    public AuditLogDTO.AuditLogPage getLogs(AuditLogDTO.AuditLogFilter filter, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        Criteria criteria = filterCriteria(filter);
+        LocalDateTime upperBound = filter.to();
+        if (cursor != null && !cursor.isBlank()) {
+            AuditLog last = decodeCursor(cursor);
+            criteria = new Criteria().andOperator(criteria, afterCursor(last));
+            if (upperBound == null || last.getTimestamp().isBefore(upperBound)) {
+                upperBound = last.getTimestamp();
+            }
+        }
+
+        List<AuditLog> auditLogs = new ArrayList<>(pageSize + 1);
+        for (String collection : auditCollectionRouter.collectionsBetween(filter.from(), upperBound)) {
+            Query query = new Query(criteria).with(NEWEST_FIRST).limit(pageSize + 1 - auditLogs.size());
+            auditLogs.addAll(mongoTemplate.find(query, AuditLog.class, collection));
+            if (auditLogs.size() > pageSize) {
+                break;
+            }
+        }
+
+        String nextCursor = null;
+        if (auditLogs.size() > pageSize) {
+            auditLogs = auditLogs.subList(0, pageSize);
+            nextCursor = encodeCursor(auditLogs.get(pageSize - 1));
+        }
+        List<AuditLogDTO.AuditLogResponse> items = auditLogs.stream()
+                .map(auditLogMapper::toAuditLogDTO)
+                .collect(Collectors.toList());
+        return new AuditLogDTO.AuditLogPage(items, nextCursor);
+    }
+
+    /**
+     * Writes every matching audit log as one JSON document per line, straight from a MongoDB cursor,
+     * walking the overlapping buckets newest first.
+     */
+    public void exportLogs(AuditLogDTO.AuditLogFilter filter, OutputStream outputStream) throws IOException {
+        Query query = new Query(filterCriteria(filter)).with(NEWEST_FIRST).cursorBatchSize(EXPORT_BATCH_SIZE);
+        for (String collection : auditCollectionRouter.collectionsBetween(filter.from(), filter.to())) {
+            try (Stream<AuditLog> auditLogs = mongoTemplate.stream(query, AuditLog.class, collection)) {
+                Iterator<AuditLog> iterator = auditLogs.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(auditLogMapper.toAuditLogDTO(iterator.next())));
+                    outputStream.write('\n');
+                }
+            }
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Hourly event counts from the pre-aggregated rollup collection, oldest hour first.
+     */
+    public List<AuditLogDTO.AuditRollupResponse> getRollups(AuditLogDTO.AuditLogFilter filter) {
+        Criteria criteria = new Criteria();
+        if (filter.actionType() != null) {
+            criteria.and("actionType").is(filter.actionType());
+        }
+        if (filter.entityType() != null) {
+            criteria.and("entityType").is(filter.entityType());
+        }
+        if (filter.actorName() != null) {
+            criteria.and("actorName").is(filter.actorName());
+        }
+        if (filter.from() != null || filter.to() != null) {
+            Criteria hour = criteria.and("hour");
+            if (filter.from() != null) {
+                hour.gte(filter.from().truncatedTo(ChronoUnit.HOURS));
+            }
+            if (filter.to() != null) {
+                hour.lt(filter.to());
+            }
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "hour")).limit(MAX_ROLLUP_ROWS);
+        return mongoTemplate.find(query, AuditRollup.class).stream()
+                .map(rollup -> new AuditLogDTO.AuditRollupResponse(
+                        rollup.getHour(), rollup.getEntityType(), rollup.getActionType(), rollup.getActorName(), rollup.getCount()))
+                .toList();
+    }
+
+    private Criteria filterCriteria(AuditLogDTO.AuditLogFilter filter) {
+        Criteria criteria = new Criteria();
+        if (filter.actionType() != null) {
+            criteria.and("actionType").is(filter.actionType());
+        }
+        if (filter.entityType() != null) {
+            criteria.and("entityType").is(filter.entityType());
+        }
+        if (filter.entityId() != null) {
+            criteria.and("entityId").is(filter.entityId());
+        }
+        if (filter.actorName() != null) {
+            criteria.and("actorName").is(filter.actorName());
+        }
+        if (filter.from() != null || filter.to() != null) {
+            Criteria timestamp = criteria.and("timestamp");
+            if (filter.from() != null) {
+                timestamp.gte(filter.from());
+            }
+            if (filter.to() != null) {
+                timestamp.lt(filter.to());
+            }
+        }
+        return criteria;
+    }
 
-    @Async
-    public void logAction(ActionType actionType, EntityType entityType, String entityId, String actorName, String payload) {
+    private AuditLog toAuditLog(ActionType actionType, EntityType entityType, String entityId, String actorName, AuditPayload payload) {
         AuditLog auditLog = AuditLog.builder()
                 .actionType(actionType)
                 .entityType(entityType)
                 .entityId(entityId)
                 .timestamp(LocalDateTime.now())
                 .actorName(actorName)
-                .payload(payload)
                 .build();
-        auditLogRepository.save(auditLog);
+        if (payload != null) {
+            auditLog.setPayloadEncoding(payload.encoding());
+            if (payload.isBinary()) {
+                auditLog.setPayloadBinary(new Binary(payload.binary()));
+            } else {
+                auditLog.setPayload(payload.text());
+            }
+        }
+        if (auditSpool.getIfAvailable() != null) {
+            // Pre-assigned id keeps replays idempotent when a batch is re-sent after a partial failure.
+            auditLog.setId(new ObjectId().toHexString());
+        }
+        return auditLog;
     }
 
-    public void logAudit(ActionType actionType, EntityType entityType, String entityId, String actorName, Object entity) {
-        try {
-            String payload = (entity != null) ? objectMapper.writeValueAsString(entity) : null;
-            logAction(actionType, entityType, entityId, actorName, payload);
-        } catch (JsonProcessingException e) {
+    private AuditPayload encode(Object entity) {
+        if (entity instanceof String message) {
+            return AuditPayload.text(message);
+        }
+        return entity != null ? auditPayloadEncoder.encode(entity) : null;
+    }
 
-            System.err.println("Error converting entity to JSON for audit log: " + e.getMessage());
+    private void dispatch(List<AuditLog> auditLogs) {
+        AuditSpool spool = auditSpool.getIfAvailable();
+        if (spool != null) {
+            for (AuditLog auditLog : auditLogs) {
+                try {
+                    spool.append(AuditLogRecordCodec.encode(auditLog));
+                } catch (IllegalArgumentException e) {
+                    log.error("Dropped audit record for {} {}: it exceeds the spool record limit ({})",
+                            auditLog.getEntityType(), auditLog.getEntityId(), e.getMessage());
+                }
+            }
+        } else {
+            auditLogBuffer.submitAll(auditLogs);
         }
     }
 
-    public List<AuditLogDTO.AuditLogResponse> getLogsByEntityType(EntityType entityType) {
-        return auditLogRepository.findByEntityType(entityType).stream()
-                .map(auditLogMapper::toAuditLogDTO)
-                .collect(Collectors.toList());
+    private AuditLog decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return AuditLog.builder()
+                    .timestamp(LocalDateTime.parse(raw.substring(0, separator)))
+                    .id(raw.substring(separator + 1))
+                    .build();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid audit log cursor");
+        }
     }
 
-    public List<AuditLogDTO.AuditLogResponse> getLogsByEntityTypeAndActorName(EntityType entityType, String actorName) {
-        return auditLogRepository.findByEntityTypeAndActorName(entityType, actorName).stream()
-                .map(auditLogMapper::toAuditLogDTO)
-                .collect(Collectors.toList());
+    private Criteria afterCursor(AuditLog last) {
+        return new Criteria().orOperator(
+                Criteria.where("timestamp").lt(last.getTimestamp()),
+                new Criteria().andOperator(Criteria.where("timestamp").is(last.getTimestamp()), Criteria.where("id").lt(last.getId()))
+        );
     }
 
-    public List<AuditLogDTO.AuditLogResponse> getLogsByActorName(String actorName) {
-        return auditLogRepository.findByActorName(actorName).stream()
-                .map(auditLogMapper::toAuditLogDTO)
-                .collect(Collectors.toList());
+    private String encodeCursor(AuditLog auditLog) {
+        String raw = auditLog.getTimestamp() + "|" + auditLog.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 }
@@ -13,9 +13,12 @@ import com.buildmaster.projecttracker.repository.RoleRepository;
 import com.buildmaster.projecttracker.repository.UserRepository;
 import com.buildmaster.projecttracker.security.JwtService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -24,18 +27,21 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
     public final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final DeveloperRepository developerRepository;
@@ -43,8 +49,8 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final AuditLogService auditLogService;
     private final JwtService jwtService;
-
-    private volatile Role cachedDeveloperRole;
+    @Qualifier("applicationTaskExecutor")
+    private final AsyncTaskExecutor applicationTaskExecutor;
 
     public AuthDTO.JwtResponse loginUser(AuthDTO.LoginUserRequest loginRequest){
         String userEmail = loginRequest.email();
@@ -55,45 +61,40 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-        CompletableFuture<String> accessTokenFuture = CompletableFuture.supplyAsync(() ->
-                jwtService.generateToken(userDetails));
-        CompletableFuture<String> refreshTokenFuture = CompletableFuture.supplyAsync(() ->
-                jwtService.generateRefreshToken(userDetails));
-
         String role = userDetails.getAuthorities().stream()
                 .findFirst()
                 .map(GrantedAuthority::getAuthority)
                 .orElse("ROLE_USER");
 
-        try{
-            String accessToken = accessTokenFuture.get();
-            String refreshToken = refreshTokenFuture.get();
-
-            AuthDTO.JwtResponse response = new AuthDTO.JwtResponse(
-                    accessToken,"Bearer", refreshToken, jwtService.getJwtExpiration() / 1000, role
+        // Both tokens are signed concurrently; the scope does not close until both have finished.
+        AuthDTO.JwtResponse response;
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> accessToken = scope.submit(() -> jwtService.generateToken(userDetails));
+            Future<String> refreshToken = scope.submit(() -> jwtService.generateRefreshToken(userDetails));
+            response = new AuthDTO.JwtResponse(
+                    accessToken.get(), "Bearer", refreshToken.get(), jwtService.getJwtExpiration() / 1000, role
             );
-
-            logAuditAsync(ActionType.LOGIN_SUCCESS, EntityType.USER, userEmail,
-                    "Successful login for user: " + userEmail, userEmail);
-
-            return response;
-
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating tokens",e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error generating tokens", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating tokens", e);
         }
 
+        runInBackground(() -> logAudit(ActionType.LOGIN_SUCCESS, EntityType.USER, userEmail,
+                "Successful login for user: " + userEmail, userEmail));
 
-
+        return response;
     }
 
-    @Transactional(timeout = 10)
+    // Not transactional: hashing can queue behind a login burst and must not hold a connection meanwhile.
     public CustomApiResponse<?> registerUser(AuthDTO.RegisterUserRequest requestData) {
         if (userRepository.existsByEmail(requestData.email())) {
             return CustomApiResponse.error("Email already exists");
         }
 
-        Role developerRole =getCachedDeveloperRole();
         String encodedPassword = passwordEncoder.encode(requestData.password());
+        Role developerRole = getDeveloperRole();
         LocalDateTime now = LocalDateTime.now();
 
         User user = User.builder()
@@ -112,59 +113,54 @@ public class AuthService {
         CustomApiResponse<?> response = CustomApiResponse.success("User created successfully", null);
 
 
-        CompletableFuture.runAsync(() -> {
-            createDeveloperProfileAsync(userEmail);
-            logAuditAsync(ActionType.CREATE, EntityType.USER, userId,
+        runInBackground(() -> {
+            createDeveloperProfile(userEmail);
+            logAudit(ActionType.CREATE, EntityType.USER, userId,
                     "New user '" + userEmail + "' registered with ROLE_DEVELOPER.", userEmail);
         });
 
         return response;
     }
 
-    @Cacheable("roles")
-    public Role getCachedDeveloperRole(){
-        if(cachedDeveloperRole == null){
-            synchronized (this){
-                if(cachedDeveloperRole == null){
-                    cachedDeveloperRole = roleRepository.findByName(RoleName.ROLE_DEVELOPER).orElseGet(()->roleRepository.save(
-                            Role.builder().name(RoleName.ROLE_DEVELOPER).build()
-                    ));
-                }
-            }
+    private Role getDeveloperRole() {
+        return roleRepository.findByName(RoleName.ROLE_DEVELOPER)
+                .orElseGet(() -> roleRepository.save(Role.builder().name(RoleName.ROLE_DEVELOPER).build()));
+    }
+
+    /**
+     * Runs follow-up work on the application task executor: virtual threads when
+     * {@code spring.threads.virtual.enabled=true}, otherwise the bounded {@code async-task-} pool.
+     * When that pool is saturated the work runs on the caller rather than being dropped.
+     */
+    private void runInBackground(Runnable work) {
+        try {
+            applicationTaskExecutor.execute(work);
+        } catch (TaskRejectedException e) {
+            work.run();
         }
-        return cachedDeveloperRole;
     }
 
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW, timeout = 30)
-    protected CompletableFuture<Void> createDeveloperProfileAsync(String email){
-        return CompletableFuture.runAsync(() -> {
-            try{
-                if(developerRepository.findByEmail(email).isEmpty()){
-                    Developer developer = Developer.builder()
-                            .name(email.split("@")[0])
-                            .email(email)
-                            .build();
-                    developerRepository.save(developer);
-                }
-            }catch (Exception e){
-                System.out.println("Failed to create developer profile for: " + email + " - " + e.getMessage());
+    private void createDeveloperProfile(String email) {
+        try {
+            if (developerRepository.findByEmail(email).isEmpty()) {
+                Developer developer = Developer.builder()
+                        .name(email.split("@")[0])
+                        .email(email)
+                        .build();
+                developerRepository.save(developer);
             }
-        });
+        } catch (Exception e) {
+            logger.warn("Failed to create developer profile for: {} - {}", email, e.getMessage());
+        }
     }
 
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW, timeout = 15)
-    protected CompletableFuture<Void> logAuditAsync(ActionType actionType, EntityType entityType,
-                                                  String entityId, String description, String performedBy) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                auditLogService.logAudit(actionType, entityType, entityId, description, performedBy);
-            } catch (Exception e) {
-
-                System.err.println("Failed to log audit: " + e.getMessage());
-            }
-        });
+    private void logAudit(ActionType actionType, EntityType entityType,
+                          String entityId, String description, String performedBy) {
+        try {
+            auditLogService.logAudit(actionType, entityType, entityId, description, performedBy);
+        } catch (Exception e) {
+            logger.warn("Failed to log audit: {}", e.getMessage());
+        }
     }
 
     public AuthDTO.UserProfileResponse getUserProfile() {
@@ -5,11 +5,11 @@ import com.buildmaster.projecttracker.model.Role;
 import com.buildmaster.projecttracker.model.User;
 import com.buildmaster.projecttracker.repository.RoleRepository;
 import com.buildmaster.projecttracker.repository.UserRepository;
+import com.buildmaster.projecttracker.security.BoundedPasswordEncoder;
 import com.buildmaster.projecttracker.util.CustomOAuth2User;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -29,7 +29,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final PasswordEncoder passwordEncoder;
 
     @Override
     @Transactional
@@ -64,7 +63,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
             user = User.builder()
                     .email(email)
-                    .password(passwordEncoder.encode("oauth2_dummy_password_" + System.currentTimeMillis()))
+                    .password(BoundedPasswordEncoder.UNUSABLE_PASSWORD)
                     .roles(Collections.singleton(contractorRole))
                     .createdAt(LocalDateTime.now())
                     .updatedAt(LocalDateTime.now())
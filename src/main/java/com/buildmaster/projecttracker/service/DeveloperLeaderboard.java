@@ -0,0 +1,313 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.DeveloperDTO;
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import com.buildmaster.projecttracker.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory ranking of developers by assigned task count, replacing the GROUP BY over all tasks.
+ * <p>
+ * Developers are kept in a set ordered by count (then id), which yields the top N in
+ * O(log n + N), and counted per task count in a Fenwick tree, which yields a developer's rank (one
+ * plus the number of developers with strictly more tasks) in O(log max count). Task transitions and
+ * developer changes are applied once their transaction commits; a periodic reconciliation rebuilds
+ * the ranking from the database, bounding any drift to one interval. Developers changed while it
+ * reads keep their latest state over the rows it read, so those changes are not lost at the swap.
+ */
+@Service
+public class DeveloperLeaderboard {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeveloperLeaderboard.class);
+    private static final int MAX_LIMIT = 100;
+
+    private record Entry(long id, String name, String email, long taskCount) {
+        private static final Comparator<Entry> ORDER =
+                Comparator.comparingLong(Entry::taskCount).reversed().thenComparingLong(Entry::id);
+    }
+
+    /** Number of developers per task count, with prefix sums over counts. */
+    private static final class CountTree {
+        private long[] tree;
+
+        private CountTree(long maxCount) {
+            tree = new long[capacityFor(maxCount) + 1];
+        }
+
+        private void add(long count, long delta) {
+            if (count >= tree.length - 1) {
+                grow(count);
+            }
+            for (int i = (int) count + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /** Developers with a task count of at most {@code count}. */
+        private long atMost(long count) {
+            long sum = 0;
+            for (int i = (int) Math.min(count + 1, tree.length - 1); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        private void grow(long count) {
+            long[] counts = new long[tree.length - 1];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = atMost(i) - (i == 0 ? 0 : atMost(i - 1));
+            }
+            tree = new long[capacityFor(count) + 1];
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    add(i, counts[i]);
+                }
+            }
+        }
+
+        private static int capacityFor(long maxCount) {
+            return Math.toIntExact(Math.max(64, Long.highestOneBit(maxCount + 1) << 1));
+        }
+    }
+
+    private final DeveloperRepository developerRepository;
+    private final Counter driftCounter;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Serializes reconciliations, including the first load, without holding lock over the query.
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private Map<Long, Entry> entries = new HashMap<>();
+    private TreeSet<Entry> ranking = new TreeSet<>(Entry.ORDER);
+    private CountTree countTree = new CountTree(0);
+    private volatile boolean loaded;
+    // Latest entry per developer changed since the current reconciliation started, empty once
+    // removed; null when none is running. Guarded by lock.
+    private Map<Long, Optional<Entry>> changedDuringReconcile;
+
+    public DeveloperLeaderboard(DeveloperRepository developerRepository, MeterRegistry meterRegistry) {
+        this.developerRepository = developerRepository;
+        this.driftCounter = Counter.builder("developers.leaderboard.drift")
+                .description("Developers whose in-memory task count differed from the database at reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The {@code limit} developers with the most assigned tasks, ranked; ties share a rank and are
+     * listed by id.
+     */
+    public List<DeveloperDTO.LeaderboardEntry> top(int limit) {
+        ensureLoaded();
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        List<DeveloperDTO.LeaderboardEntry> top = new ArrayList<>(size);
+        lock.lock();
+        try {
+            Iterator<Entry> iterator = ranking.iterator();
+            while (iterator.hasNext() && top.size() < size) {
+                top.add(toResponse(iterator.next()));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return top;
+    }
+
+    public Optional<DeveloperDTO.LeaderboardEntry> rankOf(Long developerId) {
+        ensureLoaded();
+        lock.lock();
+        try {
+            return Optional.ofNullable(entries.get(developerId)).map(this::toResponse);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies the assignment side of task transitions once the current transaction commits, or
+     * immediately outside one.
+     */
+    public void recordTransitions(Collection<TaskCounterService.TaskTransition> transitions) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (TaskCounterService.TaskTransition transition : transitions) {
+            Long before = transition.before() != null ? transition.before().assignedDeveloperId() : null;
+            Long after = transition.after() != null ? transition.after().assignedDeveloperId() : null;
+            if (Objects.equals(before, after)) {
+                continue;
+            }
+            if (before != null) {
+                deltas.merge(before, -1L, Long::sum);
+            }
+            if (after != null) {
+                deltas.merge(after, 1L, Long::sum);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (!deltas.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> applyDeltas(deltas));
+        }
+    }
+
+    /** Adds a new developer with no tasks, or updates the name and email of an existing one. */
+    public void recordDeveloper(Long id, String name, String email) {
+        TransactionCallbacks.afterCommit(() -> apply(() -> {
+            Entry current = entries.get(id);
+            replace(id, new Entry(id, name, email, current != null ? current.taskCount() : 0));
+        }));
+    }
+
+    public void removeDeveloper(Long id) {
+        TransactionCallbacks.afterCommit(() -> apply(() -> replace(id, null)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.developers.leaderboard.reconcile-interval-ms:300000}",
+            initialDelayString = "${application.developers.leaderboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            lock.lock();
+            try {
+                changedDuringReconcile = new HashMap<>();
+            } finally {
+                lock.unlock();
+            }
+            List<DeveloperDTO.DeveloperTaskCount> counts;
+            try {
+                counts = developerRepository.findAllTaskCounts();
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    changedDuringReconcile = null;
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+            Map<Long, Entry> rebuiltEntries = new HashMap<>(counts.size() * 2);
+            TreeSet<Entry> rebuiltRanking = new TreeSet<>(Entry.ORDER);
+            long maxCount = counts.stream().mapToLong(DeveloperDTO.DeveloperTaskCount::taskCount).max().orElse(0);
+            CountTree rebuiltTree = new CountTree(maxCount);
+            for (DeveloperDTO.DeveloperTaskCount count : counts) {
+                Entry entry = new Entry(count.id(), count.name(), count.email(), count.taskCount());
+                rebuiltEntries.put(entry.id(), entry);
+                rebuiltRanking.add(entry);
+                rebuiltTree.add(entry.taskCount(), 1);
+            }
+
+            lock.lock();
+            try {
+                Map<Long, Entry> previous = entries;
+                Map<Long, Optional<Entry>> changed = changedDuringReconcile;
+                changedDuringReconcile = null;
+                entries = rebuiltEntries;
+                ranking = rebuiltRanking;
+                countTree = rebuiltTree;
+                // The rows read for these developers may predate their change; the latest state wins.
+                changed.forEach((id, latest) -> replace(id, latest.orElse(null)));
+                if (loaded) {
+                    long drifted = drifted(previous, entries);
+                    if (drifted > 0) {
+                        driftCounter.increment(drifted);
+                        logger.warn("Developer leaderboard drifted for {} developers; reconciled", drifted);
+                    }
+                }
+                loaded = true;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /** Developers whose task count differs; a missing developer counts as zero tasks. */
+    private static long drifted(Map<Long, Entry> previous, Map<Long, Entry> reconciled) {
+        Set<Long> ids = new HashSet<>(previous.keySet());
+        ids.addAll(reconciled.keySet());
+        return ids.stream()
+                .filter(id -> taskCount(previous.get(id)) != taskCount(reconciled.get(id)))
+                .count();
+    }
+
+    private static long taskCount(Entry entry) {
+        return entry != null ? entry.taskCount() : 0;
+    }
+
+    private void applyDeltas(Map<Long, Long> deltas) {
+        apply(() -> {
+            for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                Entry current = entries.get(delta.getKey());
+                if (current == null) {
+                    // Created on another replica since the last reconciliation; picked up by the next one.
+                    continue;
+                }
+                replace(current.id(), new Entry(current.id(), current.name(), current.email(),
+                        Math.max(0, current.taskCount() + delta.getValue())));
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        lock.lock();
+        try {
+            change.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Swaps one developer's entry, recording the new state while a reconciliation is reading. */
+    private void replace(long id, Entry updated) {
+        if (changedDuringReconcile != null) {
+            changedDuringReconcile.put(id, Optional.ofNullable(updated));
+        }
+        Entry current = entries.get(id);
+        if (current != null) {
+            ranking.remove(current);
+            countTree.add(current.taskCount(), -1);
+            entries.remove(current.id());
+        }
+        if (updated != null) {
+            ranking.add(updated);
+            countTree.add(updated.taskCount(), 1);
+            entries.put(updated.id(), updated);
+        }
+    }
+
+    private DeveloperDTO.LeaderboardEntry toResponse(Entry entry) {
+        long rank = entries.size() - countTree.atMost(entry.taskCount()) + 1;
+        return new DeveloperDTO.LeaderboardEntry(rank, entry.id(), entry.name(), entry.email(), entry.taskCount());
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reconcileLock.lock();
+            try {
+                if (!loaded) {
+                    reconcile();
+                }
+            } finally {
+                reconcileLock.unlock();
+            }
+        }
+    }
+}
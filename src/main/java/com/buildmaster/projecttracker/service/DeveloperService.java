@@ -1,24 +1,25 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.cache.CacheDependencyTracker;
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
 import com.buildmaster.projecttracker.dto.CustomApiResponse;
 import com.buildmaster.projecttracker.dto.DeveloperDTO;
 import com.buildmaster.projecttracker.enums.ActionType;
 import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.enums.SkillMatchMode;
 import com.buildmaster.projecttracker.exception.ResourceNotFoundException;
 import com.buildmaster.projecttracker.mapper.DeveloperMapper;
 import com.buildmaster.projecttracker.model.Developer;
 import com.buildmaster.projecttracker.repository.DeveloperRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -27,20 +28,33 @@ public class DeveloperService {
     private final DeveloperRepository developerRepository;
     private final DeveloperMapper developerMapper;
     private final AuditLogService auditLogService;
+    private final CacheDependencyTracker cacheDependencyTracker;
+    private final DeveloperLeaderboard developerLeaderboard;
+    private final DeveloperSkillIndex developerSkillIndex;
 
     @Cacheable(value="allDevelopers")
     public CustomApiResponse<Page<DeveloperDTO.DeveloperSummaryResponse>> getAllDevelopers(Pageable pageable) {
         Page<DeveloperDTO.DeveloperSummaryResponse> response = developerRepository.findAll(pageable).map(developerMapper::toDeveloperSummaryResponse);
+        List<String> dependencies = new ArrayList<>();
+        dependencies.add(CacheDependencyTracker.membership("developer"));
+        if (pageable.getSort().isSorted()) {
+            dependencies.add(CacheDependencyTracker.ordering("developer"));
+        }
+        response.forEach(developer -> dependencies.add(CacheDependencyTracker.developer(developer.id())));
+        cacheDependencyTracker.register("allDevelopers", pageable, dependencies);
         return CustomApiResponse.success("Developers List", response);
     }
 
     @Transactional
-    @CacheEvict(value = "allDevelopers")
     public CustomApiResponse<DeveloperDTO.DeveloperResponse> createDeveloper(DeveloperDTO.DeveloperRequest request) {
         Developer developer = developerMapper.toDeveloperEntity(request);
         Developer savedDeveloper = developerRepository.save(developer);
+        cacheDependencyTracker.invalidate(CacheDependencyTracker.membership("developer"));
+        developerLeaderboard.recordDeveloper(savedDeveloper.getId(), savedDeveloper.getName(), savedDeveloper.getEmail());
+        developerSkillIndex.recordDeveloper(savedDeveloper.getId(), savedDeveloper.getSkills());
         DeveloperDTO.DeveloperResponse response = developerMapper.toDeveloperResponse(savedDeveloper);
-        auditLogService.logAudit(ActionType.CREATE, EntityType.DEVELOPER, savedDeveloper.getId().toString(), "system", savedDeveloper);
+        auditLogService.logAudit(ActionType.CREATE, EntityType.DEVELOPER, savedDeveloper.getId().toString(), "system",
+                AuditLogDTO.AuditDeveloperInfo.from(savedDeveloper));
         return CustomApiResponse.success("Developer created", response);
     }
 
@@ -48,50 +62,55 @@ public class DeveloperService {
     public CustomApiResponse<DeveloperDTO.DeveloperResponse> getDeleveloperById(Long id){
         Developer developer = developerRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + id));
         DeveloperDTO.DeveloperResponse response = developerMapper.toDeveloperResponse(developer);
+        cacheDependencyTracker.register("developers", id, List.of(CacheDependencyTracker.developer(id)));
         return CustomApiResponse.success("Developer details", response);
     }
 
 
     @Transactional
-    @Caching(
-            evict = {
-                @CacheEvict(value="developers", key="#id"),
-                @CacheEvict(value="allDevelopers")
-            }
-    )
     public CustomApiResponse<DeveloperDTO.DeveloperResponse> updateDeveloper(Long id, DeveloperDTO.DeveloperRequest request) {
         Developer developer = developerRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + id));
+        AuditLogDTO.AuditDeveloperInfo before = AuditLogDTO.AuditDeveloperInfo.from(developer);
         developerMapper.updateEntity(developer, request);
         Developer updatedDeveloper = developerRepository.save(developer);
+        cacheDependencyTracker.invalidate(CacheDependencyTracker.developer(id), CacheDependencyTracker.ordering("developer"));
+        developerLeaderboard.recordDeveloper(id, updatedDeveloper.getName(), updatedDeveloper.getEmail());
+        developerSkillIndex.recordDeveloper(id, updatedDeveloper.getSkills());
         DeveloperDTO.DeveloperResponse response = developerMapper.toDeveloperResponse(updatedDeveloper);
-        auditLogService.logAudit(ActionType.UPDATE, EntityType.DEVELOPER, updatedDeveloper.getId().toString(), "system", response);
+        auditLogService.logAuditChange(ActionType.UPDATE, EntityType.DEVELOPER, updatedDeveloper.getId().toString(), "system",
+                before, AuditLogDTO.AuditDeveloperInfo.from(updatedDeveloper));
         return CustomApiResponse.success("Developer updated", response);
     }
 
     @Transactional
-    @Caching(
-            evict = {
-                    @CacheEvict(value="developers", key="#id"),
-                    @CacheEvict(value={"allDevelopers","topDevelopers"} , allEntries = true)
-            }
-    )
     public CustomApiResponse<Void> deleteDeveloper(Long id) {
         Developer developer = developerRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + id));
         developerRepository.delete(developer);
+        cacheDependencyTracker.invalidate(CacheDependencyTracker.developer(id), CacheDependencyTracker.membership("developer"));
+        developerLeaderboard.removeDeveloper(id);
+        developerSkillIndex.removeDeveloper(id);
         auditLogService.logAudit(ActionType.UPDATE, EntityType.DEVELOPER, developer.getId().toString(), "system", null);
         return CustomApiResponse.success("Developer deleted", null);
     }
 
-    @Cacheable(value = "topDevelopers")
     public CustomApiResponse<List<DeveloperDTO.DeveloperSummaryResponse>> getTop5DevelopersWithMostTasks() {
-        List<DeveloperDTO.DeveloperSummaryResponse> developers =  developerRepository.findTop5DevelopersWithMostTasks().stream()
-                .map(obj -> new DeveloperDTO.DeveloperSummaryResponse(
-                        (Long) obj[0],
-                        (String) obj[1],
-                        (String) obj[2]
-                )).collect(Collectors.toList());
+        List<DeveloperDTO.DeveloperSummaryResponse> developers = developerLeaderboard.top(5).stream()
+                .map(entry -> new DeveloperDTO.DeveloperSummaryResponse(entry.id(), entry.name(), entry.email()))
+                .toList();
         return CustomApiResponse.success("Top 5 developers with most tasks", developers);
     }
 
+    public CustomApiResponse<List<DeveloperDTO.LeaderboardEntry>> getLeaderboard(int limit) {
+        return CustomApiResponse.success("Developer leaderboard", developerLeaderboard.top(limit));
+    }
+
+    public CustomApiResponse<List<DeveloperDTO.SkillMatch>> searchBySkills(List<String> skills, SkillMatchMode match, int limit) {
+        return CustomApiResponse.success("Developers matching skills", developerSkillIndex.search(skills, match, limit));
+    }
 
+    public CustomApiResponse<DeveloperDTO.LeaderboardEntry> getLeaderboardEntry(Long id) {
+        DeveloperDTO.LeaderboardEntry entry = developerLeaderboard.rankOf(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + id));
+        return CustomApiResponse.success("Developer rank", entry);
+    }
 }
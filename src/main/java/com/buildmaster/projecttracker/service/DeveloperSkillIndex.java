@@ -0,0 +1,280 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.DeveloperDTO;
+import com.buildmaster.projecttracker.enums.SkillMatchMode;
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import com.buildmaster.projecttracker.util.TransactionCallbacks;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index from skill to the developers who have it, as compressed bitmaps of developer ids,
+ * so a skill query is a bitmap AND or OR instead of loading every developer with their skills.
+ * <p>
+ * Skills are matched case-insensitively. The index is rebuilt from one streamed query at startup
+ * and on a long interval, and developer changes are applied once their transaction commits; the
+ * latest skills of developers changed while a rebuild reads are applied to the rebuilt index before
+ * it is swapped in.
+ * Matches are ranked by open task load, lightest first, from {@link TaskCounterService}.
+ */
+@Service
+public class DeveloperSkillIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeveloperSkillIndex.class);
+    private static final int MAX_LIMIT = 100;
+
+    private record Candidate(long id, long openTasks) {
+        private static final Comparator<Candidate> LIGHTEST_FIRST =
+                Comparator.comparingLong(Candidate::openTasks).thenComparingLong(Candidate::id);
+    }
+
+    private final DeveloperRepository developerRepository;
+    private final TaskCounterService taskCounterService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serializes rebuilds, including the first load, without holding the write lock over the query.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Map<String, Roaring64NavigableMap> developersBySkill = new HashMap<>();
+    private Map<Long, Set<String>> skillsByDeveloper = new HashMap<>();
+    private volatile boolean loaded;
+    // Latest skills per developer changed since the current rebuild started, empty once removed;
+    // null when no rebuild is running. Guarded by the write lock.
+    private Map<Long, Optional<Set<String>>> changedDuringRebuild;
+
+    public DeveloperSkillIndex(DeveloperRepository developerRepository, TaskCounterService taskCounterService,
+                               PlatformTransactionManager transactionManager) {
+        this.developerRepository = developerRepository;
+        this.taskCounterService = taskCounterService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Developers with all ({@link SkillMatchMode#ALL}) or any ({@link SkillMatchMode#ANY}) of the
+     * skills, fewest open tasks first.
+     */
+    public List<DeveloperDTO.SkillMatch> search(Collection<String> skills, SkillMatchMode mode, int limit) {
+        ensureLoaded();
+        Set<String> wanted = skills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .map(DeveloperSkillIndex::normalize)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (wanted.isEmpty()) {
+            return List.of();
+        }
+
+        Roaring64NavigableMap matched;
+        Map<Long, Set<String>> matchedSkills = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            matched = match(wanted, mode);
+            matched.forEach(id -> matchedSkills.put(id, Set.copyOf(skillsByDeveloper.getOrDefault(id, Set.of()))));
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+
+        List<Candidate> candidates = new ArrayList<>((int) matched.getLongCardinality());
+        matched.forEach(id -> candidates.add(new Candidate(id, taskCounterService.openTaskCount(id))));
+        List<Candidate> ranked = candidates.stream()
+                .sorted(Candidate.LIGHTEST_FIRST)
+                .limit(Math.clamp(limit, 1, MAX_LIMIT))
+                .toList();
+        Map<Long, DeveloperDTO.DeveloperSummaryResponse> developers = developerRepository
+                .findAllById(ranked.stream().map(Candidate::id).toList()).stream()
+                .map(developer -> new DeveloperDTO.DeveloperSummaryResponse(developer.getId(), developer.getName(), developer.getEmail()))
+                .collect(Collectors.toMap(DeveloperDTO.DeveloperSummaryResponse::id, Function.identity()));
+        List<DeveloperDTO.SkillMatch> matches = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            DeveloperDTO.DeveloperSummaryResponse developer = developers.get(candidate.id());
+            // Deleted since the index was read; the removal is applied after its commit.
+            if (developer != null) {
+                matches.add(new DeveloperDTO.SkillMatch(developer.id(), developer.name(), developer.email(),
+                        matchedSkills.get(candidate.id()), candidate.openTasks()));
+            }
+        }
+        return matches;
+    }
+
+    /** Replaces a developer's skills in the index once the current transaction commits. */
+    public void recordDeveloper(Long developerId, Collection<String> skills) {
+        Set<String> normalized = skills == null ? Set.of() : skills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .map(DeveloperSkillIndex::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+        TransactionCallbacks.afterCommit(() -> replace(developerId, Optional.of(normalized)));
+    }
+
+    public void removeDeveloper(Long developerId) {
+        TransactionCallbacks.afterCommit(() -> replace(developerId, Optional.empty()));
+    }
+
+    private void replace(long developerId, Optional<Set<String>> skills) {
+        lock.writeLock().lock();
+        try {
+            unindex(developersBySkill, skillsByDeveloper, developerId);
+            skills.ifPresent(latest -> index(developersBySkill, skillsByDeveloper, developerId, latest));
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(developerId, skills);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database and swaps it in; repairs any change applied on another
+     * replica or lost between a commit and its callback.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.developers.skills.rebuild-interval-ms:3600000}",
+            initialDelayString = "${application.developers.skills.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long started = System.nanoTime();
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Map<String, Roaring64NavigableMap> rebuiltBySkill = new HashMap<>();
+            Map<Long, Set<String>> rebuiltByDeveloper = new HashMap<>();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<DeveloperDTO.DeveloperSkill> rows = developerRepository.streamAllSkills()) {
+                        rows.forEach(row -> index(rebuiltBySkill, rebuiltByDeveloper, row.developerId(), Set.of(normalize(row.skill()))));
+                    }
+                });
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    changedDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            rebuiltBySkill.values().forEach(Roaring64NavigableMap::runOptimize);
+
+            lock.writeLock().lock();
+            try {
+                // The rows read for these developers may predate their change; the latest skills win.
+                changedDuringRebuild.forEach((developerId, skills) -> {
+                    unindex(rebuiltBySkill, rebuiltByDeveloper, developerId);
+                    skills.ifPresent(latest -> index(rebuiltBySkill, rebuiltByDeveloper, developerId, latest));
+                });
+                changedDuringRebuild = null;
+                developersBySkill = rebuiltBySkill;
+                skillsByDeveloper = rebuiltByDeveloper;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.debug("Indexed {} skills of {} developers in {} ms", rebuiltBySkill.size(), rebuiltByDeveloper.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Roaring64NavigableMap match(Set<String> skills, SkillMatchMode mode) {
+        Roaring64NavigableMap result = new Roaring64NavigableMap();
+        if (mode == SkillMatchMode.ANY) {
+            skills.forEach(skill -> {
+                Roaring64NavigableMap developers = developersBySkill.get(skill);
+                if (developers != null) {
+                    result.or(developers);
+                }
+            });
+            return result;
+        }
+        // Smallest first, so the intersection shrinks as early as possible.
+        List<Roaring64NavigableMap> bitmaps = new ArrayList<>(skills.size());
+        for (String skill : skills) {
+            Roaring64NavigableMap developers = developersBySkill.get(skill);
+            if (developers == null) {
+                return result;
+            }
+            bitmaps.add(developers);
+        }
+        bitmaps.sort(Comparator.comparingLong(Roaring64NavigableMap::getLongCardinality));
+        result.or(bitmaps.getFirst());
+        for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+            result.and(bitmaps.get(i));
+        }
+        return result;
+    }
+
+    private static void index(Map<String, Roaring64NavigableMap> bySkill, Map<Long, Set<String>> byDeveloper,
+                              long developerId, Set<String> skills) {
+        if (skills.isEmpty()) {
+            return;
+        }
+        for (String skill : skills) {
+            bySkill.computeIfAbsent(skill, s -> new Roaring64NavigableMap()).addLong(developerId);
+        }
+        byDeveloper.computeIfAbsent(developerId, id -> new HashSet<>()).addAll(skills);
+    }
+
+    private static void unindex(Map<String, Roaring64NavigableMap> bySkill, Map<Long, Set<String>> byDeveloper,
+                                long developerId) {
+        Set<String> previous = byDeveloper.remove(developerId);
+        if (previous == null) {
+            return;
+        }
+        for (String skill : previous) {
+            Roaring64NavigableMap developers = bySkill.get(skill);
+            if (developers != null) {
+                developers.removeLong(developerId);
+                if (developers.isEmpty()) {
+                    bySkill.remove(skill);
+                }
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuildLock.lock();
+            try {
+                if (!loaded) {
+                    rebuild();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+    }
+}
@@ -1,51 +1,194 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.email.EmailDispatcher;
+import com.buildmaster.projecttracker.email.EmailMessage;
+import com.buildmaster.projecttracker.email.EmailTemplate;
 import com.buildmaster.projecttracker.event.TaskAssignedEvent;
-import com.buildmaster.projecttracker.model.Developer;
-import com.buildmaster.projecttracker.model.Task;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
+import com.buildmaster.projecttracker.repository.OutboxEventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns task assignments into emails. Assignments are collected per recipient for a digest window
+ * that opens with the first one; when it closes the recipient gets one email, the single-task
+ * template for one assignment or a digest listing all of them. Rendered emails go to the
+ * {@link EmailDispatcher}; if its queue is full the assignments stay buffered until the next flush.
+ * <p>
+ * Idempotency keys accepted within the last hour are remembered, so an outbox event redelivered
+ * after a failed commit does not add the task to a digest twice. Buffered assignments live in
+ * memory, so their outbox events stay pending until the email is sent and only then are marked
+ * processed; events lost with the process are redelivered by the relay once their lease runs out.
+ * An email the dispatcher gives up on marks its events failed.
+ */
 @Service
 public class EmailNotificationService {
-    @EventListener
-    @Async
-    public void handleTaskAssignedEvent(TaskAssignedEvent event) {
-        Task task = event.getTask();
-        Developer assignedDeveloper = task.getAssignedDeveloper();
-
-        if(assignedDeveloper == null) {
-            return;
-        }
-
-        System.out.println("\n--- Sending Email Notification for task assignment ---");
-        String recipientEmail = assignedDeveloper.getEmail();
-        String subject = String.format("New Task Assignment: '%s' (Project: %s)", task.getTitle(), task.getProject().getName());
-        String text = String.format(
-                "Dear %s,\n\n" +
-                        "A new task has been assigned to you:\n\n" +
-                        "Task Title: %s\n" +
-                        "Description: %s\n" +
-                        "Project: %s\n" +
-                        "Due Date: %s\n" +
-                        "Status: %s\n\n" +
-                        "Please log in to the Project Tracker to view details and update your progress.\n\n" +
-                        "Regards,\n" +
-                        "BuildMaster Project Tracker Bot",
-                assignedDeveloper.getName(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getProject().getName(),
-                task.getDueDate(),
-                task.getStatus()
-        );
-
-        System.out.println("Subject: " + subject);
-        System.out.println("To: " + recipientEmail);
-        System.out.println("From: " + "fromEmail");
-        System.out.println("Body:\n" + text);
-        System.out.println("---------------------------------------------------\n");
 
+    private static final Logger logger = LoggerFactory.getLogger(EmailNotificationService.class);
+
+    private static final class Digest {
+        private final long flushAt;
+        private final List<TaskAssignedEvent> events = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<Long> outboxEventIds = new ArrayList<>();
+
+        private Digest(long flushAt) {
+            this.flushAt = flushAt;
+        }
+
+        private Digest add(TaskAssignedEvent event, String key, Long outboxEventId) {
+            events.add(event);
+            keys.add(key);
+            if (outboxEventId != null) {
+                outboxEventIds.add(outboxEventId);
+            }
+            return this;
+        }
+
+        private Digest addAll(Digest other) {
+            events.addAll(other.events);
+            keys.addAll(other.keys);
+            outboxEventIds.addAll(other.outboxEventIds);
+            return this;
+        }
+    }
+
+    private final EmailDispatcher emailDispatcher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final EmailTemplate.Email assignedTemplate = EmailTemplate.load("task-assigned");
+    private final EmailTemplate.Email digestTemplate = EmailTemplate.load("task-digest");
+    private final EmailTemplate digestItemTemplate = EmailTemplate.loadFragment("task-digest-item");
+    private final long windowNanos;
+    private final Map<String, Digest> digests = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> acceptedKeys = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(100_000)
+            .build();
+    private final Counter coalescedCounter;
+
+    public EmailNotificationService(EmailDispatcher emailDispatcher,
+                                    OutboxEventRepository outboxEventRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${application.email.digest-window:60s}") Duration digestWindow) {
+        this.emailDispatcher = emailDispatcher;
+        this.outboxEventRepository = outboxEventRepository;
+        this.windowNanos = digestWindow.toNanos();
+        Gauge.builder("email.digest.pending", digests, pending -> pending.values().stream().mapToInt(d -> d.events.size()).sum())
+                .description("Task assignments waiting for their recipient's digest window to close")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("email.coalesced")
+                .description("Task assignments folded into another assignment's email instead of sent separately")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds the assignment to its recipient's digest and returns whether it was new. Called by the
+     * outbox relay; the idempotency key is stable across redeliveries of the same event, and the
+     * event is marked processed once its email is sent.
+     */
+    public boolean sendTaskAssignedEmail(TaskAssignedEvent event, String idempotencyKey, Long outboxEventId) {
+        if (acceptedKeys.asMap().putIfAbsent(idempotencyKey, Boolean.TRUE) != null) {
+            return false;
+        }
+        long flushAt = System.nanoTime() + windowNanos;
+        digests.compute(event.developerEmail(), (recipient, digest) ->
+                (digest != null ? digest : new Digest(flushAt)).add(event, idempotencyKey, outboxEventId));
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${application.email.digest-flush-interval-ms:1000}")
+    public void flushDigests() {
+        flush(false);
+    }
+
+    /**
+     * Hands every open digest to the dispatcher and waits for it to drain, while the repository
+     * its callbacks use is still available.
+     */
+    @PreDestroy
+    public void flushAll() throws InterruptedException {
+        flush(true);
+        emailDispatcher.stop();
+    }
+
+    private void flush(boolean all) {
+        long now = System.nanoTime();
+        for (String recipient : digests.keySet()) {
+            Digest[] due = new Digest[1];
+            digests.computeIfPresent(recipient, (r, digest) -> {
+                if (all || digest.flushAt - now <= 0) {
+                    due[0] = digest;
+                    return null;
+                }
+                return digest;
+            });
+            if (due[0] == null) {
+                continue;
+            }
+            Digest digest = due[0];
+            if (emailDispatcher.dispatch(render(recipient, digest), () -> sent(digest), () -> dropped(digest))) {
+                coalescedCounter.increment(digest.events.size() - 1);
+            } else {
+                logger.warn("Email queue full; keeping {} assignments for {} until the next flush", due[0].events.size(), recipient);
+                digests.merge(recipient, due[0], (newer, returned) -> returned.addAll(newer));
+            }
+        }
+    }
+
+    private void sent(Digest digest) {
+        if (!digest.outboxEventIds.isEmpty()) {
+            outboxEventRepository.markProcessed(digest.outboxEventIds, LocalDateTime.now());
+        }
+    }
+
+    private void dropped(Digest digest) {
+        if (!digest.outboxEventIds.isEmpty()) {
+            outboxEventRepository.markFailed(digest.outboxEventIds, "Email dropped after the maximum number of send attempts");
+        }
+    }
+
+    private EmailMessage render(String recipient, Digest digest) {
+        TaskAssignedEvent first = digest.events.getFirst();
+        String messageId = digest.keys.getFirst().replace(':', '.') + "@projecttracker";
+        if (digest.events.size() == 1) {
+            Map<String, Object> values = Map.of(
+                    "name", first.developerName(),
+                    "title", first.title(),
+                    "description", first.description(),
+                    "project", first.projectName(),
+                    "dueDate", String.valueOf(first.dueDate()),
+                    "status", first.status());
+            return new EmailMessage(recipient, assignedTemplate.subject().render(values), assignedTemplate.body().render(values), messageId);
+        }
+
+        StringBuilder tasks = new StringBuilder(64 * digest.events.size());
+        for (TaskAssignedEvent event : digest.events) {
+            digestItemTemplate.renderTo(tasks, Map.of(
+                    "title", event.title(),
+                    "project", event.projectName(),
+                    "dueDate", String.valueOf(event.dueDate()),
+                    "status", event.status()));
+        }
+        Map<String, Object> values = Map.of(
+                "name", first.developerName(),
+                "count", digest.events.size(),
+                "tasks", tasks);
+        return new EmailMessage(recipient, digestTemplate.subject().render(values), digestTemplate.body().render(values),
+                "digest." + digest.events.size() + "." + messageId);
     }
 }
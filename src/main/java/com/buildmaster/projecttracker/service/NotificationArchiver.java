@@ -0,0 +1,129 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.model.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Retention for the {@code notifications} collection. Read notifications are moved to
+ * {@value #ARCHIVE_COLLECTION} once they have been read for {@code archive-after}, in batches of
+ * one unordered bulk insert and one delete by id; a TTL index on the archive removes them for good
+ * {@code archive-ttl} after they were created. Unread notifications are never archived, so the
+ * inbox and its unread counters are unaffected.
+ */
+@Component
+public class NotificationArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationArchiver.class);
+    private static final int DUPLICATE_KEY = 11000;
+    static final String ARCHIVE_COLLECTION = "notifications_archive";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration archiveAfter;
+    private final Duration archiveTtl;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter archivedCounter;
+
+    public NotificationArchiver(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                                @Value("${application.notifications.retention.archive-after:30d}") Duration archiveAfter,
+                                @Value("${application.notifications.retention.archive-ttl:365d}") Duration archiveTtl,
+                                @Value("${application.notifications.retention.batch-size:1000}") int batchSize,
+                                @Value("${application.notifications.retention.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.mongoTemplate = mongoTemplate;
+        this.archiveAfter = archiveAfter;
+        this.archiveTtl = archiveTtl;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.archivedCounter = Counter.builder("notifications.archived")
+                .description("Read notifications moved to the archive collection")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A partial index over read notifications by read time, which the archiver scans, and the TTL
+     * index that expires the archive.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(Notification.class).createIndex(new Index()
+                    .on("readAt", Sort.Direction.ASC)
+                    .named("read_readAt")
+                    .partial(PartialIndexFilter.of(Criteria.where("read").is(true))));
+            mongoTemplate.indexOps(ARCHIVE_COLLECTION).createIndex(new Index()
+                    .on("timestamp", Sort.Direction.ASC)
+                    .named("timestamp_ttl")
+                    .expire(archiveTtl));
+        } catch (Exception e) {
+            logger.warn("Could not ensure notification retention indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archives read notifications past the retention window, at most {@code max-batches-per-run}
+     * batches per run so one run stays short; the rest waits for the next run.
+     */
+    @Scheduled(fixedDelayString = "${application.notifications.retention.interval-ms:3600000}",
+            initialDelayString = "${application.notifications.retention.interval-ms:3600000}")
+    public void archiveRead() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveAfter);
+        long archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = archiveBatch(cutoff);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            logger.info("Archived {} read notifications read before {}", archived, cutoff);
+        }
+    }
+
+    int archiveBatch(LocalDateTime cutoff) {
+        // Notifications read before readAt was recorded fall back to their creation time.
+        Criteria due = new Criteria().andOperator(
+                Criteria.where("read").is(true),
+                new Criteria().orOperator(
+                        Criteria.where("readAt").lt(cutoff),
+                        new Criteria().andOperator(Criteria.where("readAt").is(null), Criteria.where("timestamp").lt(cutoff))));
+        List<Notification> notifications = mongoTemplate.find(new Query(due).limit(batchSize), Notification.class);
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class, ARCHIVE_COLLECTION)
+                    .insert(notifications)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // Already archived by a run that stopped before deleting; the delete below finishes it.
+            if (!e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+        List<String> ids = notifications.stream().map(Notification::getId).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), Notification.class);
+        archivedCounter.increment(notifications.size());
+        return notifications.size();
+    }
+}
@@ -0,0 +1,144 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.NotificationDTO;
+import com.buildmaster.projecttracker.exception.ResourceNotFoundException;
+import com.buildmaster.projecttracker.model.Notification;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delivers one logical notification to many recipients. The request only resolves the recipients;
+ * the documents are written on the application task executor, in chunks, each chunk one unordered
+ * bulk insert. Every copy carries an idempotency key derived from the broadcast id and recipient,
+ * so a failed chunk is retried whole without duplicating the copies that did land.
+ */
+@Service
+public class NotificationFanoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanoutService.class);
+    static final String PROJECT_BROADCAST = "PROJECT_BROADCAST";
+
+    private final NotificationService notificationService;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Timer fanoutTimer;
+
+    public NotificationFanoutService(NotificationService notificationService,
+                                     ProjectRepository projectRepository,
+                                     TaskRepository taskRepository,
+                                     @Qualifier("applicationTaskExecutor") AsyncTaskExecutor applicationTaskExecutor,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${application.notifications.fanout.chunk-size:1000}") int chunkSize,
+                                     @Value("${application.notifications.fanout.max-attempts:3}") int maxAttempts) {
+        this.notificationService = notificationService;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+        this.deliveredCounter = Counter.builder("notifications.fanout.delivered")
+                .description("Notification copies written by broadcasts")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notifications.fanout.failed")
+                .description("Notification copies dropped after every attempt failed")
+                .register(meterRegistry);
+        this.fanoutTimer = Timer.builder("notifications.fanout")
+                .description("Time to write all copies of one broadcast")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Notifies every developer assigned to a task in the project.
+     *
+     * @throws ResourceNotFoundException if the project does not exist.
+     */
+    public NotificationDTO.BroadcastResult broadcastToProject(Long projectId, String message) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        List<String> recipients = taskRepository.findAssignedDeveloperEmails(projectId);
+        return broadcast(recipients, message, PROJECT_BROADCAST, projectId, "Project");
+    }
+
+    /**
+     * Accepts a notification for a set of recipients and writes the copies in the background.
+     * Duplicate recipients receive one copy.
+     */
+    public NotificationDTO.BroadcastResult broadcast(Collection<String> recipients, String message, String type,
+                                                     Long entityId, String entityType) {
+        String broadcastId = UUID.randomUUID().toString();
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(recipients));
+        if (!distinct.isEmpty()) {
+            runInBackground(() -> fanOut(broadcastId, distinct, message, type, entityId, entityType));
+        }
+        logger.info("Accepted broadcast {} to {} recipients", broadcastId, distinct.size());
+        return new NotificationDTO.BroadcastResult(broadcastId, distinct.size());
+    }
+
+    void fanOut(String broadcastId, List<String> recipients, String message, String type, Long entityId, String entityType) {
+        Timer.Sample sample = Timer.start();
+        for (int from = 0; from < recipients.size(); from += chunkSize) {
+            List<String> chunk = recipients.subList(from, Math.min(from + chunkSize, recipients.size()));
+            writeChunk(broadcastId, chunk, message, type, entityId, entityType);
+        }
+        long nanos = sample.stop(fanoutTimer);
+        logger.info("Broadcast {} written to {} recipients in {} ms", broadcastId, recipients.size(), nanos / 1_000_000);
+    }
+
+    private void writeChunk(String broadcastId, List<String> chunk, String message, String type, Long entityId, String entityType) {
+        for (int attempt = 1; ; attempt++) {
+            // Rebuilt per attempt: a copy from the failed attempt may already carry an id that landed.
+            List<Notification> notifications = new ArrayList<>(chunk.size());
+            for (String recipient : chunk) {
+                Notification notification = notificationService.buildNotification(recipient, message, type, entityId, entityType);
+                notification.setIdempotencyKey("broadcast:" + broadcastId + ":" + recipient);
+                notifications.add(notification);
+            }
+            try {
+                notificationService.createNotificationsIdempotent(notifications);
+                deliveredCounter.increment(chunk.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    failedCounter.increment(chunk.size());
+                    logger.error("Giving up on {} recipients of broadcast {} after {} attempts", chunk.size(), broadcastId, attempt, e);
+                    return;
+                }
+                logger.warn("Retrying {} recipients of broadcast {} (attempt {}): {}", chunk.size(), broadcastId, attempt, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Same policy as the other follow-up work: the application task executor, or the caller when
+     * that executor is saturated.
+     */
+    private void runInBackground(Runnable work) {
+        try {
+            applicationTaskExecutor.execute(work);
+        } catch (TaskRejectedException e) {
+            work.run();
+        }
+    }
+}
@@ -1,27 +1,72 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.dto.NotificationDTO;
 import com.buildmaster.projecttracker.exception.ResourceNotFoundException;
 import com.buildmaster.projecttracker.model.Notification;
 import com.buildmaster.projecttracker.repository.NotificationRepository;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp", "id");
     private final NotificationRepository notificationRepository;
+    private final MongoTemplate mongoTemplate;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationStreamService notificationStreams;
+
+    /**
+     * Creates the indexes declared on {@link Notification}; the hand-built MongoTemplate does not
+     * create them on its own, and the unique idempotency key index is what makes redelivery safe.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOperations = mongoTemplate.indexOps(Notification.class);
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(Notification.class)
+                    .forEach(indexOperations::createIndex);
+        } catch (Exception e) {
+            logger.warn("Could not ensure notification indexes: {}", e.getMessage());
+        }
+    }
 
     private String getCurrentUserEmail() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -43,7 +88,18 @@ public class NotificationService {
      * @return The created Notification object.
      */
     public Notification createNotification(String recipientEmail, String message, String type, Long entityId, String entityType) {
-        Notification notification = Notification.builder()
+        Notification savedNotification = notificationRepository.save(buildNotification(recipientEmail, message, type, entityId, entityType));
+        unreadCounter.add(recipientEmail, 1);
+        notificationStreams.publish(List.of(savedNotification));
+        logger.info("Created notification for {}: {}", recipientEmail, message);
+        return savedNotification;
+    }
+
+    /**
+     * Builds an unsaved notification, for callers that collect several and save them with {@link #createNotifications}.
+     */
+    public Notification buildNotification(String recipientEmail, String message, String type, Long entityId, String entityType) {
+        return Notification.builder()
                 .recipientEmail(recipientEmail)
                 .message(message)
                 .notificationType(type)
@@ -52,38 +108,152 @@ public class NotificationService {
                 .timestamp(LocalDateTime.now())
                 .read(false)
                 .build();
-        Notification savedNotification = notificationRepository.save(notification);
-        logger.info("Created notification for {}: {}", recipientEmail, message);
-        return savedNotification;
     }
 
+    /**
+     * Saves several notifications in a single bulk insert.
+     *
+     * @param notifications Notifications built with {@link #buildNotification}.
+     * @return The saved notifications.
+     */
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
+        unreadCounter.addAll(unreadByRecipient(savedNotifications, Set.of()));
+        notificationStreams.publish(savedNotifications);
+        logger.info("Created {} notifications", savedNotifications.size());
+        return savedNotifications;
+    }
 
-    public List<Notification> getNotificationsForUser() {
-        String currentUserEmail = getCurrentUserEmail();
-        return notificationRepository.findByRecipientEmailOrderByTimestampDesc(currentUserEmail);
+    /**
+     * Inserts notifications carrying an idempotency key as one unordered bulk write. Notifications
+     * whose key is already stored are skipped, so redelivering the same batch is harmless; any
+     * other write error is rethrown.
+     */
+    public void createNotificationsIdempotent(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        // Bulk inserts do not write generated ids back, and pushed notifications need theirs.
+        notifications.stream()
+                .filter(notification -> notification.getId() == null)
+                .forEach(notification -> notification.setId(ObjectId.get().toHexString()));
+        Set<Integer> skipped = Set.of();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class)
+                    .insert(notifications)
+                    .execute();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+            skipped = e.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+            logger.debug("Skipped {} already delivered notifications", skipped.size());
+        }
+        unreadCounter.addAll(unreadByRecipient(notifications, skipped));
+        Set<Integer> duplicates = skipped;
+        notificationStreams.publish(IntStream.range(0, notifications.size())
+                .filter(i -> !duplicates.contains(i))
+                .mapToObj(notifications::get)
+                .toList());
     }
 
+    /**
+     * Opens a push stream of the current user's new notifications.
+     *
+     * @param lastEventId Id of the last notification the client received, to replay what it missed.
+     */
+    public SseEmitter openStream(String lastEventId) {
+        return notificationStreams.subscribe(getCurrentUserEmail(), lastEventId);
+    }
 
-    public List<Notification> getUnreadNotificationsForUser() {
+    /**
+     * Unread notifications per recipient among {@code notifications}, leaving out the given positions.
+     */
+    private static Map<String, Long> unreadByRecipient(List<Notification> notifications, Set<Integer> skipped) {
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            if (!skipped.contains(i) && !notification.isRead()) {
+                counts.merge(notification.getRecipientEmail(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * One page of the current user's notifications, newest first, optionally unread only. The cursor
+     * is the (timestamp, id) of the last row of the previous page, so each page is a bounded range
+     * scan of the (recipientEmail[, read], timestamp, _id) index however deep it is.
+     */
+    public NotificationDTO.NotificationPage getInbox(boolean unreadOnly, String cursor, int limit) {
         String currentUserEmail = getCurrentUserEmail();
-        return notificationRepository.findByRecipientEmailAndReadFalseOrderByTimestampDesc(currentUserEmail);
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        Criteria criteria = unreadOnly
+                ? NotificationUnreadCounter.unread(currentUserEmail)
+                : Criteria.where("recipientEmail").is(currentUserEmail);
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = new Criteria().andOperator(criteria, afterCursor(decodeCursor(cursor)));
+        }
+
+        List<Notification> notifications = mongoTemplate.find(new Query(criteria).with(NEWEST_FIRST).limit(pageSize + 1), Notification.class);
+        String nextCursor = null;
+        if (notifications.size() > pageSize) {
+            notifications = notifications.subList(0, pageSize);
+            nextCursor = encodeCursor(notifications.getLast());
+        }
+        return new NotificationDTO.NotificationPage(notifications.stream().map(NotificationDTO.NotificationResponse::from).toList(), nextCursor);
     }
 
+    public NotificationDTO.UnreadCount getUnreadCount() {
+        return new NotificationDTO.UnreadCount(unreadCounter.get(getCurrentUserEmail()));
+    }
 
-    @Transactional
+    /**
+     * Marks one notification as read with a single conditional update and returns it.
+     */
     public Notification markNotificationAsRead(String notificationId) {
         String currentUserEmail = getCurrentUserEmail();
-        Optional<Notification> optionalNotification = notificationRepository.findByIdAndRecipientEmail(notificationId, currentUserEmail);
-        if (optionalNotification.isPresent()) {
-            Notification notification = optionalNotification.get();
-            notification.setRead(true);
-            Notification updatedNotification = notificationRepository.save(notification);
-            logger.info("Marked notification {} as read for {}", notificationId, notification.getRecipientEmail());
-            return updatedNotification;
-        } else {
+        Query query = Query.query(Criteria.where("id").is(notificationId).and("recipientEmail").is(currentUserEmail));
+        LocalDateTime now = LocalDateTime.now();
+        Notification previous = mongoTemplate.findAndModify(query, new Update().set("read", true).set("readAt", now), Notification.class);
+        if (previous == null) {
             logger.warn("Attempted to mark non-existent notification as read: {}", notificationId);
             throw new ResourceNotFoundException("Notification not found with id: " + notificationId);
         }
+        if (!previous.isRead()) {
+            unreadCounter.add(currentUserEmail, -1);
+            previous.setRead(true);
+        }
+        previous.setReadAt(now);
+        logger.info("Marked notification {} as read for {}", notificationId, currentUserEmail);
+        return previous;
+    }
+
+    /**
+     * Marks every unread notification of the current user as read, or only those with a timestamp in
+     * [{@code from}, {@code to}) when bounds are given, in one {@code updateMany}.
+     */
+    public NotificationDTO.MarkReadResult markAllAsRead(LocalDateTime from, LocalDateTime to) {
+        String currentUserEmail = getCurrentUserEmail();
+        Criteria criteria = NotificationUnreadCounter.unread(currentUserEmail);
+        if (from != null || to != null) {
+            Criteria timestamp = criteria.and("timestamp");
+            if (from != null) {
+                timestamp.gte(from);
+            }
+            if (to != null) {
+                timestamp.lt(to);
+            }
+        }
+        long updated = mongoTemplate.updateMulti(new Query(criteria), new Update().set("read", true).set("readAt", LocalDateTime.now()), Notification.class)
+                .getModifiedCount();
+        unreadCounter.add(currentUserEmail, -updated);
+        logger.info("Marked {} notifications as read for {}", updated, currentUserEmail);
+        return new NotificationDTO.MarkReadResult(updated);
     }
 
     /**
@@ -94,10 +264,39 @@ public class NotificationService {
      */
     public void deleteNotification(String notificationId) {
         String currentUserEmail = getCurrentUserEmail();
-        if (!notificationRepository.existsByIdAndRecipientEmail(notificationId, currentUserEmail)) {
+        Query query = Query.query(Criteria.where("id").is(notificationId).and("recipientEmail").is(currentUserEmail));
+        Notification deleted = mongoTemplate.findAndRemove(query, Notification.class);
+        if (deleted == null) {
             throw new ResourceNotFoundException("Notification not found with id: " + notificationId);
         }
-        notificationRepository.deleteById(notificationId);
+        if (!deleted.isRead()) {
+            unreadCounter.add(currentUserEmail, -1);
+        }
         logger.info("Deleted notification: {}", notificationId);
     }
+
+    private Notification decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return Notification.builder()
+                    .timestamp(LocalDateTime.parse(raw.substring(0, separator)))
+                    .id(raw.substring(separator + 1))
+                    .build();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid notification cursor");
+        }
+    }
+
+    private Criteria afterCursor(Notification last) {
+        return new Criteria().orOperator(
+                Criteria.where("timestamp").lt(last.getTimestamp()),
+                new Criteria().andOperator(Criteria.where("timestamp").is(last.getTimestamp()), Criteria.where("id").lt(last.getId()))
+        );
+    }
+
+    private String encodeCursor(Notification notification) {
+        String raw = notification.getTimestamp() + "|" + notification.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,296 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.NotificationDTO;
+import com.buildmaster.projecttracker.model.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes new notifications to connected clients over server-sent events, so the inbox no longer
+ * has to be polled.
+ * <p>
+ * Each connection has a bounded buffer drained by its own short-lived virtual thread, so a slow
+ * client never blocks the thread creating the notification. A connection whose buffer overflows
+ * is closed rather than allowed to grow; the client reconnects with {@code Last-Event-ID} and the
+ * notifications it missed are replayed from the {@code notifications} collection, which remains the
+ * source of truth. The registry is per replica: a notification created on another replica reaches
+ * the client on its next reconnect.
+ */
+@Service
+public class NotificationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamService.class);
+    private static final Sort OLDEST_FIRST = Sort.by(Sort.Direction.ASC, "timestamp", "id");
+
+    /** Sent instead of a replay when the missed notifications cannot be replayed; the client reloads its inbox. */
+    static final String RESYNC_EVENT = "resync";
+    static final String NOTIFICATION_EVENT = "notification";
+
+    private final class Subscriber {
+        private final String email;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Notification> buffer;
+        // Starts set so live notifications wait in the buffer until the replay has been sent.
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Set<String> replayed = Set.of();
+
+        private Subscriber(String email, SseEmitter emitter) {
+            this.email = email;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ExecutorService senders;
+    private final Duration timeout;
+    private final Duration reconnectDelay;
+    private final int bufferSize;
+    private final int maxPerUser;
+    private final int maxReplay;
+    private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter pushedCounter;
+    private final Counter replayedCounter;
+    private final Counter overflowCounter;
+
+    @Autowired
+    public NotificationStreamService(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                                     @Value("${application.notifications.stream.timeout:30m}") Duration timeout,
+                                     @Value("${application.notifications.stream.reconnect-delay:3s}") Duration reconnectDelay,
+                                     @Value("${application.notifications.stream.buffer-size:256}") int bufferSize,
+                                     @Value("${application.notifications.stream.max-per-user:5}") int maxPerUser,
+                                     @Value("${application.notifications.stream.max-replay:500}") int maxReplay) {
+        this(mongoTemplate, meterRegistry, Executors.newVirtualThreadPerTaskExecutor(),
+                timeout, reconnectDelay, bufferSize, maxPerUser, maxReplay);
+    }
+
+    NotificationStreamService(MongoTemplate mongoTemplate, MeterRegistry meterRegistry, ExecutorService senders,
+                              Duration timeout, Duration reconnectDelay, int bufferSize, int maxPerUser, int maxReplay) {
+        this.mongoTemplate = mongoTemplate;
+        this.senders = senders;
+        this.timeout = timeout;
+        this.reconnectDelay = reconnectDelay;
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+        this.maxReplay = maxReplay;
+        Gauge.builder("notifications.stream.connections", connections, AtomicInteger::get)
+                .description("Open notification streams")
+                .register(meterRegistry);
+        this.pushedCounter = Counter.builder("notifications.stream.pushed")
+                .description("Notifications pushed to open streams")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("notifications.stream.replayed")
+                .description("Missed notifications replayed on reconnect")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("notifications.stream.overflow")
+                .description("Streams closed because the client fell a full buffer behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for {@code email}. With a {@code lastEventId} the notifications created after
+     * that one are sent first; live notifications created meanwhile are buffered and sent after
+     * them, without duplicates. Opening more than the per-user limit closes the oldest stream.
+     */
+    public SseEmitter subscribe(String email, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(email, emitter);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+
+        List<Subscriber> open = subscribers.compute(email, (key, existing) -> {
+            List<Subscriber> list = existing == null ? new CopyOnWriteArrayList<>() : existing;
+            list.add(subscriber);
+            return list;
+        });
+        connections.incrementAndGet();
+        if (open.size() > maxPerUser) {
+            close(open.getFirst());
+        }
+
+        try {
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(reconnectDelay.toMillis()));
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId);
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+            return emitter;
+        }
+        subscriber.draining.set(false);
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Queues notifications for their recipients' open streams. Never blocks: a stream with a full
+     * buffer is closed and catches up on reconnect.
+     */
+    public void publish(Collection<Notification> notifications) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (Notification notification : notifications) {
+            List<Subscriber> recipients = subscribers.get(notification.getRecipientEmail());
+            if (recipients == null) {
+                continue;
+            }
+            for (Subscriber subscriber : recipients) {
+                if (subscriber.buffer.offer(notification)) {
+                    scheduleDrain(subscriber);
+                } else {
+                    overflowCounter.increment();
+                    logger.debug("Closing notification stream for {}: buffer full", subscriber.email);
+                    close(subscriber);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a comment line on every open stream, so idle connections are not dropped by proxies and
+     * dead ones are detected and released.
+     */
+    @Scheduled(fixedDelayString = "${application.notifications.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber subscriber : list) {
+                subscriber.heartbeatDue.set(true);
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    int openConnections() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.values().forEach(list -> list.forEach(this::close));
+        senders.shutdown();
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) throws IOException {
+        Notification last = mongoTemplate.findOne(Query.query(
+                Criteria.where("id").is(lastEventId).and("recipientEmail").is(subscriber.email)), Notification.class);
+        if (last == null) {
+            subscriber.emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            return;
+        }
+        Criteria after = new Criteria().andOperator(
+                Criteria.where("recipientEmail").is(subscriber.email),
+                new Criteria().orOperator(
+                        Criteria.where("timestamp").gt(last.getTimestamp()),
+                        new Criteria().andOperator(Criteria.where("timestamp").is(last.getTimestamp()), Criteria.where("id").gt(last.getId()))));
+        List<Notification> missed = mongoTemplate.find(new Query(after).with(OLDEST_FIRST).limit(maxReplay + 1), Notification.class);
+        if (missed.size() > maxReplay) {
+            subscriber.emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            return;
+        }
+        Set<String> sent = new HashSet<>();
+        for (Notification notification : missed) {
+            send(subscriber, notification);
+            sent.add(notification.getId());
+        }
+        replayedCounter.increment(missed.size());
+        subscriber.replayed = sent;
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.closed.get() || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            close(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Notification notification;
+                while ((notification = subscriber.buffer.poll()) != null) {
+                    if (!subscriber.replayed.contains(notification.getId())) {
+                        send(subscriber, notification);
+                        pushedCounter.increment();
+                    }
+                }
+                subscriber.replayed = Set.of();
+                if (subscriber.heartbeatDue.getAndSet(false)) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                subscriber.draining.set(false);
+                // Recheck after releasing: work queued between the last poll and the release would
+                // otherwise wait for the next notification or heartbeat.
+            } while ((!subscriber.buffer.isEmpty() || subscriber.heartbeatDue.get())
+                    && !subscriber.closed.get() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Notification stream for {} is gone: {}", subscriber.email, e.getMessage());
+            close(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, Notification notification) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(notification.getId())
+                .name(NOTIFICATION_EVENT)
+                .data(NotificationDTO.NotificationResponse.from(notification), MediaType.APPLICATION_JSON));
+    }
+
+    private void close(Subscriber subscriber) {
+        if (unregister(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean unregister(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.computeIfPresent(subscriber.email, (key, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+        subscriber.buffer.clear();
+        connections.decrementAndGet();
+        return true;
+    }
+}
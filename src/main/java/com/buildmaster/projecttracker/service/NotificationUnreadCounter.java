@@ -0,0 +1,148 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.model.Notification;
+import com.buildmaster.projecttracker.model.NotificationCounter;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maintained per-recipient unread counts, so reading one is a primary-key lookup instead of a
+ * count over the inbox. Every change to the read state of stored notifications applies its delta
+ * with {@code $inc}, after the notifications themselves were written; a recipient with no counter
+ * yet is seeded from an indexed count, which already includes that change. The two writes are not
+ * atomic, so a periodic reconciliation recounts the recipients whose counter disagrees with the
+ * notifications and replaces the count only if the counter's version is unchanged, so it never
+ * overwrites a concurrent {@code $inc}.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationUnreadCounter.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public long get(String recipientEmail) {
+        NotificationCounter counter = mongoTemplate.findById(recipientEmail, NotificationCounter.class);
+        if (counter != null) {
+            return Math.max(0, counter.getUnread());
+        }
+        long unread = mongoTemplate.count(new Query(unread(recipientEmail)), Notification.class);
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(recipientEmail)), seed(unread), NotificationCounter.class);
+        return unread;
+    }
+
+    public void add(String recipientEmail, long delta) {
+        if (delta != 0) {
+            addAll(Map.of(recipientEmail, delta));
+        }
+    }
+
+    /**
+     * Applies several recipients' deltas in one unordered bulk write. Must be called after the
+     * notifications reflect the change: recipients without a counter are seeded from a count instead.
+     */
+    public void addAll(Map<String, Long> deltas) {
+        List<String> recipients = deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+        Query existing = Query.query(Criteria.where("id").in(recipients));
+        existing.fields().include("id");
+        Set<String> counted = mongoTemplate.find(existing, NotificationCounter.class).stream()
+                .map(NotificationCounter::getId)
+                .collect(Collectors.toSet());
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationCounter.class);
+        for (String recipient : recipients) {
+            Query byId = Query.query(Criteria.where("id").is(recipient));
+            if (counted.contains(recipient)) {
+                bulk.updateOne(byId, new Update().inc("unread", deltas.get(recipient)).inc("version", 1));
+            } else {
+                bulk.upsert(byId, seed(mongoTemplate.count(new Query(unread(recipient)), Notification.class)));
+            }
+        }
+        bulk.execute();
+    }
+
+    @Scheduled(fixedDelayString = "${application.notifications.counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${application.notifications.counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("read").is(false)),
+                Aggregation.group("recipientEmail").count().as("unread"));
+        Map<String, Long> counts = new HashMap<>();
+        for (Document count : mongoTemplate.aggregate(aggregation, Notification.class, Document.class).getMappedResults()) {
+            counts.put(count.getString("_id"), count.get("unread", Number.class).longValue());
+        }
+
+        // Recipients without a counter are seeded on their next read, so only existing counters are checked.
+        List<String> disagreeing = new ArrayList<>();
+        try (Stream<NotificationCounter> counters = mongoTemplate.stream(new Query(), NotificationCounter.class)) {
+            counters.forEach(counter -> {
+                if (counter.getUnread() != counts.getOrDefault(counter.getId(), 0L)) {
+                    disagreeing.add(counter.getId());
+                }
+            });
+        }
+        int corrected = 0;
+        for (String recipient : disagreeing) {
+            if (recount(recipient)) {
+                corrected++;
+            }
+        }
+        logger.debug("Reconciled unread notification counters: {} disagreed, {} corrected", disagreeing.size(), corrected);
+    }
+
+    /**
+     * Recounts one recipient and stores the count if the counter was not changed since it was read;
+     * a counter that moved is left for the next reconciliation.
+     */
+    private boolean recount(String recipientEmail) {
+        NotificationCounter counter = mongoTemplate.findById(recipientEmail, NotificationCounter.class);
+        if (counter == null) {
+            return false;
+        }
+        long unread = mongoTemplate.count(new Query(unread(recipientEmail)), Notification.class);
+        if (unread == counter.getUnread()) {
+            return false;
+        }
+        // Counters written before versions existed have no version field; $in with null matches those.
+        Criteria unchanged = counter.getVersion() == 0
+                ? Criteria.where("version").in(0L, null)
+                : Criteria.where("version").is(counter.getVersion());
+        UpdateResult result = mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(recipientEmail).andOperator(unchanged)),
+                new Update().set("unread", unread).inc("version", 1), NotificationCounter.class);
+        return result.getModifiedCount() > 0;
+    }
+
+    private static Update seed(long unread) {
+        return new Update().setOnInsert("unread", unread).setOnInsert("version", 0L);
+    }
+
+    static Criteria unread(String recipientEmail) {
+        return Criteria.where("recipientEmail").is(recipientEmail).and("read").is(false);
+    }
+}
@@ -1,8 +1,12 @@
 package com.buildmaster.projecttracker.service;
 
 import com.buildmaster.projecttracker.audit.Auditable;
+import com.buildmaster.projecttracker.cache.CacheDependencyTracker;
+import com.buildmaster.projecttracker.cache.CacheReloaders;
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
 import com.buildmaster.projecttracker.dto.CustomApiResponse;
 import com.buildmaster.projecttracker.dto.ProjectDTO;
+import com.buildmaster.projecttracker.dto.TaskDTO;
 import com.buildmaster.projecttracker.enums.ActionType;
 import com.buildmaster.projecttracker.enums.EntityType;
 import com.buildmaster.projecttracker.enums.ProjectStatus;
@@ -12,19 +16,22 @@ import com.buildmaster.projecttracker.model.Project;
 import com.buildmaster.projecttracker.model.Task;
 import com.buildmaster.projecttracker.repository.ProjectRepository;
 import com.buildmaster.projecttracker.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -33,13 +40,25 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final AuditLogService auditLogService;
+    private final TaskCounterService taskCounterService;
+    private final DeveloperLeaderboard developerLeaderboard;
+    private final SearchService searchService;
+    private final CacheDependencyTracker cacheDependencyTracker;
+    private final CacheReloaders cacheReloaders;
+
+    @PostConstruct
+    void registerReloaders() {
+        cacheReloaders.register("overdueProjects", key -> loadOverdueProjects());
+        cacheReloaders.register("projectsWithoutTasks", key -> loadProjectsWithoutTasks());
+    }
 
     @Auditable(action = ActionType.CREATE, message = "Project '{0}' created.", entityType = EntityType.PROJECT)
     @Transactional
-    @CacheEvict(value = "allProjects", allEntries = true)
     public CustomApiResponse<ProjectDTO.ProjectSummaryResponse> createProject(ProjectDTO.ProjectRequest projectRequest) {
         Project project = projectMapper.toProjectEntity(projectRequest);
         Project savedProject = projectRepository.save(project);
+        searchService.recordProject(savedProject);
+        cacheDependencyTracker.invalidate(CacheDependencyTracker.membership("project"), CacheDependencyTracker.PROJECTS_WITHOUT_TASKS);
         ProjectDTO.ProjectSummaryResponse response = projectMapper.toProjectSummaryResponse(savedProject);
         return CustomApiResponse.success("Project created", response);
     }
@@ -49,40 +68,67 @@ public class ProjectService {
     public CustomApiResponse<Page<ProjectDTO.ProjectSummaryResponse>> getAllProjects(Pageable pageable) {
         Page<ProjectDTO.ProjectSummaryResponse> response =  projectRepository.findAll(pageable)
                 .map(projectMapper::toProjectSummaryResponse);
+        List<String> dependencies = new ArrayList<>();
+        dependencies.add(CacheDependencyTracker.membership("project"));
+        if (pageable.getSort().isSorted()) {
+            dependencies.add(CacheDependencyTracker.ordering("project"));
+        }
+        response.forEach(project -> dependencies.add(CacheDependencyTracker.project(project.id())));
+        cacheDependencyTracker.register("allProjects", pageable, dependencies);
         return CustomApiResponse.success("Project list", response);
     }
 
 
+    @Transactional(readOnly = true)
     @Cacheable(value="projects", key="#id")
     public CustomApiResponse<ProjectDTO.ProjectResponse> getProjectById(Long id) {
-        Project project = projectRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        Project project = projectRepository.findWithTasksById(id).orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         ProjectDTO.ProjectResponse response = projectMapper.toProjectResponse(project);
+        cacheDependencyTracker.register("projects", id, List.of(CacheDependencyTracker.project(id)));
         return CustomApiResponse.success("Project details", response);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "projects", key = "#id"),
-            @CacheEvict(value = "overdueProjects"),
-            @CacheEvict(value = {"allProjects", "projectsWithoutTasks"}, allEntries = true)
-    })
     public CustomApiResponse<ProjectDTO.ProjectResponse> updateProject(Long id, ProjectDTO.ProjectUpdateRequest projectRequest) {
         Project existingProject = projectRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        AuditLogDTO.AuditProjectInfo before = AuditLogDTO.AuditProjectInfo.from(existingProject);
         projectMapper.updateEntity(existingProject, projectRequest);
         Project updatedProject = projectRepository.save(existingProject);
+        searchService.recordProject(updatedProject);
+        cacheDependencyTracker.invalidate(CacheDependencyTracker.project(id), CacheDependencyTracker.ordering("project"),
+                CacheDependencyTracker.OVERDUE_PROJECTS);
         ProjectDTO.ProjectResponse response = projectMapper.toProjectResponse(updatedProject);
-        auditLogService.logAudit(ActionType.UPDATE, EntityType.PROJECT, updatedProject.getId().toString(), "system", updatedProject);
+        auditLogService.logAuditChange(ActionType.UPDATE, EntityType.PROJECT, updatedProject.getId().toString(), "system",
+                before, AuditLogDTO.AuditProjectInfo.from(updatedProject));
         return CustomApiResponse.success("Project updated", response);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "projects", key = "#id"),
-            @CacheEvict(value = {"allProjects", "overdueProjects", "projectsWithoutTasks"}, allEntries = true)
-    })
     public CustomApiResponse<Void> deleteProject(Long id) {
         Project existingProject = projectRepository.findWithTasksById(id).orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
         projectRepository.delete(existingProject);
+        List<TaskCounterService.TaskTransition> deletedTasks = existingProject.getTasks().stream()
+                .map(task -> new TaskCounterService.TaskTransition(TaskDTO.TaskSnapshot.from(task), null))
+                .toList();
+        taskCounterService.recordTransitions(deletedTasks);
+        developerLeaderboard.recordTransitions(deletedTasks);
+        searchService.removeProject(id);
+
+        List<String> dependencies = new ArrayList<>(List.of(
+                CacheDependencyTracker.project(id),
+                CacheDependencyTracker.membership("project"),
+                CacheDependencyTracker.PROJECTS_WITHOUT_TASKS,
+                CacheDependencyTracker.OVERDUE_PROJECTS));
+        if (!existingProject.getTasks().isEmpty()) {
+            dependencies.add(CacheDependencyTracker.membership("task"));
+        }
+        for (Task task : existingProject.getTasks()) {
+            dependencies.add(CacheDependencyTracker.task(task.getId()));
+            if (task.getAssignedDeveloper() != null) {
+                dependencies.add(CacheDependencyTracker.developer(task.getAssignedDeveloper().getId()));
+            }
+        }
+        cacheDependencyTracker.invalidate(dependencies);
         auditLogService.logAudit(ActionType.DELETE, EntityType.PROJECT, id.toString(), "system", null);
         return CustomApiResponse.success("Project deleted", null);
     }
@@ -90,11 +136,27 @@ public class ProjectService {
     @Transactional(readOnly = true)
     @Cacheable(value = "overdueProjects")
     public CustomApiResponse<List<ProjectDTO.ProjectResponse>> getOverdueProjects() {
+        return loadOverdueProjects();
+    }
+
+    private CustomApiResponse<List<ProjectDTO.ProjectResponse>> loadOverdueProjects() {
         List<Project> overdueProjects = projectRepository.findOverdueProjects(
                 LocalDate.now(), ProjectStatus.ACTIVE);
+        List<String> dependencies = new ArrayList<>();
+        dependencies.add(CacheDependencyTracker.OVERDUE_PROJECTS);
+        overdueProjects.forEach(project -> dependencies.add(CacheDependencyTracker.project(project.getId())));
+        cacheDependencyTracker.register("overdueProjects", SimpleKey.EMPTY, dependencies);
+        if (overdueProjects.isEmpty()) {
+            return CustomApiResponse.success(List.of());
+        }
+
+        // Second and last round trip: every task summary for the whole result, grouped in memory.
+        Map<Long, List<ProjectDTO.ProjectTaskSummary>> tasksByProject = projectRepository
+                .findTaskSummariesByProjectIds(overdueProjects.stream().map(Project::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ProjectDTO.ProjectTaskSummary::projectId));
 
         List<ProjectDTO.ProjectResponse> responses = overdueProjects.stream()
-                .map(projectMapper::toProjectResponse)
+                .map(project -> projectMapper.toProjectResponse(project, tasksByProject.getOrDefault(project.getId(), List.of())))
                 .toList();
 
         return CustomApiResponse.success(responses);
@@ -102,9 +164,17 @@ public class ProjectService {
 
     @Cacheable(value = "projectsWithoutTasks")
     public CustomApiResponse<List<ProjectDTO.ProjectSummaryResponse>> getProjectsWithoutTasks() {
+        return loadProjectsWithoutTasks();
+    }
+
+    private CustomApiResponse<List<ProjectDTO.ProjectSummaryResponse>> loadProjectsWithoutTasks() {
         List<ProjectDTO.ProjectSummaryResponse> responses = projectRepository.findProjectsWithoutTasks().stream()
                 .map(projectMapper::toProjectSummaryResponse)
                 .toList();
+        List<String> dependencies = new ArrayList<>();
+        dependencies.add(CacheDependencyTracker.PROJECTS_WITHOUT_TASKS);
+        responses.forEach(project -> dependencies.add(CacheDependencyTracker.project(project.id())));
+        cacheDependencyTracker.register("projectsWithoutTasks", SimpleKey.EMPTY, dependencies);
 
         return CustomApiResponse.success(responses);
     }
@@ -0,0 +1,520 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.SearchDTO;
+import com.buildmaster.projecttracker.enums.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.AnalyzerWrapper;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded Lucene index over task titles and descriptions and project names and descriptions.
+ * <p>
+ * Every task and project is one document keyed by {@code task:<id>} or {@code project:<id>}, so a
+ * change is one {@code updateDocument}. Writes become searchable at the next refresh, about every
+ * {@code refresh-interval-ms}, and are committed to the index directory on a longer interval.
+ * Results are ranked by BM25 score, a title match counting double, with ties broken by key. The
+ * cursor is the (score, key) of the last hit, so a page is a {@code searchAfter} that costs the same
+ * however deep it is and does not depend on doc ids, which merges renumber; only a hit whose own
+ * score changed since the previous page can be skipped or repeated.
+ * <p>
+ * A rebuild rewrites every document from the database while live changes keep arriving. Keys that
+ * a live change wrote or deleted since the rebuild began are skipped by the rebuild, whose rows
+ * for them may be older.
+ */
+@Component
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+    private static final int MAX_LIMIT = 100;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final float TITLE_BOOST = 2f;
+    private static final int POSITION_GAP = 100;
+    private static final Pattern TOKENS = Pattern.compile("\"([^\"]*)\"?|(\\S+)");
+
+    static final String KEY = "key";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String TEXT = "text";
+    static final String STATUS = "status";
+    static final String DATE = "date";
+    static final String PROJECT_ID = "projectId";
+    static final String GENERATION = "generation";
+
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(KEY, SortField.Type.STRING));
+
+    private final String directoryPath;
+    private final Analyzer analyzer = new AnalyzerWrapper(Analyzer.PER_FIELD_REUSE_STRATEGY) {
+        private final Analyzer standard = new StandardAnalyzer();
+
+        @Override
+        protected Analyzer getWrappedAnalyzer(String fieldName) {
+            return standard;
+        }
+
+        @Override
+        public int getPositionIncrementGap(String fieldName) {
+            return POSITION_GAP;
+        }
+    };
+    private final Timer searchTimer;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    // Orders live changes against a rebuild's batches, so neither overwrites a newer version of a key.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /** Stamped on every document written; a rebuild removes what it did not rewrite. Guarded by writeLock. */
+    private long generation;
+    // Keys changed and projects deleted since the current rebuild began; null when none is running.
+    // Guarded by writeLock.
+    private Set<String> changedDuringRebuild;
+    private Set<Long> projectsDeletedDuringRebuild;
+
+    public SearchIndex(MeterRegistry meterRegistry,
+                       @Value("${application.search.index-directory:data/search-index}") String directoryPath) {
+        this.directoryPath = directoryPath;
+        this.searchTimer = Timer.builder("search.query")
+                .description("Time to run one full-text search and load its page of hits")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /** Opens the index in {@code index-directory}, or in memory when that is blank. */
+    @PostConstruct
+    public void open() throws IOException {
+        if (directoryPath == null || directoryPath.isBlank()) {
+            directory = new ByteBuffersDirectory();
+        } else {
+            Path path = Path.of(directoryPath);
+            Files.createDirectories(path);
+            directory = FSDirectory.open(path);
+        }
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        logger.info("Search index opened at {} with {} documents", directoryPath == null || directoryPath.isBlank() ? "memory" : directoryPath,
+                writer.getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    public SearchDTO.SearchPage search(SearchDTO.SearchRequest request, String cursor, int limit) {
+        Query query = toQuery(request);
+        if (query == null) {
+            return new SearchDTO.SearchPage(List.of(), null);
+        }
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        FieldDoc after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+        Timer.Sample sample = Timer.start();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int maxDoc = searcher.getIndexReader().maxDoc();
+                if (maxDoc == 0) {
+                    return new SearchDTO.SearchPage(List.of(), null);
+                }
+                if (after != null) {
+                    // Keys are unique, so the doc id only decides for the cursor's own key, which the
+                    // last doc id skips.
+                    after.doc = maxDoc - 1;
+                }
+                // One extra hit tells whether there is a next page.
+                TopDocs top = searcher.searchAfter(after, query, size + 1, RANKING, true);
+                StoredFields storedFields = searcher.storedFields();
+                int count = Math.min(size, top.scoreDocs.length);
+                List<SearchDTO.SearchHit> hits = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    hits.add(toHit(storedFields.document(top.scoreDocs[i].doc), top.scoreDocs[i].score));
+                }
+                String nextCursor = top.scoreDocs.length > size ? encodeCursor((FieldDoc) top.scoreDocs[size - 1]) : null;
+                return new SearchDTO.SearchPage(hits, nextCursor);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            sample.stop(searchTimer);
+        }
+    }
+
+    public void indexTasks(Collection<SearchDTO.IndexedTask> tasks) {
+        change(tasks.stream().map(task -> key(SearchType.TASK, task.id())).toList(), null, stamp -> {
+            for (SearchDTO.IndexedTask task : tasks) {
+                writeTask(task, stamp);
+            }
+        });
+    }
+
+    public void indexProjects(Collection<SearchDTO.IndexedProject> projects) {
+        change(projects.stream().map(project -> key(SearchType.PROJECT, project.id())).toList(), null, stamp -> {
+            for (SearchDTO.IndexedProject project : projects) {
+                writeProject(project, stamp);
+            }
+        });
+    }
+
+    public void deleteTasks(Collection<Long> taskIds) {
+        change(taskIds.stream().map(id -> key(SearchType.TASK, id)).toList(), null,
+                stamp -> writer.deleteDocuments(taskIds.stream().map(id -> keyTerm(SearchType.TASK, id)).toArray(Term[]::new)));
+    }
+
+    /** Removes a project together with its tasks, which the database deletes with it. */
+    public void deleteProject(Long projectId) {
+        change(List.of(key(SearchType.PROJECT, projectId)), projectId,
+                stamp -> writer.deleteDocuments(keyTerm(SearchType.PROJECT, projectId), new Term(PROJECT_ID, projectId.toString())));
+    }
+
+    /**
+     * Starts a full rewrite of the index: documents written from now on carry a new generation, and
+     * {@link #finishRebuild} removes every document of an older one. The rebuild writes its rows
+     * with {@link #rewriteTasks} and {@link #rewriteProjects}. The index stays searchable throughout.
+     */
+    public long beginRebuild() {
+        writeLock.lock();
+        try {
+            generation = Math.max(generation + 1, System.currentTimeMillis());
+            changedDuringRebuild = new HashSet<>();
+            projectsDeletedDuringRebuild = new HashSet<>();
+            return generation;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Writes a rebuild's batch of tasks, except those changed or deleted live since it began. */
+    public void rewriteTasks(long rebuildGeneration, Collection<SearchDTO.IndexedTask> tasks) {
+        rewrite(() -> {
+            for (SearchDTO.IndexedTask task : tasks) {
+                if (rewritable(key(SearchType.TASK, task.id()), task.projectId())) {
+                    writeTask(task, rebuildGeneration);
+                }
+            }
+        });
+    }
+
+    /** Writes a rebuild's batch of projects, except those changed or deleted live since it began. */
+    public void rewriteProjects(long rebuildGeneration, Collection<SearchDTO.IndexedProject> projects) {
+        rewrite(() -> {
+            for (SearchDTO.IndexedProject project : projects) {
+                if (rewritable(key(SearchType.PROJECT, project.id()), null)) {
+                    writeProject(project, rebuildGeneration);
+                }
+            }
+        });
+    }
+
+    public void finishRebuild(long rebuildGeneration) {
+        rewrite(() -> writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1)));
+        cancelRebuild();
+        commit();
+        refresh();
+    }
+
+    /** Stops tracking live changes for a rebuild that failed; its documents stay until the next one. */
+    public void cancelRebuild() {
+        writeLock.lock();
+        try {
+            changedDuringRebuild = null;
+            projectsDeletedDuringRebuild = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Makes the writes so far visible to searches. */
+    @Scheduled(fixedDelayString = "${application.search.refresh-interval-ms:1000}",
+            initialDelayString = "${application.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            logger.warn("Could not refresh the search index: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.commit-interval-ms:60000}",
+            initialDelayString = "${application.search.commit-interval-ms:60000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not commit the search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Each whitespace-separated word or quoted phrase must match the title or the description, and
+     * scores extra when it matches the title. A word ending
+     * in {@code *} matches as a prefix of at least {@value #MIN_PREFIX_LENGTH} characters; a word the
+     * analyzer splits, such as {@code api-gateway}, matches as a phrase. Returns {@code null} when
+     * the text has nothing searchable.
+     */
+    Query toQuery(SearchDTO.SearchRequest request) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean searchable = false;
+        Matcher tokens = TOKENS.matcher(request.query() == null ? "" : request.query());
+        while (tokens.find()) {
+            Function<String, Query> clause = tokens.group(1) != null ? terms(analyze(tokens.group(1))) : word(tokens.group(2));
+            if (clause != null) {
+                // Required on the one combined field, so conjunctions and score pruning run over
+                // single postings lists; the title clause only adds to the score.
+                query.add(clause.apply(TEXT), BooleanClause.Occur.MUST);
+                query.add(new BoostQuery(clause.apply(TITLE), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+                searchable = true;
+            }
+        }
+        if (!searchable) {
+            return null;
+        }
+        if (request.type() != null) {
+            query.add(new TermQuery(new Term(TYPE, request.type().name())), BooleanClause.Occur.FILTER);
+        }
+        if (request.status() != null && !request.status().isBlank()) {
+            query.add(new TermQuery(new Term(STATUS, request.status().trim().toUpperCase(Locale.ROOT))), BooleanClause.Occur.FILTER);
+        }
+        if (request.from() != null || request.to() != null) {
+            long from = request.from() != null ? request.from().toEpochDay() : Long.MIN_VALUE;
+            long to = request.to() != null ? request.to().toEpochDay() : Long.MAX_VALUE;
+            // Points when the range leads the conjunction, doc values when the text is more selective.
+            query.add(new IndexOrDocValuesQuery(LongPoint.newRangeQuery(DATE, from, to),
+                    NumericDocValuesField.newSlowRangeQuery(DATE, from, to)), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private Function<String, Query> word(String word) {
+        if (word.endsWith("*")) {
+            String prefix = word.substring(0, word.length() - 1);
+            if (prefix.length() >= MIN_PREFIX_LENGTH && prefix.indexOf('*') < 0) {
+                BytesRef normalized = analyzer.normalize(TEXT, prefix);
+                return field -> new PrefixQuery(new Term(field, normalized));
+            }
+        }
+        return terms(analyze(word));
+    }
+
+    private static Function<String, Query> terms(List<String> terms) {
+        if (terms.isEmpty()) {
+            return null;
+        }
+        if (terms.size() == 1) {
+            return field -> new TermQuery(new Term(field, terms.getFirst()));
+        }
+        return field -> new PhraseQuery(field, terms.toArray(String[]::new));
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TEXT, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private void writeTask(SearchDTO.IndexedTask task, long stamp) throws IOException {
+        Document document = document(SearchType.TASK, task.id(), task.title(), task.description(),
+                task.status() != null ? task.status().name() : null, task.dueDate(), stamp);
+        if (task.projectId() != null) {
+            document.add(new StringField(PROJECT_ID, task.projectId().toString(), Field.Store.YES));
+        }
+        writer.updateDocument(keyTerm(SearchType.TASK, task.id()), document);
+    }
+
+    private void writeProject(SearchDTO.IndexedProject project, long stamp) throws IOException {
+        writer.updateDocument(keyTerm(SearchType.PROJECT, project.id()), document(SearchType.PROJECT, project.id(),
+                project.name(), project.description(), project.status() != null ? project.status().name() : null,
+                project.deadline(), stamp));
+    }
+
+    private static Document document(SearchType type, long id, String title, String body, String status,
+                                     LocalDate date, long generation) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(type, id), Field.Store.NO));
+        // Breaks score ties, so the order and the cursor do not depend on doc ids.
+        document.add(new SortedDocValuesField(KEY, new BytesRef(key(type, id))));
+        document.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        document.add(new StoredField(ID, id));
+        document.add(new LongPoint(GENERATION, generation));
+        if (title != null) {
+            document.add(new TextField(TITLE, title, Field.Store.YES));
+        }
+        // Title and description as two values of one field; the position gap keeps a phrase
+        // from matching across them.
+        if (title != null) {
+            document.add(new TextField(TEXT, title, Field.Store.NO));
+        }
+        if (body != null) {
+            document.add(new TextField(TEXT, body, Field.Store.NO));
+        }
+        if (status != null) {
+            document.add(new StringField(STATUS, status, Field.Store.YES));
+        }
+        if (date != null) {
+            document.add(new LongPoint(DATE, date.toEpochDay()));
+            document.add(new NumericDocValuesField(DATE, date.toEpochDay()));
+            document.add(new StoredField(DATE, date.toEpochDay()));
+        }
+        return document;
+    }
+
+    private static SearchDTO.SearchHit toHit(Document document, float score) {
+        String projectId = document.get(PROJECT_ID);
+        return new SearchDTO.SearchHit(
+                SearchType.valueOf(document.get(TYPE)),
+                document.getField(ID).numericValue().longValue(),
+                document.get(TITLE),
+                document.get(STATUS),
+                document.getField(DATE) != null ? LocalDate.ofEpochDay(document.getField(DATE).numericValue().longValue()) : null,
+                projectId != null ? Long.valueOf(projectId) : null,
+                score);
+    }
+
+    private static String key(SearchType type, long id) {
+        return type.name().toLowerCase(Locale.ROOT) + ":" + id;
+    }
+
+    private static Term keyTerm(SearchType type, long id) {
+        return new Term(KEY, key(type, id));
+    }
+
+    private static String encodeCursor(FieldDoc last) {
+        String raw = Integer.toHexString(Float.floatToIntBits(last.score)) + "|" + ((BytesRef) last.fields[1]).utf8ToString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FieldDoc decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            float score = Float.intBitsToFloat(Integer.parseUnsignedInt(raw.substring(0, separator), 16));
+            String key = raw.substring(separator + 1);
+            if (key.indexOf(':') < 0) {
+                throw new IllegalArgumentException("Not a document key");
+            }
+            return new FieldDoc(0, score, new Object[] {score, new BytesRef(key)});
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid search cursor");
+        }
+    }
+
+    private boolean rewritable(String key, Long projectId) {
+        if (changedDuringRebuild == null) {
+            return true;
+        }
+        return !changedDuringRebuild.contains(key) && (projectId == null || !projectsDeletedDuringRebuild.contains(projectId));
+    }
+
+    /** A live change: records its keys while a rebuild runs and writes with the current generation. */
+    private void change(Collection<String> keys, Long deletedProjectId, StampedWrite write) {
+        writeLock.lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(keys);
+                if (deletedProjectId != null) {
+                    projectsDeletedDuringRebuild.add(deletedProjectId);
+                }
+            }
+            write.run(generation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void rewrite(IndexWrite write) {
+        writeLock.lock();
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexWrite {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface StampedWrite {
+        void run(long stamp) throws IOException;
+    }
+}
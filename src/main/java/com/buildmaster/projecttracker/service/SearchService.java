@@ -0,0 +1,152 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.CustomApiResponse;
+import com.buildmaster.projecttracker.dto.SearchDTO;
+import com.buildmaster.projecttracker.model.Project;
+import com.buildmaster.projecttracker.model.Task;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import com.buildmaster.projecttracker.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the {@link SearchIndex} in step with tasks and projects. Task and project writes snapshot
+ * the indexed fields when they happen and apply them once their transaction commits; the index is
+ * rewritten from the database at startup and on a long interval, which also repairs changes made
+ * on another replica or lost between a commit and its callback.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    private final SearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    private final int rebuildBatchSize;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public SearchService(SearchIndex searchIndex, TaskRepository taskRepository, ProjectRepository projectRepository,
+                         @Qualifier("applicationTaskExecutor") AsyncTaskExecutor applicationTaskExecutor,
+                         @Value("${application.search.rebuild-batch-size:5000}") int rebuildBatchSize) {
+        this.searchIndex = searchIndex;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    public CustomApiResponse<SearchDTO.SearchPage> search(SearchDTO.SearchRequest request, String cursor, int limit) {
+        return CustomApiResponse.success("Search results", searchIndex.search(request, cursor, limit));
+    }
+
+    public void recordTasks(Collection<Task> tasks) {
+        List<SearchDTO.IndexedTask> indexed = tasks.stream()
+                .map(task -> new SearchDTO.IndexedTask(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                        task.getDueDate(), task.getProject() != null ? task.getProject().getId() : null))
+                .toList();
+        if (!indexed.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> searchIndex.indexTasks(indexed));
+        }
+    }
+
+    public void removeTasks(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        if (!ids.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> searchIndex.deleteTasks(ids));
+        }
+    }
+
+    public void recordProject(Project project) {
+        SearchDTO.IndexedProject indexed = new SearchDTO.IndexedProject(project.getId(), project.getName(),
+                project.getDescription(), project.getStatus(), project.getDeadLine());
+        TransactionCallbacks.afterCommit(() -> searchIndex.indexProjects(List.of(indexed)));
+    }
+
+    public void removeProject(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> searchIndex.deleteProject(projectId));
+    }
+
+    /**
+     * Starts a rebuild on the application executor, so it holds neither the scheduler thread nor
+     * startup; does nothing while one is still running.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.search.rebuild-interval-ms:21600000}",
+            initialDelayString = "${application.search.rebuild-interval-ms:21600000}")
+    public void scheduleRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            logger.info("Search index rebuild still running; skipped");
+            return;
+        }
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    logger.error("Search index rebuild failed", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Rewrites every task and project in id-ordered batches while the index keeps serving searches;
+     * rows changed by a commit since the rebuild began are left as that commit wrote them.
+     */
+    void rebuild() {
+        long started = System.nanoTime();
+        long generation = searchIndex.beginRebuild();
+        long tasks = 0;
+        long projects = 0;
+        try {
+            long afterId = 0;
+            List<SearchDTO.IndexedTask> taskBatch;
+            do {
+                taskBatch = taskRepository.findIndexedTasksAfterId(afterId, Limit.of(rebuildBatchSize));
+                if (!taskBatch.isEmpty()) {
+                    searchIndex.rewriteTasks(generation, taskBatch);
+                    afterId = taskBatch.getLast().id();
+                    tasks += taskBatch.size();
+                }
+            } while (taskBatch.size() == rebuildBatchSize);
+
+            afterId = 0;
+            List<SearchDTO.IndexedProject> projectBatch;
+            do {
+                projectBatch = projectRepository.findIndexedProjectsAfterId(afterId, Limit.of(rebuildBatchSize));
+                if (!projectBatch.isEmpty()) {
+                    searchIndex.rewriteProjects(generation, projectBatch);
+                    afterId = projectBatch.getLast().id();
+                    projects += projectBatch.size();
+                }
+            } while (projectBatch.size() == rebuildBatchSize);
+        } catch (RuntimeException e) {
+            searchIndex.cancelRebuild();
+            throw e;
+        }
+
+        searchIndex.finishRebuild(generation);
+        logger.info("Indexed {} tasks and {} projects for search in {} ms", tasks, projects,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,280 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.TaskDTO;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import com.buildmaster.projecttracker.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory materialized task counters: counts per status overall, per project and per developer,
+ * plus an index of open (not completed) tasks ordered by due date for the overdue listing.
+ * <p>
+ * Task mutations report their before/after snapshots, which are applied once the surrounding
+ * transaction commits so rolled-back changes never show up. A periodic reconciliation rebuilds the
+ * counters from the database and swaps them in, which bounds any drift to one interval. Tasks that
+ * change while the rebuild reads the database are tracked by id; at the swap their rows from the
+ * read are replaced with their latest state, so those changes are neither lost nor counted twice.
+ */
+@Service
+public class TaskCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounterService.class);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    public record TaskTransition(TaskDTO.TaskSnapshot before, TaskDTO.TaskSnapshot after) {}
+
+    private record OpenTaskKey(LocalDate dueDate, long id) {
+        private static final Comparator<OpenTaskKey> ORDER =
+                Comparator.comparing(OpenTaskKey::dueDate).thenComparingLong(OpenTaskKey::id);
+    }
+
+    private static final class Counters {
+        private final LongAdder[] byStatus = newAdders();
+        private final Map<Long, LongAdder[]> byProject = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder[]> byDeveloper = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<OpenTaskKey, TaskDTO.TaskSummaryResponse> openByDueDate =
+                new ConcurrentSkipListMap<>(OpenTaskKey.ORDER);
+
+        private void apply(TaskDTO.TaskSnapshot task, int delta) {
+            int status = task.status().ordinal();
+            byStatus[status].add(delta);
+            if (task.projectId() != null) {
+                byProject.computeIfAbsent(task.projectId(), id -> newAdders())[status].add(delta);
+            }
+            if (task.assignedDeveloperId() != null) {
+                byDeveloper.computeIfAbsent(task.assignedDeveloperId(), id -> newAdders())[status].add(delta);
+            }
+            if (task.status() != TaskStatus.COMPLETED && task.dueDate() != null) {
+                OpenTaskKey key = new OpenTaskKey(task.dueDate(), task.id());
+                if (delta > 0) {
+                    openByDueDate.put(key, new TaskDTO.TaskSummaryResponse(task.id(), task.title(), task.status(), task.dueDate()));
+                } else {
+                    openByDueDate.remove(key);
+                }
+            }
+        }
+
+        private static LongAdder[] newAdders() {
+            LongAdder[] adders = new LongAdder[STATUSES.length];
+            Arrays.setAll(adders, i -> new LongAdder());
+            return adders;
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final Counter driftCounter;
+    private volatile Counters counters = new Counters();
+    private volatile boolean loaded;
+    // Not a monitor: the first load queries the database, and a virtual thread blocked inside
+    // synchronized would pin its carrier for the whole query. Also serializes reconciliations.
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // Transitions apply under the read lock; the swap takes the write lock so none lands on the
+    // discarded counters after the changes below were folded into the rebuilt ones.
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // Latest state per task changed since the current reconciliation started, empty once deleted;
+    // null when no reconciliation is running.
+    private Map<Long, Optional<TaskDTO.TaskSnapshot>> changedDuringReconcile;
+
+    public TaskCounterService(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        for (TaskStatus status : STATUSES) {
+            Gauge.builder("tasks.count", this, service -> service.counters.byStatus[status.ordinal()].sum())
+                    .description("Tasks per status, from the in-memory counters")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        this.driftCounter = Counter.builder("tasks.count.drift")
+                .description("Absolute difference between the in-memory counters and the database at reconciliation")
+                .register(meterRegistry);
+    }
+
+    public void recordTransition(TaskDTO.TaskSnapshot before, TaskDTO.TaskSnapshot after) {
+        recordTransitions(List.of(new TaskTransition(before, after)));
+    }
+
+    /**
+     * Applies task transitions after the current transaction commits, or immediately outside one.
+     * A null {@code before} is a creation and a null {@code after} is a deletion.
+     */
+    public void recordTransitions(Collection<TaskTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> apply(transitions));
+    }
+
+    /**
+     * Status counts with a non-zero total, as (status, count) pairs; optionally narrowed to one
+     * project or one developer.
+     */
+    public List<Object[]> countByStatus(Long projectId, Long developerId) {
+        ensureLoaded();
+        Counters current = counters;
+        LongAdder[] scope = current.byStatus;
+        if (projectId != null) {
+            scope = current.byProject.get(projectId);
+        } else if (developerId != null) {
+            scope = current.byDeveloper.get(developerId);
+        }
+        List<Object[]> counts = new ArrayList<>();
+        if (scope == null) {
+            return counts;
+        }
+        for (TaskStatus status : STATUSES) {
+            long count = scope[status.ordinal()].sum();
+            if (count > 0) {
+                counts.add(new Object[]{status, count});
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Tasks assigned to the developer that are not completed.
+     */
+    public long openTaskCount(Long developerId) {
+        ensureLoaded();
+        LongAdder[] scope = counters.byDeveloper.get(developerId);
+        if (scope == null) {
+            return 0;
+        }
+        long open = 0;
+        for (TaskStatus status : STATUSES) {
+            if (status != TaskStatus.COMPLETED) {
+                open += scope[status.ordinal()].sum();
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Open tasks whose due date is before today, earliest first.
+     */
+    public List<TaskDTO.TaskSummaryResponse> overdueTasks() {
+        ensureLoaded();
+        return List.copyOf(counters.openByDueDate.headMap(new OpenTaskKey(LocalDate.now(), Long.MIN_VALUE)).values());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.tasks.counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${application.tasks.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        loadLock.lock();
+        try {
+            long started = System.nanoTime();
+            swapLock.writeLock().lock();
+            try {
+                changedDuringReconcile = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            List<TaskDTO.TaskSnapshot> snapshots;
+            try {
+                snapshots = taskRepository.findAllSnapshots();
+            } catch (RuntimeException e) {
+                swapLock.writeLock().lock();
+                try {
+                    changedDuringReconcile = null;
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+                throw e;
+            }
+            Counters rebuilt = new Counters();
+            snapshots.forEach(task -> rebuilt.apply(task, 1));
+
+            Counters previous;
+            swapLock.writeLock().lock();
+            try {
+                Map<Long, Optional<TaskDTO.TaskSnapshot>> changed = changedDuringReconcile;
+                changedDuringReconcile = null;
+                if (!changed.isEmpty()) {
+                    Set<Long> changedIds = changed.keySet();
+                    for (TaskDTO.TaskSnapshot task : snapshots) {
+                        if (changedIds.contains(task.id())) {
+                            rebuilt.apply(task, -1);
+                        }
+                    }
+                    changed.values().forEach(latest -> latest.ifPresent(task -> rebuilt.apply(task, 1)));
+                }
+                previous = counters;
+                counters = rebuilt;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            if (loaded) {
+                long drift = 0;
+                for (TaskStatus status : STATUSES) {
+                    drift += Math.abs(previous.byStatus[status.ordinal()].sum() - rebuilt.byStatus[status.ordinal()].sum());
+                }
+                if (drift > 0) {
+                    driftCounter.increment(drift);
+                    logger.warn("Task counters drifted by {} from the database; reconciled", drift);
+                }
+            }
+            loaded = true;
+            logger.debug("Reconciled task counters from {} tasks in {} ms", snapshots.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void apply(Collection<TaskTransition> transitions) {
+        swapLock.readLock().lock();
+        try {
+            Counters current = counters;
+            Map<Long, Optional<TaskDTO.TaskSnapshot>> changed = changedDuringReconcile;
+            for (TaskTransition transition : transitions) {
+                if (transition.before() != null) {
+                    current.apply(transition.before(), -1);
+                }
+                if (transition.after() != null) {
+                    current.apply(transition.after(), 1);
+                }
+                if (changed != null) {
+                    Long id = transition.after() != null ? transition.after().id() : transition.before().id();
+                    changed.put(id, Optional.ofNullable(transition.after()));
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            loadLock.lock();
+            try {
+                if (!loaded) {
+                    reconcile();
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+    }
+}
@@ -1,44 +1,71 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.cache.CacheDependencyTracker;
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
 import com.buildmaster.projecttracker.dto.CustomApiResponse;
 import com.buildmaster.projecttracker.dto.TaskDTO;
 import com.buildmaster.projecttracker.enums.ActionType;
 import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.enums.OutboxEventType;
+import com.buildmaster.projecttracker.enums.TaskSortKey;
 import com.buildmaster.projecttracker.enums.TaskStatus;
 import com.buildmaster.projecttracker.event.TaskAssignedEvent;
+import com.buildmaster.projecttracker.event.TaskStatusChangedEvent;
 import com.buildmaster.projecttracker.exception.ResourceNotFoundException;
 import com.buildmaster.projecttracker.mapper.TaskMapper;
 import com.buildmaster.projecttracker.model.Developer;
 import com.buildmaster.projecttracker.model.Project;
 import com.buildmaster.projecttracker.model.Task;
+import com.buildmaster.projecttracker.outbox.OutboxPublisher;
 import com.buildmaster.projecttracker.repository.DeveloperRepository;
 import com.buildmaster.projecttracker.repository.ProjectRepository;
 import com.buildmaster.projecttracker.repository.TaskRepository;
 import com.buildmaster.projecttracker.util.SecurityUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final DeveloperRepository developerRepository;
     private final TaskMapper taskMapper;
     private final AuditLogService auditLogService;
-    private final ApplicationEventPublisher applicationEventPublisher;
-    private final NotificationService notificationService;
+    private final OutboxPublisher outboxPublisher;
+    private final TaskCounterService taskCounterService;
+    private final DeveloperLeaderboard developerLeaderboard;
+    private final SearchService searchService;
+    private final CacheDependencyTracker cacheDependencyTracker;
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}")
+    private int jdbcBatchSize;
 
 
     @Cacheable(
@@ -46,61 +73,203 @@ public class TaskService {
     )
     public CustomApiResponse<Page<TaskDTO.TaskResponse>> getAllTasks(Pageable pageable) {
         Page<TaskDTO.TaskResponse> response = taskRepository.findAll(pageable).map(taskMapper::toTaskDTO);
+        Set<String> dependencies = new LinkedHashSet<>();
+        dependencies.add(CacheDependencyTracker.membership("task"));
+        if (pageable.getSort().isSorted()) {
+            dependencies.add(CacheDependencyTracker.ordering("task"));
+        }
+        // Each row embeds its project and developer summaries, so renaming either must evict the page.
+        response.forEach(task -> {
+            dependencies.add(CacheDependencyTracker.task(task.id()));
+            if (task.project() != null) {
+                dependencies.add(CacheDependencyTracker.project(task.project().id()));
+            }
+            if (task.assignedDeveloper() != null) {
+                dependencies.add(CacheDependencyTracker.developer(task.assignedDeveloper().id()));
+            }
+        });
+        cacheDependencyTracker.register("allTasks", pageable, dependencies);
         return CustomApiResponse.success("Tasks List", response);
     }
 
-    @CacheEvict(value = {"allProjects", "projectsWithoutTasks", "allTasks","topDevelopers"}, allEntries = true)
+    /**
+     * Returns one page of tasks projected straight into {@link TaskDTO.TaskResponse} in a single joined
+     * query. The cursor carries the sort key of the last row, so deep pages seek on the index instead of
+     * skipping rows; the total count is only run when the caller asks for it.
+     */
+    @Transactional(readOnly = true)
+    public CustomApiResponse<TaskDTO.TaskKeysetPage> getTasksKeyset(TaskSortKey sort, String cursor, int size, boolean includeTotal) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        List<TaskDTO.TaskResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = sort == TaskSortKey.DUE_DATE
+                    ? taskRepository.findResponsesByDueDate(limit)
+                    : taskRepository.findResponsesAfterId(0L, limit);
+        } else {
+            TaskDTO.TaskResponse last = decodeCursor(sort, cursor);
+            rows = sort == TaskSortKey.DUE_DATE
+                    ? taskRepository.findResponsesAfterDueDate(last.dueDate(), last.id(), limit)
+                    : taskRepository.findResponsesAfterId(last.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = encodeCursor(sort, rows.getLast());
+        }
+        Long total = includeTotal ? taskRepository.count() : null;
+        return CustomApiResponse.success("Tasks List", new TaskDTO.TaskKeysetPage(List.copyOf(rows), nextCursor, total));
+    }
+
     @Transactional
     public CustomApiResponse<TaskDTO.TaskResponse> createTask(TaskDTO.TaskRequest request) {
         Task task = taskMapper.toTaskEntity(request);
         Task savedTask = taskRepository.save(task);
+        recordTransitions(List.of(new TaskCounterService.TaskTransition(null, TaskDTO.TaskSnapshot.from(savedTask))));
+        searchService.recordTasks(List.of(savedTask));
         TaskDTO.TaskResponse response = taskMapper.toTaskDTO(savedTask);
         auditLogService.logAudit(ActionType.CREATE, EntityType.TASK, savedTask.getId().toString(), "system", response);
 
 
         if(savedTask.getAssignedDeveloper() != null) {
-            notificationService.createNotification(
-                    savedTask.getAssignedDeveloper().getEmail(),
-                    "You have been assigned to task: " + savedTask.getTitle() ,
-                    "TASK_ASSIGNMENT",
-                    savedTask.getId(),
-                    Task.class.getSimpleName()
-            );
-            applicationEventPublisher.publishEvent(new TaskAssignedEvent(this, savedTask, savedTask.getAssignedDeveloper()));
+            outboxPublisher.publish(OutboxEventType.TASK_ASSIGNED, savedTask.getId(), TaskAssignedEvent.from(savedTask));
         }
         return CustomApiResponse.success("Task created", response);
     }
 
+    /**
+     * Creates many tasks in one transaction. Referenced projects and developers are resolved with one
+     * IN query each, inserts go out as JDBC batches (the persistence context is flushed and cleared
+     * every batch), and audit entries are emitted as a single batch. Assignment notifications go to the
+     * outbox, whose rows are batch-inserted with the tasks.
+     */
+    @Transactional
+    public CustomApiResponse<TaskDTO.TaskBulkResponse> createTasks(TaskDTO.TaskBulkCreateRequest request) {
+        List<TaskDTO.TaskRequest> rows = request.tasks();
+        Map<Long, Project> projects = projectRepository.findAllById(rows.stream().map(TaskDTO.TaskRequest::projectId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Project::getId, Function.identity()));
+        Map<Long, Developer> developers = developerRepository.findAllById(rows.stream().map(TaskDTO.TaskRequest::assignedDeveloperId)
+                        .filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Developer::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (TaskDTO.TaskRequest row : rows) {
+            Project project = projects.get(row.projectId());
+            if (project == null) {
+                throw new ResourceNotFoundException("Project not found with id " + row.projectId());
+            }
+            Developer developer = null;
+            if (row.assignedDeveloperId() != null) {
+                developer = developers.get(row.assignedDeveloperId());
+                if (developer == null) {
+                    throw new ResourceNotFoundException("Developer not found with id: " + row.assignedDeveloperId());
+                }
+            }
+            tasks.add(taskMapper.toTaskEntity(row, project, developer));
+        }
+
+        for (int from = 0; from < tasks.size(); from += jdbcBatchSize) {
+            taskRepository.saveAll(tasks.subList(from, Math.min(from + jdbcBatchSize, tasks.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        Map<String, TaskDTO.TaskResponse> audited = new LinkedHashMap<>();
+        List<TaskCounterService.TaskTransition> transitions = new ArrayList<>(tasks.size());
+        List<OutboxPublisher.PendingEvent> events = new ArrayList<>();
+        for (Task task : tasks) {
+            audited.put(task.getId().toString(), taskMapper.toTaskDTO(task));
+            transitions.add(new TaskCounterService.TaskTransition(null, TaskDTO.TaskSnapshot.from(task)));
+            if (task.getAssignedDeveloper() != null) {
+                events.add(new OutboxPublisher.PendingEvent(OutboxEventType.TASK_ASSIGNED, task.getId(), TaskAssignedEvent.from(task)));
+            }
+        }
+        recordTransitions(transitions);
+        searchService.recordTasks(tasks);
+        auditLogService.logAuditBatch(ActionType.CREATE, EntityType.TASK, "system", audited);
+        outboxPublisher.publishAll(events);
+
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        return CustomApiResponse.success("Tasks created", new TaskDTO.TaskBulkResponse(ids.size(), ids));
+    }
+
+    /**
+     * Applies many status changes in one transaction. The tasks are loaded with one IN query and the
+     * dirty rows are written as JDBC batches on flush.
+     */
+    @Transactional
+    public CustomApiResponse<TaskDTO.TaskBulkResponse> updateTaskStatuses(TaskDTO.TaskBulkStatusRequest request) {
+        Map<Long, TaskStatus> statuses = request.updates().stream()
+                .collect(Collectors.toMap(TaskDTO.TaskStatusChange::id, TaskDTO.TaskStatusChange::status, (first, last) -> last, LinkedHashMap::new));
+        List<Task> tasks = taskRepository.findAllByIdIn(statuses.keySet());
+        if (tasks.size() != statuses.size()) {
+            Set<Long> missing = new LinkedHashSet<>(statuses.keySet());
+            tasks.forEach(task -> missing.remove(task.getId()));
+            throw new ResourceNotFoundException("Tasks not found with ids: " + missing);
+        }
+
+        List<AuditLogDTO.AuditChange> changes = new ArrayList<>(tasks.size());
+        List<TaskCounterService.TaskTransition> transitions = new ArrayList<>(tasks.size());
+        List<OutboxPublisher.PendingEvent> events = new ArrayList<>();
+        for (Task task : tasks) {
+            AuditLogDTO.AuditTaskInfo before = AuditLogDTO.AuditTaskInfo.from(task);
+            TaskDTO.TaskSnapshot snapshotBefore = TaskDTO.TaskSnapshot.from(task);
+            task.setStatus(statuses.get(task.getId()));
+            changes.add(new AuditLogDTO.AuditChange(task.getId().toString(), before, AuditLogDTO.AuditTaskInfo.from(task)));
+            transitions.add(new TaskCounterService.TaskTransition(snapshotBefore, TaskDTO.TaskSnapshot.from(task)));
+            if (task.getAssignedDeveloper() != null) {
+                events.add(new OutboxPublisher.PendingEvent(OutboxEventType.TASK_STATUS_CHANGED, task.getId(), TaskStatusChangedEvent.from(task)));
+            }
+        }
+        outboxPublisher.publishAll(events);
+        taskRepository.flush();
+
+        recordTransitions(transitions);
+        searchService.recordTasks(tasks);
+        auditLogService.logAuditChanges(ActionType.UPDATE, EntityType.TASK, "system", changes);
+
+        List<Long> ids = tasks.stream().map(Task::getId).toList();
+        return CustomApiResponse.success("Task statuses updated", new TaskDTO.TaskBulkResponse(ids.size(), ids));
+    }
+
     @Cacheable(value = "tasks", key="#id")
     public CustomApiResponse<TaskDTO.TaskResponse> getTaskById(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
         TaskDTO.TaskResponse taskResponse = taskMapper.toTaskDTO(task);
+        List<String> dependencies = new ArrayList<>(List.of(CacheDependencyTracker.task(id), CacheDependencyTracker.project(task.getProject().getId())));
+        if (task.getAssignedDeveloper() != null) {
+            dependencies.add(CacheDependencyTracker.developer(task.getAssignedDeveloper().getId()));
+        }
+        cacheDependencyTracker.register("tasks", id, dependencies);
         return CustomApiResponse.success("Task details", taskResponse);
     }
 
+    @Cacheable(value = "projectTasks", key = "#projectId")
     public CustomApiResponse<List<TaskDTO.TaskSummaryResponse>> getTasksByProjectId(Long projectId) {
         List<TaskDTO.TaskSummaryResponse> response =  taskRepository.findByProjectId(projectId).stream()
                 .map(taskMapper::toTaskSummaryResponse)
                 .collect(Collectors.toList());
+        cacheDependencyTracker.register("projectTasks", projectId, List.of(CacheDependencyTracker.project(projectId)));
 
         return CustomApiResponse.success("Project tasks", response);
     }
 
+    @Cacheable(value = "developerTasks", key = "#developerId")
     public CustomApiResponse<List<TaskDTO.TaskSummaryResponse>> getTasksByDeveloperId(Long developerId) {
         List<TaskDTO.TaskSummaryResponse> response =  taskRepository.findTasksByDeveloperId(developerId).stream()
                 .map(taskMapper::toTaskSummaryResponse)
                 .toList();
+        cacheDependencyTracker.register("developerTasks", developerId, List.of(CacheDependencyTracker.developer(developerId)));
         return CustomApiResponse.success("Developer tasks", response);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "#id"),
-            @CacheEvict(value = {"allTasks","overdueTasks", "taskCounts"}, allEntries = true)
-    })
     public CustomApiResponse<TaskDTO.TaskResponse> updateTask(Long id, TaskDTO.TaskUpdateRequest taskRequest) {
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        AuditLogDTO.AuditTaskInfo before = AuditLogDTO.AuditTaskInfo.from(existingTask);
+        TaskDTO.TaskSnapshot snapshotBefore = TaskDTO.TaskSnapshot.from(existingTask);
 
         if(taskRequest.title() != null) existingTask.setTitle(taskRequest.title());
         if(taskRequest.description() != null) existingTask.setDescription(taskRequest.description());
@@ -116,64 +285,104 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(existingTask);
+        recordTransitions(List.of(new TaskCounterService.TaskTransition(snapshotBefore, TaskDTO.TaskSnapshot.from(updatedTask))));
+        searchService.recordTasks(List.of(updatedTask));
         TaskDTO.TaskResponse response = taskMapper.toTaskDTO(updatedTask);
-        auditLogService.logAudit(ActionType.UPDATE, EntityType.TASK, updatedTask.getId().toString(), "system", response);
+        auditLogService.logAuditChange(ActionType.UPDATE, EntityType.TASK, updatedTask.getId().toString(), "system",
+                before, AuditLogDTO.AuditTaskInfo.from(updatedTask));
         return CustomApiResponse.success("Task updated", response);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value="tasks", key="#id"),
-            @CacheEvict(value = {"allTasks", "taskCounts", "overdueTasks"}, allEntries = true)
-    })
     public CustomApiResponse<TaskDTO.TaskResponse> updateTaskStatus(Long id, TaskDTO.TaskUpdateStatusRequest statusRequest) {
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        AuditLogDTO.AuditTaskInfo before = AuditLogDTO.AuditTaskInfo.from(existingTask);
+        TaskDTO.TaskSnapshot snapshotBefore = TaskDTO.TaskSnapshot.from(existingTask);
 
         existingTask.setStatus(statusRequest.status());
         Task updatedTask = taskRepository.save(existingTask);
+        recordTransitions(List.of(new TaskCounterService.TaskTransition(snapshotBefore, TaskDTO.TaskSnapshot.from(updatedTask))));
+        searchService.recordTasks(List.of(updatedTask));
 
         TaskDTO.TaskResponse response = taskMapper.toTaskDTO(updatedTask);
-        auditLogService.logAudit(ActionType.UPDATE, EntityType.TASK, updatedTask.getId().toString(), "system", response);
+        auditLogService.logAuditChange(ActionType.UPDATE, EntityType.TASK, updatedTask.getId().toString(), "system",
+                before, AuditLogDTO.AuditTaskInfo.from(updatedTask));
         if(updatedTask.getAssignedDeveloper() != null){
-                notificationService.createNotification(
-                        updatedTask.getAssignedDeveloper().getEmail(),
-                        "Status of task '" + updatedTask.getTitle() + " in project ",
-                        "TASK_STATUS_UPDATE",
-                        updatedTask.getId(),
-                        Task.class.getSimpleName()
-                );
+            outboxPublisher.publish(OutboxEventType.TASK_STATUS_CHANGED, updatedTask.getId(), TaskStatusChangedEvent.from(updatedTask));
         }
         return CustomApiResponse.success("Task status updated", response);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value="tasks", key="#id"),
-            @CacheEvict(value = {"allTasks","taskCounts","overdueTasks"}, allEntries = true)
-    })
     public CustomApiResponse<Void> deleteTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
         taskRepository.delete(task);
+        recordTransitions(List.of(new TaskCounterService.TaskTransition(TaskDTO.TaskSnapshot.from(task), null)));
+        searchService.removeTasks(List.of(task.getId()));
         auditLogService.logAudit(ActionType.UPDATE, EntityType.TASK, task.getId().toString(), "system", null);
         return CustomApiResponse.success("Developer Deleted", null);
     }
 
-    @Cacheable(value="overdueTasks")
     public CustomApiResponse<List<TaskDTO.TaskSummaryResponse>> getOverdueTasks() {
-        List<TaskDTO.TaskSummaryResponse> response = taskRepository.findByDueDateBeforeAndStatusNot(LocalDate.now(), TaskStatus.COMPLETED).stream()
-                .map(taskMapper::toTaskSummaryResponse)
-                .toList();
+        return CustomApiResponse.success("Tasks", taskCounterService.overdueTasks());
+    }
 
-        return CustomApiResponse.success("Tasks", response);
+    public CustomApiResponse<List<Object[]>> getTaskCountsByStatus(Long projectId, Long developerId) {
+        return CustomApiResponse.success("Tasks", taskCounterService.countByStatus(projectId, developerId));
     }
 
-    @Cacheable(value="taskCounts")
-    public CustomApiResponse<List<Object[]>> getTaskCountsByStatus() {
-        List<Object[]> response = taskRepository.countTasksByStatus();
-        return CustomApiResponse.success("Tasks", response);
+    /**
+     * Feeds task transitions to the in-memory counters and leaderboard, and evicts only the cache entries derived from
+     * the tasks, projects and developers involved on either side of each transition.
+     */
+    private void recordTransitions(List<TaskCounterService.TaskTransition> transitions) {
+        taskCounterService.recordTransitions(transitions);
+        developerLeaderboard.recordTransitions(transitions);
+
+        Set<String> dependencies = new LinkedHashSet<>();
+        for (TaskCounterService.TaskTransition transition : transitions) {
+            TaskDTO.TaskSnapshot before = transition.before();
+            TaskDTO.TaskSnapshot after = transition.after();
+            if (before == null || after == null) {
+                dependencies.add(CacheDependencyTracker.membership("task"));
+            } else {
+                dependencies.add(CacheDependencyTracker.ordering("task"));
+            }
+            if (after == null || (before != null && !Objects.equals(before.projectId(), after.projectId()))) {
+                dependencies.add(CacheDependencyTracker.PROJECTS_WITHOUT_TASKS);
+            }
+            for (TaskDTO.TaskSnapshot snapshot : new TaskDTO.TaskSnapshot[]{before, after}) {
+                if (snapshot == null) {
+                    continue;
+                }
+                dependencies.add(CacheDependencyTracker.task(snapshot.id()));
+                dependencies.add(CacheDependencyTracker.project(snapshot.projectId()));
+                if (snapshot.assignedDeveloperId() != null) {
+                    dependencies.add(CacheDependencyTracker.developer(snapshot.assignedDeveloperId()));
+                }
+            }
+        }
+        cacheDependencyTracker.invalidate(dependencies);
     }
 
+    private TaskDTO.TaskResponse decodeCursor(TaskSortKey sort, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (sort == TaskSortKey.DUE_DATE) {
+                int separator = raw.indexOf('|');
+                return new TaskDTO.TaskResponse(Long.parseLong(raw.substring(separator + 1)), null, null, null,
+                        LocalDate.parse(raw.substring(0, separator)), false, null, null, null, null);
+            }
+            return new TaskDTO.TaskResponse(Long.parseLong(raw), null, null, null, null, false, null, null, null, null);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid task cursor");
+        }
+    }
 
+    private String encodeCursor(TaskSortKey sort, TaskDTO.TaskResponse task) {
+        String raw = sort == TaskSortKey.DUE_DATE ? task.dueDate() + "|" + task.id() : String.valueOf(task.id());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 }
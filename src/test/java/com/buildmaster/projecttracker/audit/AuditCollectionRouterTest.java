@@ -0,0 +1,56 @@
+package com.buildmaster.projecttracker.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditCollectionRouterTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private AuditCollectionRouter router;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionNames()).thenReturn(Set.of(
+                "audit_logs", "audit_logs_202501", "audit_logs_202502", "audit_logs_202504", "audit_rollups_hourly"));
+        router = new AuditCollectionRouter(mongoTemplate, mock(AuditLogIndexInitializer.class), "audit_logs");
+    }
+
+    @Test
+    @DisplayName("Should route a timestamp to its monthly bucket")
+    void collectionFor_shouldUseMonthlyBucket() {
+        assertThat(router.collectionFor(LocalDateTime.of(2025, 3, 31, 23, 59))).isEqualTo("audit_logs_202503");
+    }
+
+    @Test
+    @DisplayName("Should return only buckets overlapping the window, newest first")
+    void collectionsBetween_shouldSelectOverlappingBuckets() {
+        assertThat(router.collectionsBetween(LocalDateTime.of(2025, 2, 10, 0, 0), LocalDateTime.of(2025, 4, 2, 0, 0)))
+                .containsExactly("audit_logs_202504", "audit_logs_202502");
+    }
+
+    @Test
+    @DisplayName("Should include the legacy collection only when the window reaches the oldest bucket")
+    void collectionsBetween_shouldAppendLegacyCollectionForOpenWindows() {
+        assertThat(router.collectionsBetween(null, null))
+                .containsExactly("audit_logs_202504", "audit_logs_202502", "audit_logs_202501", "audit_logs");
+        assertThat(router.collectionsBetween(LocalDateTime.of(2025, 4, 1, 0, 0), null))
+                .containsExactly("audit_logs_202504");
+    }
+
+    @Test
+    @DisplayName("Should list buckets older than the retention cutoff, oldest first")
+    void collectionsBefore_shouldReturnExpiredBuckets() {
+        assertThat(router.collectionsBefore(YearMonth.of(2025, 4)))
+                .containsExactly("audit_logs_202501", "audit_logs_202502");
+    }
+}
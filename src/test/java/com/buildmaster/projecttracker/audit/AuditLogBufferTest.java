@@ -0,0 +1,184 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.AuditOverflowPolicy;
+import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.model.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AuditLogBufferTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private final AuditLogWriter auditLogWriter = mock(AuditLogWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> insertedBatchSizes = new CopyOnWriteArrayList<>();
+    private AuditLogBuffer buffer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    private AuditLogBuffer newBuffer(int capacity, int batchSize, AuditOverflowPolicy policy) {
+        buffer = new AuditLogBuffer(auditLogWriter, new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                capacity, batchSize, 20, policy, spillDirectory.toString(), 3, 10);
+        return buffer;
+    }
+
+    private void recordInserts() {
+        doAnswer(invocation -> {
+            insertedBatchSizes.add(((Collection<?>) invocation.getArgument(0)).size());
+            return null;
+        }).when(auditLogWriter).write(anyList());
+    }
+
+    private AuditLog auditLog(int i) {
+        return AuditLog.builder()
+                .actionType(ActionType.CREATE)
+                .entityType(EntityType.TASK)
+                .entityId(String.valueOf(i))
+                .timestamp(LocalDateTime.now())
+                .actorName("system")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should flush queued audit logs in batches no larger than the batch size")
+    void submit_shouldFlushInBatches() {
+        recordInserts();
+        AuditLogBuffer buffer = newBuffer(1000, 100, AuditOverflowPolicy.BLOCK);
+        for (int i = 0; i < 250; i++) {
+            buffer.submit(auditLog(i));
+        }
+        buffer.start();
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> insertedBatchSizes.stream().mapToInt(Integer::intValue).sum() == 250);
+        assertThat(insertedBatchSizes).allMatch(size -> size <= 100);
+        assertThat(meterRegistry.get("audit.buffer.flushed").counter().count()).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("Should retry a batch MongoDB rejects under BLOCK instead of dropping it")
+    void flush_shouldRetryFailedBatchUnderBlock() {
+        AtomicInteger failures = new AtomicInteger(2);
+        doAnswer(invocation -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("mongo unavailable");
+            }
+            insertedBatchSizes.add(((Collection<?>) invocation.getArgument(0)).size());
+            return null;
+        }).when(auditLogWriter).write(anyList());
+
+        AuditLogBuffer buffer = newBuffer(100, 100, AuditOverflowPolicy.BLOCK);
+        for (int i = 0; i < 10; i++) {
+            buffer.submit(auditLog(i));
+        }
+        buffer.start();
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> insertedBatchSizes.stream().mapToInt(Integer::intValue).sum() == 10);
+        assertThat(meterRegistry.get("audit.buffer.flush.failures").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.buffer.dropped").counter().count()).isZero();
+        assertThat(meterRegistry.get("audit.buffer.spilled").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest entries and count drops when full under DROP_OLDEST")
+    void submit_shouldDropOldestWhenFull() {
+        AuditLogBuffer buffer = newBuffer(10, 10, AuditOverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < 15; i++) {
+            buffer.submit(auditLog(i));
+        }
+
+        assertThat(buffer.depth()).isEqualTo(10);
+        assertThat(meterRegistry.get("audit.buffer.dropped").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should spill overflow to disk and replay it once MongoDB accepts writes again")
+    void submit_shouldSpillAndReplayUnderSpillToDisk() {
+        AtomicBoolean mongoAvailable = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            if (!mongoAvailable.get()) {
+                throw new IllegalStateException("mongo unavailable");
+            }
+            insertedBatchSizes.add(((Collection<?>) invocation.getArgument(0)).size());
+            return null;
+        }).when(auditLogWriter).write(anyList());
+
+        AuditLogBuffer buffer = newBuffer(5, 5, AuditOverflowPolicy.SPILL_TO_DISK);
+        for (int i = 0; i < 20; i++) {
+            buffer.submit(auditLog(i));
+        }
+        assertThat(meterRegistry.get("audit.buffer.spilled").counter().count()).isEqualTo(15);
+
+        buffer.start();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> meterRegistry.get("audit.buffer.spilled").counter().count() >= 20);
+        mongoAvailable.set(true);
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> insertedBatchSizes.stream().mapToInt(Integer::intValue).sum() == 20);
+        assertThat(meterRegistry.get("audit.buffer.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move unreadable spilled lines aside and replay the rest exactly once")
+    void replay_shouldRejectCorruptLinesWithoutDuplicating() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        List<String> written = new CopyOnWriteArrayList<>();
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            List<AuditLog> batch = invocation.getArgument(0);
+            // The first write fails once, after the first batch has already been written.
+            if (written.size() == 2 && failNext.getAndSet(false)) {
+                throw new IllegalStateException("mongo unavailable");
+            }
+            batch.forEach(auditLog -> written.add(auditLog.getEntityId()));
+            return null;
+        }).when(auditLogWriter).write(anyList());
+
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            lines.add(objectMapper.writeValueAsString(auditLog(i)));
+        }
+        lines.add(2, "{not json");
+        Files.write(spillDirectory.resolve("audit-spill.ndjson"), lines);
+
+        newBuffer(10, 2, AuditOverflowPolicy.SPILL_TO_DISK).start();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> written.size() == 4);
+        assertThat(written).containsExactly("0", "1", "2", "3");
+        assertThat(Files.readAllLines(spillDirectory.resolve("audit-spill.rejected.ndjson"))).containsExactly("{not json");
+        assertThat(meterRegistry.get("audit.buffer.spill.rejected").counter().count()).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !Files.exists(spillDirectory.resolve("audit-spill.ndjson.replaying")));
+    }
+}
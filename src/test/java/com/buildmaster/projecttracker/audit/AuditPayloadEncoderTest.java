@@ -0,0 +1,88 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.mapper.AuditLogMapper;
+import com.buildmaster.projecttracker.model.AuditLog;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditPayloadEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final JsonAuditPayloadEncoder jsonEncoder = new JsonAuditPayloadEncoder(objectMapper);
+    private final SmileAuditPayloadEncoder smileEncoder = new SmileAuditPayloadEncoder(objectMapper);
+
+    private final AuditLogDTO.AuditTaskInfo before = new AuditLogDTO.AuditTaskInfo(
+            7L, "Write spec", "First draft", TaskStatus.TODO, LocalDate.of(2025, 7, 1), 3L, "Apollo", 11L, "Ada");
+    private final AuditLogDTO.AuditTaskInfo after = new AuditLogDTO.AuditTaskInfo(
+            7L, "Write spec", "First draft", TaskStatus.IN_PROGRESS, LocalDate.of(2025, 7, 1), 3L, "Apollo", 12L, "Grace");
+
+    @Test
+    @DisplayName("Should record only the fields that changed between two snapshots")
+    void encodeDiff_shouldContainOnlyChangedFields() throws Exception {
+        AuditPayload payload = jsonEncoder.encodeDiff(before, after);
+
+        JsonNode diff = objectMapper.readTree(payload.text());
+        assertThat(payload.encoding()).isEqualTo(AuditPayload.JSON);
+        assertThat(diff.properties()).extracting(Map.Entry::getKey)
+                .containsExactly("status", "assignedDeveloperId", "assignedDeveloperName");
+        assertThat(diff.at("/status/before").asText()).isEqualTo("TODO");
+        assertThat(diff.at("/status/after").asText()).isEqualTo("IN_PROGRESS");
+    }
+
+    @Test
+    @DisplayName("Should produce a smaller Smile payload that decodes to the same JSON tree")
+    void smileEncode_shouldRoundTripToSameJson() throws Exception {
+        AuditPayload json = jsonEncoder.encode(after);
+        AuditPayload smile = smileEncoder.encode(after);
+
+        assertThat(smile.isBinary()).isTrue();
+        assertThat(smile.binary().length).isLessThan(json.text().getBytes().length);
+        assertThat(objectMapper.readTree(SmileAuditPayloadEncoder.toJson(smile.binary())))
+                .isEqualTo(objectMapper.readTree(json.text()));
+    }
+
+    @Test
+    @DisplayName("Should carry binary payloads through the spool codec and render them as JSON")
+    void recordCodec_shouldPreserveBinaryPayload() {
+        AuditPayload smile = smileEncoder.encodeDiff(before, after);
+        AuditLog auditLog = AuditLog.builder()
+                .id("665f1c2e9b1e8a3d4c5b6a79")
+                .actionType(ActionType.UPDATE)
+                .entityType(EntityType.TASK)
+                .entityId("7")
+                .timestamp(LocalDateTime.of(2025, 6, 1, 12, 0))
+                .actorName("system")
+                .payloadEncoding(smile.encoding())
+                .payloadBinary(new Binary(smile.binary()))
+                .build();
+
+        AuditLog decoded = AuditLogRecordCodec.decode(AuditLogRecordCodec.encode(auditLog));
+
+        assertThat(decoded.getPayloadEncoding()).isEqualTo(AuditPayload.SMILE);
+        assertThat(decoded.getPayloadBinary().getData()).isEqualTo(smile.binary());
+        assertThat(new AuditLogMapper().toAuditLogDTO(decoded).payload()).contains("\"assignedDeveloperName\"");
+    }
+
+    @Test
+    @DisplayName("Should render message templates without MessageFormat quote handling")
+    void messageTemplate_shouldSubstituteArguments() {
+        AuditMessageTemplate template = AuditMessageTemplate.compile("Project '{0}' assigned to {1}{2}.");
+
+        assertThat(template.render(new Object[]{"Apollo", "Ada"})).isEqualTo("Project 'Apollo' assigned to Ada{2}.");
+    }
+}
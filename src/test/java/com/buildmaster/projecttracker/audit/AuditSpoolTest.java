@@ -0,0 +1,210 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.model.AuditLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AuditSpoolTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final AuditLogWriter auditLogWriter = mock(AuditLogWriter.class);
+    private final Set<String> delivered = ConcurrentHashMap.newKeySet();
+    private AuditSpool spool;
+    private AuditSpoolReplayer replayer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (replayer != null) {
+            replayer.stop();
+        }
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    private AuditSpool openSpool() throws IOException {
+        spool = new AuditSpool(new SimpleMeterRegistry(), spoolDirectory.toString(), SEGMENT_SIZE);
+        spool.open();
+        return spool;
+    }
+
+    private void startReplayer() {
+        replayer = new AuditSpoolReplayer(spool, auditLogWriter, new SimpleMeterRegistry(), 100, 5, 50);
+        replayer.start();
+    }
+
+    private void recordDeliveries(AtomicBoolean mongoAvailable) {
+        doAnswer(invocation -> {
+            if (!mongoAvailable.get()) {
+                throw new IllegalStateException("mongo unavailable");
+            }
+            List<AuditLog> auditLogs = invocation.getArgument(0);
+            auditLogs.forEach(auditLog -> delivered.add(auditLog.getId()));
+            return null;
+        }).when(auditLogWriter).write(anyList());
+    }
+
+    private AuditLog auditLog(String id) {
+        return AuditLog.builder()
+                .id(id)
+                .actionType(ActionType.UPDATE)
+                .entityType(EntityType.PROJECT)
+                .entityId("42")
+                .timestamp(LocalDateTime.now())
+                .actorName("system")
+                .payload("{\"name\":\"Apollo\"}")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should deliver every appended record when MongoDB goes away mid-load and comes back")
+    void append_shouldNotLoseRecordsAcrossMongoOutage() throws Exception {
+        AtomicBoolean mongoAvailable = new AtomicBoolean(true);
+        recordDeliveries(mongoAvailable);
+        openSpool();
+        startReplayer();
+
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (thread == 0 && i == perThread / 2) {
+                        mongoAvailable.set(false);
+                    }
+                    spool.append(AuditLogRecordCodec.encode(auditLog(thread + "-" + i)));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).hasSizeLessThan(threads * perThread);
+
+        mongoAvailable.set(true);
+        await().atMost(Duration.ofSeconds(15)).until(() -> delivered.size() == threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should replay unacknowledged records from the checkpoint after a restart")
+    void open_shouldReplayFromCheckpointAfterRestart() throws Exception {
+        openSpool();
+        for (int i = 0; i < 10; i++) {
+            spool.append(AuditLogRecordCodec.encode(auditLog("first-" + i)));
+        }
+        AuditSpool.Batch batch = spool.read(spool.checkpoint(), 4);
+        spool.acknowledge(batch.next());
+        spool.close();
+
+        openSpool();
+        AuditSpool.Batch remaining = spool.read(spool.checkpoint(), 100);
+
+        assertThat(remaining.records()).hasSize(6);
+        assertThat(AuditLogRecordCodec.decode(remaining.records().get(0)).getId()).isEqualTo("first-4");
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the tail of a segment and keep appending after it")
+    void open_shouldTruncateCorruptTail() throws Exception {
+        openSpool();
+        for (int i = 0; i < 3; i++) {
+            spool.append(AuditLogRecordCodec.encode(auditLog("record-" + i)));
+        }
+        AuditSpool.Batch written = spool.read(spool.checkpoint(), 100);
+        int lastOffset = AuditSpool.HEADER_BYTES * 2 + written.records().get(0).length + written.records().get(1).length;
+        spool.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            segment = files.filter(path -> path.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f, 0x7f}), lastOffset + AuditSpool.HEADER_BYTES + 3);
+        }
+
+        openSpool();
+        spool.append(AuditLogRecordCodec.encode(auditLog("after-recovery")));
+        List<String> ids = spool.read(spool.checkpoint(), 100).records().stream()
+                .map(record -> AuditLogRecordCodec.decode(record).getId())
+                .toList();
+
+        assertThat(ids).containsExactly("record-0", "record-1", "after-recovery");
+    }
+
+    @Test
+    @DisplayName("Should roll into new segments and delete them once acknowledged")
+    void acknowledge_shouldDeleteConsumedSegments() throws Exception {
+        openSpool();
+        byte[] record = AuditLogRecordCodec.encode(auditLog("x".repeat(1000)));
+        for (int i = 0; i < 200; i++) {
+            spool.append(record);
+        }
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".seg")).count()).isGreaterThan(1);
+        }
+
+        AuditSpool.Position position = spool.checkpoint();
+        int read = 0;
+        while (read < 200) {
+            AuditSpool.Batch batch = spool.read(position, 50);
+            read += batch.records().size();
+            position = batch.next();
+        }
+        spool.acknowledge(position);
+
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".seg")).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should move an undecodable record to the dead-letter file and replay the rest")
+    void replay_shouldDeadLetterUndecodableRecords() throws Exception {
+        recordDeliveries(new AtomicBoolean(true));
+        openSpool();
+        spool.append(AuditLogRecordCodec.encode(auditLog("before")));
+        spool.append(new byte[]{0x01, 0x02, 0x03});
+        spool.append(AuditLogRecordCodec.encode(auditLog("after")));
+        startReplayer();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered.size() == 2);
+        Path deadLetter = spoolDirectory.resolve("dead-letter.records");
+        await().atMost(Duration.ofSeconds(5)).until(() -> Files.exists(deadLetter));
+
+        assertThat(delivered).containsExactlyInAnyOrder("before", "after");
+        assertThat(Files.size(deadLetter)).isEqualTo(AuditSpool.HEADER_BYTES + 3);
+    }
+}
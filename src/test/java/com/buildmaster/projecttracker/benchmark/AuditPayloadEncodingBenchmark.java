@@ -0,0 +1,114 @@
+package com.buildmaster.projecttracker.benchmark;
+
+import com.buildmaster.projecttracker.audit.AuditPayloadEncoder;
+import com.buildmaster.projecttracker.audit.JsonAuditPayloadEncoder;
+import com.buildmaster.projecttracker.audit.SmileAuditPayloadEncoder;
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
+import com.buildmaster.projecttracker.dto.DeveloperDTO;
+import com.buildmaster.projecttracker.dto.ProjectDTO;
+import com.buildmaster.projecttracker.dto.TaskDTO;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous audit payload path (ObjectMapper.writeValueAsString of the full response DTO
+ * plus MessageFormat) against the cached-writer JSON, field-diff and Smile encoders.
+ * Run {@link #main} for ns/event; bytes/event for each mode is printed once at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditPayloadEncodingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private AuditPayloadEncoder jsonEncoder;
+    private AuditPayloadEncoder smileEncoder;
+    private TaskDTO.TaskResponse response;
+    private AuditLogDTO.AuditTaskInfo before;
+    private AuditLogDTO.AuditTaskInfo after;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonEncoder = new JsonAuditPayloadEncoder(objectMapper);
+        smileEncoder = new SmileAuditPayloadEncoder(objectMapper);
+
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        response = new TaskDTO.TaskResponse(42L, "Migrate billing service", "Move billing onto the new ledger API",
+                TaskStatus.IN_PROGRESS, LocalDate.of(2025, 7, 15), false, now, now,
+                new DeveloperDTO.DeveloperSummaryResponse(7L, "Ada Lovelace", "ada@example.com"),
+                new ProjectDTO.ProjectSummaryResponse(3L, "Apollo", LocalDate.of(2025, 12, 31), ProjectStatus.ACTIVE));
+        before = new AuditLogDTO.AuditTaskInfo(42L, "Migrate billing service", "Move billing onto the new ledger API",
+                TaskStatus.TODO, LocalDate.of(2025, 7, 15), 3L, "Apollo", 7L, "Ada Lovelace");
+        after = new AuditLogDTO.AuditTaskInfo(42L, "Migrate billing service", "Move billing onto the new ledger API",
+                TaskStatus.IN_PROGRESS, LocalDate.of(2025, 7, 15), 3L, "Apollo", 7L, "Ada Lovelace");
+
+        System.out.printf("%nbytes/event: legacy=%d json=%d jsonDiff=%d smile=%d smileDiff=%d%n",
+                objectMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8).length,
+                jsonEncoder.encode(response).text().getBytes(StandardCharsets.UTF_8).length,
+                jsonEncoder.encodeDiff(before, after).text().getBytes(StandardCharsets.UTF_8).length,
+                smileEncoder.encode(response).binary().length,
+                smileEncoder.encodeDiff(before, after).binary().length);
+    }
+
+    @Benchmark
+    public Object legacyObjectMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public Object legacyMessageFormat() {
+        return MessageFormat.format("Project '{0}' created.", response.project());
+    }
+
+    @Benchmark
+    public Object jsonCachedWriter() {
+        return jsonEncoder.encode(response);
+    }
+
+    @Benchmark
+    public Object jsonDiff() {
+        return jsonEncoder.encodeDiff(before, after);
+    }
+
+    @Benchmark
+    public Object smile() {
+        return smileEncoder.encode(response);
+    }
+
+    @Benchmark
+    public Object smileDiff() {
+        return smileEncoder.encodeDiff(before, after);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuditPayloadEncodingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.buildmaster.projecttracker.benchmark;
+
+import com.buildmaster.projecttracker.cache.LoopbackCacheInvalidationBus;
+import com.buildmaster.projecttracker.repository.UserRepository;
+import com.buildmaster.projecttracker.security.JwtAuthenticationFilter;
+import com.buildmaster.projecttracker.security.JwtService;
+import com.buildmaster.projecttracker.security.UserStatusCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of {@link JwtAuthenticationFilter} for a client reusing its access token,
+ * against the previous path: three full parses, each rebuilding the parser and decoding the secret.
+ * The user lookup is an in-memory stub so only token handling is measured; the stateless variant
+ * replaces it with the role claim and the user-status cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "averylongandsecuresecretkeythatissufficientlylongforencryptionanddecryptionpurposes";
+
+    private JwtAuthenticationFilter filter;
+    private JwtAuthenticationFilter statelessFilter;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService();
+        jwtService.setSecretKey(SECRET);
+        jwtService.setJwtExpiration(TimeUnit.MINUTES.toMillis(15));
+        jwtService.setRefreshExpiration(TimeUnit.DAYS.toMillis(7));
+        user = new User("ada@example.com", "password", List.of(new SimpleGrantedAuthority("ROLE_DEVELOPER")));
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.existsByEmail(user.getUsername())).thenReturn(true);
+        UserStatusCache userStatusCache = new UserStatusCache(userRepository, new LoopbackCacheInvalidationBus(),
+                TimeUnit.MINUTES.toMillis(1), TimeUnit.MINUTES.toMillis(15));
+        filter = new JwtAuthenticationFilter(jwtService, username -> user, new ObjectMapper(), userStatusCache, false);
+        statelessFilter = new JwtAuthenticationFilter(jwtService, username -> user, new ObjectMapper(), userStatusCache, true);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Object filterRequest() throws ServletException, IOException {
+        return authenticate(filter);
+    }
+
+    @Benchmark
+    public Object statelessFilterRequest() throws ServletException, IOException {
+        return authenticate(statelessFilter);
+    }
+
+    private Object authenticate(JwtAuthenticationFilter jwtFilter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String username = legacyParse(token).getSubject();
+        return legacyParse(token).getSubject().equals(username) && !legacyParse(token).getExpiration().before(new Date())
+                && username.equals(user.getUsername());
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.buildmaster.projecttracker.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of a cheap, unauthenticated endpoint while many clients log in at once, against a running
+ * instance. With hashing on its own bounded pool the probe's p99 should stay close to its idle value,
+ * and the excess logins come back as 429 rather than queueing on servlet threads.
+ * <p>
+ * Usage: {@code LoginStormLoadTest [baseUrl] [email] [password] [concurrentLogins] [seconds]}; the
+ * account must exist. Defaults target {@code http://localhost:8080}.
+ */
+public class LoginStormLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        String email = args.length > 1 ? args[1] : "loadtest@example.com";
+        String password = args.length > 2 ? args[2] : "password123";
+        int logins = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 20;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).GET().build();
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+
+        System.out.println("idle probe:  " + summarize(probe(client, probe, 200)));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Map<Integer, AtomicLong> loginStatuses = new ConcurrentHashMap<>();
+        try (ExecutorService storm = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < logins; i++) {
+                storm.submit(() -> {
+                    while (running.get()) {
+                        try {
+                            int status = client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            loginStatuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                        } catch (Exception e) {
+                            loginStatuses.computeIfAbsent(-1, s -> new AtomicLong()).incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            List<Long> underLoad = new ArrayList<>();
+            while (System.nanoTime() < deadline) {
+                underLoad.addAll(probe(client, probe, 20));
+            }
+            running.set(false);
+            System.out.println("storm probe: " + summarize(underLoad));
+        }
+        System.out.println("login responses by status (-1 = I/O error): " + loginStatuses);
+    }
+
+    private static List<Long> probe(HttpClient client, HttpRequest request, int count) throws Exception {
+        List<Long> micros = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long started = System.nanoTime();
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+            micros.add((System.nanoTime() - started) / 1_000);
+            Thread.sleep(10);
+        }
+        return micros;
+    }
+
+    private static String summarize(List<Long> micros) {
+        long[] sorted = micros.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return String.format("n=%d p50=%dus p99=%dus max=%dus", sorted.length,
+                sorted[sorted.length / 2], sorted[(int) (sorted.length * 0.99)], sorted[sorted.length - 1]);
+    }
+}
@@ -0,0 +1,72 @@
+package com.buildmaster.projecttracker.benchmark;
+
+import com.buildmaster.projecttracker.repository.NotificationRepository;
+import com.buildmaster.projecttracker.service.NotificationFanoutService;
+import com.buildmaster.projecttracker.service.NotificationService;
+import com.buildmaster.projecttracker.service.NotificationStreamService;
+import com.buildmaster.projecttracker.service.NotificationUnreadCounter;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Time to notify 10,000 recipients against a running MongoDB: one {@code createNotification} per
+ * recipient, as callers did before broadcasts existed, against {@link NotificationFanoutService}
+ * writing chunked unordered bulk inserts. Both go through the real service, so the unique
+ * idempotency index and the unread counters are part of the cost. Uses and then drops a scratch
+ * database.
+ * <p>
+ * Usage: {@code NotificationFanoutBenchmark [mongoUri] [recipients] [chunkSize] [rounds]}; defaults
+ * to {@code mongodb://localhost:27017}, 10000 recipients, chunks of 1000 and 3 rounds.
+ */
+public class NotificationFanoutBenchmark {
+
+    private static final String DATABASE = "fanout_benchmark";
+
+    public static void main(String[] args) {
+        String uri = args.length > 0 ? args[0] : "mongodb://localhost:27017";
+        int recipients = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        List<String> emails = IntStream.range(0, recipients).mapToObj(i -> "dev" + i + "@example.com").toList();
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, DATABASE);
+            mongoTemplate.getDb().drop();
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            NotificationRepository repository = new MongoRepositoryFactory(mongoTemplate).getRepository(NotificationRepository.class);
+            NotificationStreamService streams = new NotificationStreamService(mongoTemplate, meterRegistry,
+                    Duration.ofMinutes(1), Duration.ofSeconds(3), 256, 5, 500);
+            NotificationService notificationService = new NotificationService(repository, mongoTemplate,
+                    new NotificationUnreadCounter(mongoTemplate), streams);
+            notificationService.ensureIndexes();
+            // Runs on the caller so the elapsed time covers the whole fan-out.
+            NotificationFanoutService fanoutService = new NotificationFanoutService(notificationService, null, null,
+                    new TaskExecutorAdapter(Runnable::run), meterRegistry, chunkSize, 3);
+
+            for (int round = 1; round <= rounds; round++) {
+                long started = System.nanoTime();
+                for (String email : emails) {
+                    notificationService.createNotification(email, "Release on Friday", "ANNOUNCEMENT", 1L, "Project");
+                }
+                long perRecipient = System.nanoTime() - started;
+
+                started = System.nanoTime();
+                fanoutService.broadcast(emails, "Release on Friday", "ANNOUNCEMENT", 1L, "Project");
+                long fanout = System.nanoTime() - started;
+
+                System.out.printf("round %d, %d recipients: per-recipient inserts %d ms, chunked bulk fan-out %d ms%n",
+                        round, recipients, perRecipient / 1_000_000, fanout / 1_000_000);
+            }
+            streams.stop();
+            mongoTemplate.getDb().drop();
+        }
+    }
+}
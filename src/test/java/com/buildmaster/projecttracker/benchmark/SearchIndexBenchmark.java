@@ -0,0 +1,181 @@
+package com.buildmaster.projecttracker.benchmark;
+
+import com.buildmaster.projecttracker.dto.SearchDTO;
+import com.buildmaster.projecttracker.enums.SearchType;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.service.SearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of {@link SearchIndex} queries over 1,000,000 generated tasks in an on-disk index, as the
+ * application runs it. Sample mode reports percentiles; the target is p0.99 under 20 ms. Titles and
+ * descriptions draw from a Zipf-distributed vocabulary, so each query word matches tens of thousands
+ * of tasks. Building the index takes a minute or so at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SearchIndexBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final int VOCABULARY = 10_000;
+    private static final String[] COMMON = {
+            "the", "a", "to", "of", "and", "in", "for", "on", "with", "is",
+            "be", "when", "from", "not", "at", "by", "it", "as", "after", "all"
+    };
+    private static final String[] DOMAIN = {
+            "login", "page", "billing", "service", "migrate", "ledger", "api", "report", "dashboard", "export",
+            "import", "cache", "timeout", "retry", "database", "schema", "index", "query", "slow", "fix",
+            "update", "upgrade", "security", "token", "session", "email", "notification", "queue", "worker", "deploy"
+    };
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Param("1000000")
+    private int tasks;
+
+    private String[] words;
+    private double[] cumulative;
+    private Path directory;
+    private SearchIndex searchIndex;
+    private SearchDTO.SearchRequest term;
+    private SearchDTO.SearchRequest allTerms;
+    private SearchDTO.SearchRequest phrase;
+    private SearchDTO.SearchRequest prefix;
+    private SearchDTO.SearchRequest filtered;
+    private String secondPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("search-benchmark");
+        searchIndex = new SearchIndex(new SimpleMeterRegistry(), directory.toString());
+        searchIndex.open();
+        vocabulary();
+        SplittableRandom random = new SplittableRandom(42);
+        List<SearchDTO.IndexedTask> batch = new ArrayList<>(10_000);
+        for (long id = 1; id <= tasks; id++) {
+            batch.add(new SearchDTO.IndexedTask(id, words(random, 4), words(random, 20), STATUSES[random.nextInt(STATUSES.length)],
+                    START.plusDays(random.nextInt(730)), 1 + id % 1_000));
+            if (batch.size() == 10_000) {
+                searchIndex.indexTasks(batch);
+                batch.clear();
+            }
+        }
+        searchIndex.indexTasks(batch);
+        searchIndex.commit();
+        searchIndex.refresh();
+
+        term = new SearchDTO.SearchRequest("billing", null, null, null, null);
+        allTerms = new SearchDTO.SearchRequest("slow query timeout", null, null, null, null);
+        phrase = new SearchDTO.SearchRequest("\"login page\"", null, null, null, null);
+        prefix = new SearchDTO.SearchRequest("notif*", null, null, null, null);
+        filtered = new SearchDTO.SearchRequest("database migrate", SearchType.TASK, "IN_PROGRESS",
+                START.plusMonths(3), START.plusMonths(9));
+        secondPage = searchIndex.search(term, null, 20).nextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        searchIndex.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Ranks the words for a Zipf distribution (exponent 1): function words first, then the domain
+     * words the queries use, each in roughly 5 to 10% of the tasks, then a long tail.
+     */
+    private void vocabulary() {
+        words = new String[VOCABULARY];
+        cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            words[rank] = rank < COMMON.length ? COMMON[rank]
+                    : rank < COMMON.length + DOMAIN.length ? DOMAIN[rank - COMMON.length]
+                    : "w" + Integer.toString(rank, 36);
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    private String words(SplittableRandom random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            text.append(i == 0 ? "" : " ").append(words[Math.min(rank < 0 ? -rank - 1 : rank, VOCABULARY - 1)]);
+        }
+        return text.toString();
+    }
+
+    @Benchmark
+    public Object singleTerm() {
+        return searchIndex.search(term, null, 20);
+    }
+
+    @Benchmark
+    public Object singleTermSecondPage() {
+        return searchIndex.search(term, secondPage, 20);
+    }
+
+    @Benchmark
+    public Object allTerms() {
+        return searchIndex.search(allTerms, null, 20);
+    }
+
+    @Benchmark
+    public Object phrase() {
+        return searchIndex.search(phrase, null, 20);
+    }
+
+    @Benchmark
+    public Object prefix() {
+        return searchIndex.search(prefix, null, 20);
+    }
+
+    @Benchmark
+    public Object filtered() {
+        return searchIndex.search(filtered, null, 20);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SearchIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
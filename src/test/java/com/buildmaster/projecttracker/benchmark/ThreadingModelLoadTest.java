@@ -0,0 +1,86 @@
+package com.buildmaster.projecttracker.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and latency of a database-backed endpoint with 1,000 and then 10,000 clients, each
+ * looping requests on its own connection, against a running instance. Run once with
+ * {@code spring.threads.virtual.enabled=false} and once with {@code true} to compare the
+ * platform-thread pool with virtual threads. The client needs a file-descriptor limit above the
+ * connection count ({@code ulimit -n}).
+ * <p>
+ * Usage: {@code ThreadingModelLoadTest [url] [seconds] [connections...]}; defaults to
+ * {@code http://localhost:8080/api/v1/projects}, 30 seconds, 1000 and 10000 connections.
+ */
+public class ThreadingModelLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/api/v1/projects";
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int[] connectionCounts = args.length > 2
+                ? Arrays.stream(args, 2, args.length).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1_000, 10_000};
+
+        for (int connections : connectionCounts) {
+            run(URI.create(url), connections, seconds);
+        }
+    }
+
+    private static void run(URI uri, int connections, int seconds) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Long> latenciesMicros = new ConcurrentLinkedQueue<>();
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                clients.submit(() -> {
+                    // One client per connection: HttpClient keeps one HTTP/1.1 connection per in-flight request.
+                    try (HttpClient client = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_1_1)
+                            .connectTimeout(Duration.ofSeconds(10))
+                            .build()) {
+                        while (running.get()) {
+                            long started = System.nanoTime();
+                            int status;
+                            try {
+                                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            } catch (Exception e) {
+                                status = -1;
+                            }
+                            latenciesMicros.add((System.nanoTime() - started) / 1_000);
+                            statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            TimeUnit.SECONDS.sleep(seconds);
+            running.set(false);
+        }
+
+        long[] sorted = latenciesMicros.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        if (sorted.length == 0) {
+            System.out.printf("connections=%d: no responses%n", connections);
+            return;
+        }
+        System.out.printf("connections=%d requests=%d throughput=%.0f/s p50=%dms p99=%dms max=%dms statuses(-1 = I/O error)=%s%n",
+                connections, sorted.length, sorted.length / (double) seconds,
+                sorted[sorted.length / 2] / 1_000, sorted[(int) (sorted.length * 0.99)] / 1_000,
+                sorted[sorted.length - 1] / 1_000, statuses);
+    }
+}
@@ -0,0 +1,79 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheDependencyTrackerTest {
+
+    private CaffeineCacheManager cacheManager;
+    private CacheDependencyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager("allTasks", "tasks", "projectTasks");
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+        tracker = new CacheDependencyTracker(cacheManager);
+
+        cache("allTasks").put("page-0", "tasks 1-2");
+        tracker.register("allTasks", "page-0", List.of(CacheDependencyTracker.membership("task"),
+                CacheDependencyTracker.task(1L), CacheDependencyTracker.task(2L)));
+        cache("allTasks").put("page-1", "tasks 3-4");
+        tracker.register("allTasks", "page-1", List.of(CacheDependencyTracker.membership("task"),
+                CacheDependencyTracker.task(3L), CacheDependencyTracker.task(4L)));
+        cache("tasks").put(3L, "task 3");
+        tracker.register("tasks", 3L, List.of(CacheDependencyTracker.task(3L), CacheDependencyTracker.project(7L)));
+        cache("projectTasks").put(8L, "project 8 tasks");
+        tracker.register("projectTasks", 8L, List.of(CacheDependencyTracker.project(8L)));
+    }
+
+    @Test
+    @DisplayName("Should evict only the entries derived from the mutated task")
+    void invalidate_shouldEvictOnlyDependentEntries() {
+        tracker.invalidate(CacheDependencyTracker.task(3L), CacheDependencyTracker.project(7L));
+
+        assertThat(cache("allTasks").get("page-0")).isNotNull();
+        assertThat(cache("allTasks").get("page-1")).isNull();
+        assertThat(cache("tasks").get(3L)).isNull();
+        assertThat(cache("projectTasks").get(8L)).isNotNull();
+        assertThat(tracker.trackedEntries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should evict every page of a listing when its membership changes")
+    void invalidate_shouldEvictListingOnMembershipChange() {
+        tracker.invalidate(CacheDependencyTracker.membership("task"));
+
+        assertThat(cache("allTasks").get("page-0")).isNull();
+        assertThat(cache("allTasks").get("page-1")).isNull();
+        assertThat(cache("tasks").get(3L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should drop index entries whose cache entry is already gone without touching hit statistics")
+    void prune_shouldForgetExpiredEntries() {
+        cache("projectTasks").evict(8L);
+        long requestsBefore = requestCount("projectTasks");
+
+        tracker.prune();
+
+        assertThat(tracker.trackedEntries()).isEqualTo(3);
+        assertThat(requestCount("projectTasks")).isEqualTo(requestsBefore);
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private long requestCount(String name) {
+        return ((CaffeineCache) cache(name)).getNativeCache().stats().requestCount();
+    }
+}
@@ -0,0 +1,103 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoLevelCacheManagerTest {
+
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+    private CacheDependencyTracker trackerA;
+    private CacheDependencyTracker trackerB;
+
+    @BeforeEach
+    void setUp() {
+        SharedCacheStore sharedStore = new InMemorySharedCacheStore(Duration.ofMinutes(1));
+        LoopbackCacheInvalidationBus busA = new LoopbackCacheInvalidationBus();
+        LoopbackCacheInvalidationBus busB = busA.join();
+        nodeA = node(sharedStore, busA);
+        nodeB = node(sharedStore, busB);
+        trackerA = new CacheDependencyTracker(nodeA, busA);
+        trackerB = new CacheDependencyTracker(nodeB, busB);
+    }
+
+    @Test
+    @DisplayName("Should serve a value written on one node to another node through the shared level")
+    void get_shouldFallBackToSharedLevel() {
+        nodeA.getCache("tasks").put(1L, "task 1");
+
+        assertThat(nodeB.getCache("tasks").get(1L).get()).isEqualTo("task 1");
+        assertThat(localCache(nodeB, "tasks").getIfPresent(1L)).isEqualTo("task 1");
+    }
+
+    @Test
+    @DisplayName("Should drop the local copy on every node when one node evicts an entry")
+    void evict_shouldInvalidateOtherNodes() {
+        nodeA.getCache("tasks").put(1L, "task 1");
+        nodeB.getCache("tasks").get(1L);
+
+        nodeA.getCache("tasks").evict(1L);
+
+        assertThat(localCache(nodeB, "tasks").getIfPresent(1L)).isNull();
+        assertThat(nodeB.getCache("tasks").get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict entries registered on another node when a dependency is invalidated")
+    void invalidate_shouldReachEntriesTrackedOnOtherNodes() {
+        nodeB.getCache("allTasks").put("page-0", "tasks 1-2");
+        trackerB.register("allTasks", "page-0", List.of(CacheDependencyTracker.task(1L)));
+        nodeA.getCache("allTasks").get("page-0");
+
+        trackerA.invalidate(CacheDependencyTracker.task(1L));
+
+        assertThat(nodeA.getCache("allTasks").get("page-0")).isNull();
+        assertThat(nodeB.getCache("allTasks").get("page-0")).isNull();
+        assertThat(trackerB.trackedEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep tracking an entry the local level dropped while the shared level still serves it")
+    void prune_shouldKeepEntriesHeldByTheSharedLevel() {
+        nodeA.getCache("allTasks").put("page-0", "tasks 1-2");
+        trackerA.register("allTasks", "page-0", List.of(CacheDependencyTracker.task(1L)));
+        localCache(nodeA, "allTasks").invalidate("page-0");
+
+        trackerA.prune();
+        trackerB.invalidate(CacheDependencyTracker.task(1L));
+
+        assertThat(nodeB.getCache("allTasks").get("page-0")).isNull();
+        assertThat(trackerA.trackedEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should track the dependencies of a value read from the shared level on the reading node")
+    void get_shouldRegisterSharedDependencies() {
+        nodeA.getCache("allTasks").put("page-0", "tasks 1-2");
+        trackerA.register("allTasks", "page-0", List.of(CacheDependencyTracker.task(1L)));
+
+        assertThat(nodeB.getCache("allTasks").get("page-0").get()).isEqualTo("tasks 1-2");
+        assertThat(trackerB.trackedEntries()).isEqualTo(1);
+    }
+
+    private static TwoLevelCacheManager node(SharedCacheStore sharedStore, CacheInvalidationBus bus) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(sharedStore, bus);
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+        cacheManager.setCacheNames(List.of("tasks", "allTasks"));
+        return cacheManager;
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache(TwoLevelCacheManager cacheManager, String name) {
+        Cache cache = cacheManager.getCache(name);
+        return ((CaffeineCache) cache).getNativeCache();
+    }
+}
@@ -0,0 +1,109 @@
+package com.buildmaster.projecttracker.config;
+
+import com.buildmaster.projecttracker.cache.CacheInvalidationBus;
+import com.buildmaster.projecttracker.cache.CacheReloaders;
+import com.buildmaster.projecttracker.cache.InMemorySharedCacheStore;
+import com.buildmaster.projecttracker.cache.LoopbackCacheInvalidationBus;
+import com.buildmaster.projecttracker.cache.SharedCacheStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class CacheConfigTest {
+
+    private MockEnvironment environment;
+    private CacheReloaders cacheReloaders;
+    private final SharedCacheStore sharedCacheStore = new InMemorySharedCacheStore(Duration.ofMinutes(1));
+    private final CacheInvalidationBus invalidationBus = new LoopbackCacheInvalidationBus();
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        cacheReloaders = new CacheReloaders(new StaticListableBeanFactory().getBeanProvider(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("Should apply the per-cache spec and fall back to the default spec")
+    void cacheManager_shouldApplyPerCacheSpecs() {
+        environment.setProperty("application.cache.default-spec", "maximumSize=10,expireAfterWrite=1m");
+        environment.setProperty("application.cache.spec.tasks", "maximumSize=2000,expireAfterAccess=5m");
+
+        CaffeineCacheManager cacheManager = (CaffeineCacheManager) new CacheConfig().cacheManager(environment, cacheReloaders, sharedCacheStore, invalidationBus);
+
+        assertThat(nativeCache(cacheManager, "tasks").policy().eviction().orElseThrow().getMaximum()).isEqualTo(2000);
+        assertThat(nativeCache(cacheManager, "tasks").policy().expireAfterAccess()).isPresent();
+        assertThat(nativeCache(cacheManager, "projects").policy().eviction().orElseThrow().getMaximum()).isEqualTo(10);
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrderElementsOf(CacheConfig.CACHE_NAMES);
+        assertThat(cacheManager.getCache("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should bound a weighted cache by the estimated size of its values, not their count")
+    void cacheManager_shouldEvictLargeValuesByWeight() {
+        environment.setProperty("application.cache.spec.allTasks", "maximumWeight=20000");
+        CaffeineCacheManager cacheManager = (CaffeineCacheManager) new CacheConfig().cacheManager(environment, cacheReloaders, sharedCacheStore, invalidationBus);
+        Cache<Object, Object> allTasks = nativeCache(cacheManager, "allTasks");
+
+        List<String> largePage = IntStream.range(0, 100).mapToObj(i -> "task title number " + i).toList();
+        for (int page = 0; page < 10; page++) {
+            cacheManager.getCache("allTasks").put(page, largePage);
+        }
+        allTasks.cleanUp();
+
+        assertThat(allTasks.estimatedSize()).isLessThan(10);
+        assertThat(allTasks.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isLessThanOrEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("Should serve the stale value and reload it in the background after refreshAfterWrite")
+    void cacheManager_shouldRefreshHotKeysAsynchronously() throws InterruptedException {
+        environment.setProperty("application.cache.spec.overdueProjects", "maximumSize=1,refreshAfterWrite=1s");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch staleValueRead = new CountDownLatch(1);
+        cacheReloaders.register("overdueProjects", key -> {
+            int load = loads.incrementAndGet();
+            if (load > 1) {
+                awaitQuietly(staleValueRead);
+            }
+            return "overdue-" + load;
+        });
+        CaffeineCacheManager cacheManager = (CaffeineCacheManager) new CacheConfig().cacheManager(environment, cacheReloaders, sharedCacheStore, invalidationBus);
+        org.springframework.cache.Cache overdueProjects = cacheManager.getCache("overdueProjects");
+
+        assertThat(overdueProjects.get("overdue").get()).isEqualTo("overdue-1");
+        Thread.sleep(1100);
+
+        assertThat(overdueProjects.get("overdue").get()).isEqualTo("overdue-1");
+        staleValueRead.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(overdueProjects.get("overdue").get()).isEqualTo("overdue-2"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Cache<Object, Object> nativeCache(CaffeineCacheManager cacheManager, String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
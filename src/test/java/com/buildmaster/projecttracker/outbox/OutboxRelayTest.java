@@ -0,0 +1,138 @@
+package com.buildmaster.projecttracker.outbox;
+
+import com.buildmaster.projecttracker.enums.OutboxEventType;
+import com.buildmaster.projecttracker.enums.OutboxStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.event.TaskAssignedEvent;
+import com.buildmaster.projecttracker.event.TaskStatusChangedEvent;
+import com.buildmaster.projecttracker.model.Notification;
+import com.buildmaster.projecttracker.model.OutboxEvent;
+import com.buildmaster.projecttracker.repository.OutboxEventRepository;
+import com.buildmaster.projecttracker.service.EmailNotificationService;
+import com.buildmaster.projecttracker.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "application.outbox.max-attempts=2"
+})
+@Import({OutboxPublisher.class, OutboxRelay.class, JacksonAutoConfiguration.class, SimpleMeterRegistry.class})
+class OutboxRelayTest {
+
+    private static final TaskAssignedEvent ASSIGNED = new TaskAssignedEvent(
+            7L, "Wire telemetry", "Hook up sensors", LocalDate.now().plusDays(3), TaskStatus.TODO, "Apollo", "Ada", "ada@example.com");
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private EmailNotificationService emailNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        when(notificationService.buildNotification(anyString(), anyString(), anyString(), anyLong(), anyString()))
+                .thenAnswer(invocation -> Notification.builder()
+                        .recipientEmail(invocation.getArgument(0))
+                        .message(invocation.getArgument(1))
+                        .build());
+    }
+
+    @Test
+    @DisplayName("Should deliver a batch as one notification bulk insert and hand each assignment to the email sender")
+    @SuppressWarnings("unchecked")
+    void relayBatch_shouldDeliverNotificationsAndEmails() {
+        outboxPublisher.publish(OutboxEventType.TASK_ASSIGNED, 7L, ASSIGNED);
+        outboxPublisher.publish(OutboxEventType.TASK_STATUS_CHANGED, 7L,
+                new TaskStatusChangedEvent(7L, "Wire telemetry", TaskStatus.IN_PROGRESS, "Apollo", "ada@example.com"));
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(2);
+
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).createNotificationsIdempotent(notifications.capture());
+        assertThat(notifications.getValue())
+                .extracting(Notification::getIdempotencyKey)
+                .doesNotHaveDuplicates()
+                .allMatch(key -> key.endsWith(":notification"));
+        verify(emailNotificationService).sendTaskAssignedEmail(any(TaskAssignedEvent.class), anyString(), anyLong());
+        assertThat(outboxEventRepository.findAll())
+                .filteredOn(event -> event.getEventType() == OutboxEventType.TASK_STATUS_CHANGED)
+                .allMatch(event -> event.getStatus() == OutboxStatus.PROCESSED);
+        OutboxEvent assigned = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getEventType() == OutboxEventType.TASK_ASSIGNED)
+                .findFirst().orElseThrow();
+        assertThat(assigned.getStatus()).as("pending until the email is sent").isEqualTo(OutboxStatus.PENDING);
+        assertThat(assigned.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(10));
+
+        entityManager.flush();
+        outboxEventRepository.markProcessed(List.of(assigned.getId()), LocalDateTime.now());
+        entityManager.clear();
+        assertThat(outboxEventRepository.findById(assigned.getId()).orElseThrow().getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed email with the same idempotency keys, then give up after max attempts")
+    @SuppressWarnings("unchecked")
+    void relayBatch_shouldRetryWithBackoffAndSameKeys() {
+        outboxPublisher.publish(OutboxEventType.TASK_ASSIGNED, 7L, ASSIGNED);
+        doThrow(new IllegalStateException("SMTP unavailable"))
+                .when(emailNotificationService).sendTaskAssignedEmail(any(), anyString(), anyLong());
+
+        outboxRelay.relayBatch();
+        OutboxEvent event = outboxEventRepository.findAll().getFirst();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(outboxRelay.relayBatch()).as("not due yet").isZero();
+
+        event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        entityManager.flush();
+        outboxRelay.relayBatch();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getLastError()).isEqualTo("SMTP unavailable");
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(2)).createNotificationsIdempotent(notifications.capture());
+        assertThat(notifications.getAllValues())
+                .extracting(batch -> batch.getFirst().getIdempotencyKey())
+                .containsOnly(event.idempotencyKey("notification"));
+
+        doReturn(true).when(emailNotificationService).sendTaskAssignedEmail(any(), anyString(), anyLong());
+        assertThat(outboxRelay.relayBatch()).as("failed events are not picked up again").isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.enums.RoleName;
+import com.buildmaster.projecttracker.model.Developer;
+import com.buildmaster.projecttracker.model.Project;
+import com.buildmaster.projecttracker.model.Role;
+import com.buildmaster.projecttracker.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a test transaction so every repository call is its own session, as in production;
+ * entities only become readable from the second-level cache in sessions started after they were
+ * cached.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Developer developer;
+    private Project project;
+    private Role role;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        developer = developerRepository.save(Developer.builder().name("Ada").email("ada@example.com").build());
+        project = projectRepository.save(Project.builder()
+                .name("Apollo")
+                .description("Moon landing")
+                .deadLine(LocalDate.now().plusMonths(6))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        role = roleRepository.save(Role.builder().name(RoleName.ROLE_DEVELOPER).build());
+        userRepository.save(User.builder()
+                .email("ada@example.com")
+                .password("encoded-password")
+                .roles(Set.of(role))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+        projectRepository.deleteAll();
+        developerRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should load warm developers, projects and roles by id without any SQL")
+    void findById_shouldHitSecondLevelCacheWhenWarm() {
+        developerRepository.findById(developer.getId());
+        projectRepository.findById(project.getId());
+        roleRepository.findById(role.getId());
+        statistics.clear();
+
+        assertThat(developerRepository.findById(developer.getId())).isPresent();
+        assertThat(projectRepository.findById(project.getId())).isPresent();
+        assertThat(roleRepository.findById(role.getId())).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated lookups by email and role name from the query cache")
+    void findByEmail_shouldHitQueryCacheWhenWarm() {
+        userRepository.findByEmail("ada@example.com");
+        roleRepository.findByName(RoleName.ROLE_DEVELOPER);
+        statistics.clear();
+
+        User user = userRepository.findByEmail("ada@example.com").orElseThrow();
+        assertThat(roleRepository.findByName(RoleName.ROLE_DEVELOPER)).isPresent();
+
+        assertThat(user.getRoles()).extracting(Role::getName).containsExactly(RoleName.ROLE_DEVELOPER);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,99 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.dto.TaskDTO;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.model.Developer;
+import com.buildmaster.projecttracker.model.Project;
+import com.buildmaster.projecttracker.model.Task;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TaskRepositoryTest {
+
+    private static final int TASK_COUNT = 25;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Project project = Project.builder()
+                .name("Apollo")
+                .description("Moon landing")
+                .deadLine(LocalDate.now().plusMonths(6))
+                .build();
+        Developer developer = Developer.builder().name("Ada").email("ada@example.com").build();
+        entityManager.persist(project);
+        entityManager.persist(developer);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            entityManager.persist(Task.builder()
+                    .title("Task " + i)
+                    .description("Description " + i)
+                    .status(TaskStatus.TODO)
+                    .dueDate(LocalDate.now().plusDays(1 + (i * 7L) % 5))
+                    .project(project)
+                    .assignedDeveloper(i % 2 == 0 ? developer : null)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should walk every task by (dueDate, id) with one statement per page")
+    void findResponsesAfterDueDate_shouldSeekPageByPage() {
+        List<TaskDTO.TaskResponse> seen = new ArrayList<>();
+        List<TaskDTO.TaskResponse> page = taskRepository.findResponsesByDueDate(Limit.of(10));
+        int pages = 0;
+        while (!page.isEmpty()) {
+            pages++;
+            seen.addAll(page);
+            TaskDTO.TaskResponse last = page.getLast();
+            page = taskRepository.findResponsesAfterDueDate(last.dueDate(), last.id(), Limit.of(10));
+        }
+
+        assertThat(seen).hasSize(TASK_COUNT);
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(TaskDTO.TaskResponse::dueDate)
+                .thenComparing(TaskDTO.TaskResponse::id));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages + 1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should project project and developer summaries from the joined row")
+    void findResponsesAfterId_shouldProjectSummaries() {
+        List<TaskDTO.TaskResponse> page = taskRepository.findResponsesAfterId(0L, Limit.of(2));
+
+        assertThat(page).extracting(TaskDTO.TaskResponse::id).isSorted();
+        assertThat(page.get(0).project().name()).isEqualTo("Apollo");
+        assertThat(page.get(0).assignedDeveloper().email()).isEqualTo("ada@example.com");
+        assertThat(page.get(1).assignedDeveloper()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.buildmaster.projecttracker.security;
+
+import com.buildmaster.projecttracker.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Hashing requests beyond the pool and its queue are rejected with 429 instead of waiting")
+    void encode_shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, 5000, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        while (meterRegistry.get("security.password.hashing.queue").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("security.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("A request that waits longer than the limit for a hashing thread is rejected")
+    void matches_shouldRejectAfterMaxWait() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        encoder = new BoundedPasswordEncoder(slow, 1, 4, 50, meterRegistry);
+
+        CompletableFuture.runAsync(() -> encoder.matches("a", "hash"));
+
+        assertThatThrownBy(() -> encoder.matches("b", "hash")).isInstanceOf(TooManyRequestsException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Accounts without a local password never match but still pay for one verification")
+    void matches_shouldRejectUnusablePasswordAfterDummyHash() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(BoundedPasswordEncoder.UNUSABLE_PASSWORD)).thenReturn("dummy");
+        when(delegate.matches("anything", "dummy")).thenReturn(true);
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 1000, meterRegistry);
+
+        assertThat(encoder.matches("anything", BoundedPasswordEncoder.UNUSABLE_PASSWORD)).isFalse();
+        assertThat(encoder.matches("anything", null)).isFalse();
+        assertThat(encoder.upgradeEncoding(BoundedPasswordEncoder.UNUSABLE_PASSWORD)).isFalse();
+        verify(delegate, times(1)).encode(BoundedPasswordEncoder.UNUSABLE_PASSWORD);
+        verify(delegate, times(2)).matches("anything", "dummy");
+        verify(delegate, never()).upgradeEncoding(any());
+    }
+
+    @Test
+    @DisplayName("Hashes made at a lower bcrypt strength are flagged for re-hashing")
+    void upgradeEncoding_shouldFlagWeakerHashes() {
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, 5000, meterRegistry);
+
+        assertThat(encoder.matches("secret", weak)).isTrue();
+        assertThat(encoder.upgradeEncoding(weak)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+package com.buildmaster.projecttracker.security;
+
+import com.buildmaster.projecttracker.cache.LoopbackCacheInvalidationBus;
+import com.buildmaster.projecttracker.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "averylongandsecuresecretkeythatissufficientlylongforencryptionanddecryptionpurposes";
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private JwtService jwtService;
+    private UserStatusCache userStatusCache;
+    private UserDetails user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        jwtService.setSecretKey(SECRET);
+        jwtService.setJwtExpiration(TimeUnit.MINUTES.toMillis(15));
+        jwtService.setRefreshExpiration(TimeUnit.DAYS.toMillis(7));
+        userStatusCache = new UserStatusCache(userRepository, new LoopbackCacheInvalidationBus(),
+                TimeUnit.SECONDS.toMillis(30), TimeUnit.MINUTES.toMillis(15));
+        user = new User("ada@example.com", "password", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+        when(userDetailsService.loadUserByUsername("ada@example.com")).thenReturn(user);
+        when(userRepository.existsByEmail("ada@example.com")).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should authenticate from the role claim without loading the user in stateless mode")
+    void doFilter_shouldTrustRoleClaimWhenStateless() throws Exception {
+        String token = jwtService.generateToken(user);
+
+        Authentication first = authenticate(filter(true), token);
+        Authentication second = authenticate(filter(true), token);
+
+        assertThat(first).isNotNull();
+        assertThat(second.getName()).isEqualTo("ada@example.com");
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_MANAGER");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(userRepository, times(1)).existsByEmail("ada@example.com");
+    }
+
+    @Test
+    @DisplayName("Should stop honoring a deleted user's tokens as soon as the user is revoked")
+    void doFilter_shouldRejectRevokedUser() throws Exception {
+        String token = jwtService.generateToken(user);
+        assertThat(authenticate(filter(true), token)).isNotNull();
+
+        userStatusCache.revoke("ada@example.com");
+
+        assertThat(authenticate(filter(true), token)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load the user per request when stateless mode is off or the token has no role claim")
+    void doFilter_shouldFallBackToUserLookup() throws Exception {
+        authenticate(filter(false), jwtService.generateToken(user));
+        authenticate(filter(true), jwtService.generateRefreshToken(user));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("ada@example.com");
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless) {
+        return new JwtAuthenticationFilter(jwtService, userDetailsService, new ObjectMapper(), userStatusCache, stateless);
+    }
+
+    private static Authentication authenticate(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -1,6 +1,7 @@
 package com.buildmaster.projecttracker.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.assertj.core.data.Percentage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -96,4 +98,26 @@ class JwtServiceTest {
         String customFieldValue = jwtService.extractClaim(token, claims -> claims.get("custom_field", String.class));
         assertThat(customFieldValue).isEqualTo("custom_value");
     }
+
+    @Test
+    @DisplayName("Should verify a token once and serve later requests from the verified-token cache")
+    void extractAllClaims_shouldCacheVerifiedTokens() {
+        String token = jwtService.generateToken(userDetails);
+
+        Claims first = jwtService.extractAllClaims(token);
+        Claims second = jwtService.extractAllClaims(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(jwtService.isTokenValid(second, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature even after the original was cached")
+    void extractAllClaims_shouldRejectTamperedToken() {
+        String token = jwtService.generateToken(userDetails);
+        jwtService.extractAllClaims(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.extractAllClaims(tampered)).isInstanceOf(JwtException.class);
+    }
 }
@@ -0,0 +1,141 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.audit.AuditCollectionRouter;
+import com.buildmaster.projecttracker.audit.AuditLogBuffer;
+import com.buildmaster.projecttracker.audit.AuditSpool;
+import com.buildmaster.projecttracker.audit.JsonAuditPayloadEncoder;
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.mapper.AuditLogMapper;
+import com.buildmaster.projecttracker.model.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private AuditCollectionRouter auditCollectionRouter;
+    @Mock
+    private AuditLogBuffer auditLogBuffer;
+    @Mock
+    private ObjectProvider<AuditSpool> auditSpool;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AuditLogService auditLogService;
+
+    private static final String CURRENT_BUCKET = "audit_logs_202506";
+    private static final String PREVIOUS_BUCKET = "audit_logs_202505";
+
+    private final AuditLogDTO.AuditLogFilter filter =
+            new AuditLogDTO.AuditLogFilter(null, null, ActionType.UPDATE, EntityType.TASK, null, null);
+
+    @BeforeEach
+    void setUp() {
+        auditLogService = new AuditLogService(mongoTemplate, auditCollectionRouter, new AuditLogMapper(), objectMapper, auditLogBuffer, auditSpool,
+                new JsonAuditPayloadEncoder(objectMapper));
+    }
+
+    private List<AuditLog> auditLogs(int count, LocalDateTime newest) {
+        List<AuditLog> auditLogs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            auditLogs.add(AuditLog.builder()
+                    .id(new ObjectId().toHexString())
+                    .actionType(ActionType.UPDATE)
+                    .entityType(EntityType.TASK)
+                    .timestamp(newest.minusSeconds(i))
+                    .build());
+        }
+        return auditLogs;
+    }
+
+    @Test
+    @DisplayName("Should return a cursor when more rows exist and resume strictly after it")
+    void getLogs_shouldPageWithKeysetCursor() {
+        when(auditCollectionRouter.collectionsBetween(any(), any())).thenReturn(List.of(CURRENT_BUCKET));
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        List<AuditLog> firstPage = auditLogs(3, now);
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class), eq(CURRENT_BUCKET))).thenReturn(firstPage, List.of());
+
+        AuditLogDTO.AuditLogPage page = auditLogService.getLogs(filter, null, 2);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextCursor()).isNotNull();
+
+        auditLogService.getLogs(filter, page.nextCursor(), 2);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(AuditLog.class), eq(CURRENT_BUCKET));
+        Query resumed = queries.getAllValues().get(1);
+        assertThat(resumed.getLimit()).isEqualTo(3);
+        assertThat(resumed.getSortObject()).isEqualTo(new Document("timestamp", -1).append("id", -1));
+        String keyset = resumed.getQueryObject().toString();
+        assertThat(keyset).contains(firstPage.get(1).getId()).contains("$or").contains("$lt");
+    }
+
+    @Test
+    @DisplayName("Should omit the cursor on the last page")
+    void getLogs_shouldNotReturnCursorOnLastPage() {
+        when(auditCollectionRouter.collectionsBetween(any(), any())).thenReturn(List.of(CURRENT_BUCKET));
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class), eq(CURRENT_BUCKET))).thenReturn(auditLogs(2, LocalDateTime.now()));
+
+        AuditLogDTO.AuditLogPage page = auditLogService.getLogs(filter, null, 5);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fan out to older buckets only until the page is full")
+    void getLogs_shouldStopFanOutOncePageIsFull() {
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        when(auditCollectionRouter.collectionsBetween(any(), any()))
+                .thenReturn(List.of(CURRENT_BUCKET, PREVIOUS_BUCKET, "audit_logs_202504"));
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class), eq(CURRENT_BUCKET))).thenReturn(auditLogs(2, now));
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class), eq(PREVIOUS_BUCKET))).thenReturn(auditLogs(2, now.minusDays(10)));
+
+        AuditLogDTO.AuditLogPage page = auditLogService.getLogs(filter, null, 3);
+
+        assertThat(page.items()).hasSize(3);
+        assertThat(page.nextCursor()).isNotNull();
+        ArgumentCaptor<Query> previous = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(previous.capture(), eq(AuditLog.class), eq(PREVIOUS_BUCKET));
+        assertThat(previous.getValue().getLimit()).isEqualTo(2);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(AuditLog.class), eq("audit_logs_202504"));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor with a client error")
+    void getLogs_shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> auditLogService.getLogs(filter, "not-a-cursor", 10))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.DeveloperDTO;
+import com.buildmaster.projecttracker.dto.TaskDTO;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperLeaderboardTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeveloperLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        leaderboard = new DeveloperLeaderboard(developerRepository, meterRegistry);
+        when(developerRepository.findAllTaskCounts()).thenReturn(List.of(
+                new DeveloperDTO.DeveloperTaskCount(1L, "Ada", "ada@example.com", 3),
+                new DeveloperDTO.DeveloperTaskCount(2L, "Grace", "grace@example.com", 5),
+                new DeveloperDTO.DeveloperTaskCount(3L, "Linus", "linus@example.com", 3),
+                new DeveloperDTO.DeveloperTaskCount(4L, "Idle", "idle@example.com", 0)
+        ));
+        leaderboard.reconcile();
+    }
+
+    private static TaskCounterService.TaskTransition assignment(long taskId, Long from, Long to) {
+        TaskDTO.TaskSnapshot before = new TaskDTO.TaskSnapshot(taskId, "Task", TaskStatus.TODO, LocalDate.now(), 10L, from);
+        TaskDTO.TaskSnapshot after = new TaskDTO.TaskSnapshot(taskId, "Task", TaskStatus.TODO, LocalDate.now(), 10L, to);
+        return new TaskCounterService.TaskTransition(before, after);
+    }
+
+    @Test
+    @DisplayName("Should rank by task count, with ties sharing a rank and listed by id")
+    void top_shouldRankWithSharedTies() {
+        assertThat(leaderboard.top(3)).extracting(DeveloperDTO.LeaderboardEntry::id, DeveloperDTO.LeaderboardEntry::rank)
+                .containsExactly(tuple(2L, 1L), tuple(1L, 2L), tuple(3L, 2L));
+        assertThat(leaderboard.rankOf(4L)).map(DeveloperDTO.LeaderboardEntry::rank).contains(4L);
+        assertThat(leaderboard.rankOf(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should move developers on assignment, reassignment and deletion")
+    void recordTransitions_shouldReorder() {
+        leaderboard.recordTransitions(List.of(
+                assignment(10L, 2L, 3L),
+                assignment(11L, 2L, 3L),
+                assignment(12L, null, 3L),
+                new TaskCounterService.TaskTransition(assignment(13L, null, 1L).after(), null)));
+
+        assertThat(leaderboard.top(1)).extracting(DeveloperDTO.LeaderboardEntry::id).containsExactly(3L);
+        assertThat(leaderboard.rankOf(3L).orElseThrow().taskCount()).isEqualTo(6);
+        assertThat(leaderboard.rankOf(2L).orElseThrow().rank()).isEqualTo(2);
+        assertThat(leaderboard.rankOf(1L).orElseThrow().taskCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep ranks correct when counts outgrow the count index")
+    void recordTransitions_shouldGrowCountIndex() {
+        leaderboard.recordTransitions(LongStream.range(0, 200).mapToObj(id -> assignment(id, null, 4L)).toList());
+
+        DeveloperDTO.LeaderboardEntry idle = leaderboard.rankOf(4L).orElseThrow();
+        assertThat(idle.taskCount()).isEqualTo(200);
+        assertThat(idle.rank()).isEqualTo(1);
+        assertThat(leaderboard.rankOf(1L).orElseThrow().rank()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should count task count drift only and replace the ranking on reconciliation")
+    void reconcile_shouldRecordDrift() {
+        leaderboard.recordTransitions(List.of(assignment(10L, null, 4L)));
+        leaderboard.recordDeveloper(5L, "New", "new@example.com");
+        leaderboard.recordDeveloper(1L, "Ada Lovelace", "ada@example.com");
+
+        leaderboard.reconcile();
+
+        assertThat(meterRegistry.counter("developers.leaderboard.drift").count()).isEqualTo(1);
+        assertThat(leaderboard.rankOf(4L).orElseThrow().taskCount()).isZero();
+        assertThat(leaderboard.rankOf(5L)).isEmpty();
+        assertThat(leaderboard.rankOf(1L).orElseThrow().name()).isEqualTo("Ada");
+    }
+
+    @Test
+    @DisplayName("Should keep the latest state of developers changed while reconciliation reads, counting nothing twice")
+    void reconcile_shouldKeepChangesDuringRebuild() {
+        when(developerRepository.findAllTaskCounts()).thenAnswer(invocation -> {
+            leaderboard.recordTransitions(List.of(assignment(10L, null, 4L), assignment(11L, null, 4L)));
+            leaderboard.removeDeveloper(3L);
+            return List.of(
+                    new DeveloperDTO.DeveloperTaskCount(1L, "Ada", "ada@example.com", 3),
+                    new DeveloperDTO.DeveloperTaskCount(2L, "Grace", "grace@example.com", 5),
+                    new DeveloperDTO.DeveloperTaskCount(3L, "Linus", "linus@example.com", 3),
+                    // The assignments committed before the read, so the row already counts them.
+                    new DeveloperDTO.DeveloperTaskCount(4L, "Idle", "idle@example.com", 2));
+        });
+
+        leaderboard.reconcile();
+
+        assertThat(leaderboard.rankOf(4L).orElseThrow().taskCount()).isEqualTo(2);
+        assertThat(leaderboard.rankOf(3L)).isEmpty();
+        assertThat(meterRegistry.counter("developers.leaderboard.drift").count()).isZero();
+    }
+}
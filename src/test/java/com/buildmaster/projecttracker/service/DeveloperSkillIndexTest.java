@@ -0,0 +1,118 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.DeveloperDTO;
+import com.buildmaster.projecttracker.enums.SkillMatchMode;
+import com.buildmaster.projecttracker.model.Developer;
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperSkillIndexTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private TaskCounterService taskCounterService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeveloperSkillIndex skillIndex;
+
+    @BeforeEach
+    void setUp() {
+        skillIndex = new DeveloperSkillIndex(developerRepository, taskCounterService, transactionManager);
+        when(developerRepository.streamAllSkills()).thenReturn(Stream.of(
+                new DeveloperDTO.DeveloperSkill(1L, "Java"),
+                new DeveloperDTO.DeveloperSkill(1L, "Spring"),
+                new DeveloperDTO.DeveloperSkill(2L, "java"),
+                new DeveloperDTO.DeveloperSkill(2L, "Kotlin"),
+                new DeveloperDTO.DeveloperSkill(2L, "spring "),
+                new DeveloperDTO.DeveloperSkill(3L, "Spring")));
+        skillIndex.rebuild();
+        lenient().when(taskCounterService.openTaskCount(anyLong())).thenAnswer(invocation -> switch ((int) (long) invocation.getArgument(0, Long.class)) {
+            case 1 -> 4L;
+            case 2 -> 1L;
+            default -> 2L;
+        });
+        lenient().when(developerRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> Developer.builder().id(id).name("Dev " + id).email("dev" + id + "@example.com").build()).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Should intersect skills case-insensitively and rank the matches by open task load")
+    void search_allShouldIntersectAndRankByLoad() {
+        List<DeveloperDTO.SkillMatch> matches = skillIndex.search(List.of("JAVA", "spring"), SkillMatchMode.ALL, 10);
+
+        assertThat(matches).extracting(DeveloperDTO.SkillMatch::id).containsExactly(2L, 1L);
+        assertThat(matches.getFirst().openTasks()).isEqualTo(1);
+        assertThat(matches.getFirst().skills()).containsExactlyInAnyOrder("java", "kotlin", "spring");
+    }
+
+    @Test
+    @DisplayName("Should union skills for ANY and apply the limit after ranking")
+    void search_anyShouldUnionAndLimit() {
+        assertThat(skillIndex.search(List.of("kotlin", "spring"), SkillMatchMode.ANY, 2))
+                .extracting(DeveloperDTO.SkillMatch::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should return nothing without touching the database when a required skill is unknown")
+    void search_allWithUnknownSkillShouldBeEmpty() {
+        assertThat(skillIndex.search(List.of("java", "cobol"), SkillMatchMode.ALL, 10)).isEmpty();
+        verify(developerRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Should apply developer skill changes and removals incrementally")
+    void recordDeveloper_shouldUpdateIndex() {
+        skillIndex.recordDeveloper(3L, Set.of("Kotlin"));
+        skillIndex.recordDeveloper(4L, Set.of("Java", "Spring"));
+        skillIndex.removeDeveloper(1L);
+
+        assertThat(skillIndex.search(List.of("spring"), SkillMatchMode.ALL, 10))
+                .extracting(DeveloperDTO.SkillMatch::id).containsExactly(2L, 4L);
+        assertThat(skillIndex.search(List.of("kotlin"), SkillMatchMode.ALL, 10))
+                .extracting(DeveloperDTO.SkillMatch::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should keep developer changes applied while a rebuild reads the database")
+    void rebuild_shouldKeepChangesDuringRebuild() {
+        when(developerRepository.streamAllSkills()).thenAnswer(invocation -> {
+            skillIndex.recordDeveloper(3L, Set.of("Kotlin"));
+            skillIndex.removeDeveloper(1L);
+            return Stream.of(
+                    new DeveloperDTO.DeveloperSkill(1L, "Java"),
+                    new DeveloperDTO.DeveloperSkill(2L, "Kotlin"),
+                    new DeveloperDTO.DeveloperSkill(3L, "Spring"));
+        });
+
+        skillIndex.rebuild();
+
+        assertThat(skillIndex.search(List.of("kotlin"), SkillMatchMode.ALL, 10))
+                .extracting(DeveloperDTO.SkillMatch::id).containsExactly(2L, 3L);
+        assertThat(skillIndex.search(List.of("spring"), SkillMatchMode.ANY, 10)).isEmpty();
+        assertThat(skillIndex.search(List.of("java"), SkillMatchMode.ANY, 10)).isEmpty();
+    }
+}
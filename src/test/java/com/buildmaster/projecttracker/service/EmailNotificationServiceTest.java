@@ -0,0 +1,125 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.email.EmailDispatcher;
+import com.buildmaster.projecttracker.email.EmailMessage;
+import com.buildmaster.projecttracker.email.InMemoryEmailTransport;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.event.TaskAssignedEvent;
+import com.buildmaster.projecttracker.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class EmailNotificationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryEmailTransport transport = new InMemoryEmailTransport();
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new EmailDispatcher(transport, meterRegistry, 100, 1_000, 3, 1, 5_000);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("Assignments to one developer inside the window are sent as a single digest")
+    void flush_shouldCoalesceAssignmentsPerRecipient() throws InterruptedException {
+        EmailNotificationService service = new EmailNotificationService(dispatcher, outboxEventRepository, meterRegistry, Duration.ofMinutes(1));
+        for (int i = 0; i < 50; i++) {
+            service.sendTaskAssignedEmail(assignment(i, "Ada", "ada@example.com"), "outbox:" + i + ":email", (long) i);
+        }
+        service.sendTaskAssignedEmail(assignment(99, "Bob", "bob@example.com"), "outbox:99:email", 99L);
+
+        service.flushDigests();
+        assertThat(transport.sent()).as("window still open").isEmpty();
+
+        service.flushAll();
+        List<EmailMessage> sent = awaitSent(2);
+        EmailMessage digest = sent.getFirst();
+        assertThat(digest.to()).isEqualTo("ada@example.com");
+        assertThat(digest.subject()).isEqualTo("50 new task assignments");
+        assertThat(digest.body()).startsWith("Dear Ada,").contains("- Task 49 [Apollo]");
+        assertThat(digest.body().lines().filter(line -> line.startsWith("- Task "))).hasSize(50);
+
+        EmailMessage single = sent.get(1);
+        assertThat(single.subject()).isEqualTo("New Task Assignment: 'Task 99' (Project: Apollo)");
+        assertThat(single.body()).contains("Description: Details for task 99");
+        assertThat(single.messageId()).isEqualTo("outbox.99.email@projecttracker");
+        assertThat(meterRegistry.get("email.coalesced").counter().count()).isEqualTo(49);
+    }
+
+    @Test
+    @DisplayName("A redelivered assignment with the same idempotency key is not added twice")
+    void sendTaskAssignedEmail_shouldIgnoreRepeatedKeys() throws InterruptedException {
+        EmailNotificationService service = new EmailNotificationService(dispatcher, outboxEventRepository, meterRegistry, Duration.ZERO);
+        service.sendTaskAssignedEmail(assignment(1, "Ada", "ada@example.com"), "outbox:1:email", 1L);
+        service.sendTaskAssignedEmail(assignment(1, "Ada", "ada@example.com"), "outbox:1:email", 1L);
+
+        service.flushDigests();
+
+        assertThat(awaitSent(1).getFirst().subject()).startsWith("New Task Assignment");
+        assertThat(meterRegistry.get("email.sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Outbox events are marked processed only once their email has been sent")
+    void flush_shouldMarkOutboxEventsProcessedAfterSending() throws InterruptedException {
+        EmailNotificationService service = new EmailNotificationService(dispatcher, outboxEventRepository, meterRegistry, Duration.ZERO);
+        service.sendTaskAssignedEmail(assignment(1, "Ada", "ada@example.com"), "outbox:1:email", 1L);
+        verify(outboxEventRepository, never()).markProcessed(any(), any());
+
+        service.flushDigests();
+
+        awaitSent(1);
+        verify(outboxEventRepository, timeout(5_000)).markProcessed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("Stopping the dispatcher sends what is still queued instead of dropping it")
+    void stop_shouldDrainQueuedEmails() throws InterruptedException {
+        EmailNotificationService service = new EmailNotificationService(dispatcher, outboxEventRepository, meterRegistry, Duration.ofMinutes(1));
+        for (int i = 0; i < 20; i++) {
+            service.sendTaskAssignedEmail(assignment(i, "Dev " + i, "dev" + i + "@example.com"), "outbox:" + i + ":email", (long) i);
+        }
+
+        service.flushAll();
+
+        assertThat(transport.sent()).hasSize(20);
+    }
+
+    private List<EmailMessage> awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (transport.sent().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(transport.sent()).hasSize(count);
+        return transport.sent().stream().sorted(Comparator.comparing(EmailMessage::to)).toList();
+    }
+
+    private static TaskAssignedEvent assignment(long id, String name, String email) {
+        return new TaskAssignedEvent(id, "Task " + id, "Details for task " + id, LocalDate.of(2026, 11, 1),
+                TaskStatus.TODO, "Apollo", name, email);
+    }
+}
@@ -0,0 +1,91 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.model.Notification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationArchiverTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private NotificationArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new NotificationArchiver(mongoTemplate, new SimpleMeterRegistry(),
+                Duration.ofDays(30), Duration.ofDays(365), 2, 10);
+    }
+
+    private static List<Notification> readNotifications(int count) {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            notifications.add(Notification.builder()
+                    .id(new ObjectId().toHexString())
+                    .recipientEmail("ada@example.com")
+                    .read(true)
+                    .readAt(LocalDateTime.now().minusDays(40))
+                    .build());
+        }
+        return notifications;
+    }
+
+    @Test
+    @DisplayName("Should copy each batch to the archive, then delete exactly those ids, until a short batch")
+    void archiveRead_shouldMoveBatchesUntilShortBatch() {
+        List<Notification> full = readNotifications(2);
+        List<Notification> last = readNotifications(1);
+        when(mongoTemplate.find(any(Query.class), eq(Notification.class))).thenReturn(full, last);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Notification.class, NotificationArchiver.ARCHIVE_COLLECTION))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        archiver.archiveRead();
+
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, times(2)).execute();
+        verify(mongoTemplate, times(2)).remove(removed.capture(), eq(Notification.class));
+        assertThat(removed.getAllValues().getFirst().getQueryObject().toString())
+                .contains(full.get(0).getId()).contains(full.get(1).getId());
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(Notification.class));
+    }
+
+    @Test
+    @DisplayName("Should only select read notifications past the cutoff")
+    void archiveBatch_shouldSelectReadNotificationsPastCutoff() {
+        when(mongoTemplate.find(any(Query.class), eq(Notification.class))).thenReturn(List.of());
+
+        assertThat(archiver.archiveBatch(LocalDateTime.now().minusDays(30))).isZero();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Notification.class));
+        assertThat(query.getValue().getQueryObject().toString()).contains("read=true").contains("readAt");
+        assertThat(query.getValue().getLimit()).isEqualTo(2);
+    }
+}
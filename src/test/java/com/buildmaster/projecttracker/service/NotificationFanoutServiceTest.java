@@ -0,0 +1,102 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.NotificationDTO;
+import com.buildmaster.projecttracker.exception.ResourceNotFoundException;
+import com.buildmaster.projecttracker.model.Notification;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutServiceTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private TaskRepository taskRepository;
+
+    private NotificationFanoutService fanoutService;
+
+    @BeforeEach
+    void setUp() {
+        fanoutService = new NotificationFanoutService(notificationService, projectRepository, taskRepository,
+                new TaskExecutorAdapter(Runnable::run), new SimpleMeterRegistry(), 2, 2);
+        lenient().when(notificationService.buildNotification(anyString(), anyString(), anyString(), any(), any()))
+                .thenAnswer(invocation -> Notification.builder()
+                        .recipientEmail(invocation.getArgument(0))
+                        .message(invocation.getArgument(1))
+                        .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Notification>> writtenChunks(int times) {
+        ArgumentCaptor<List<Notification>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(times)).createNotificationsIdempotent(chunks.capture());
+        return chunks.getAllValues();
+    }
+
+    @Test
+    @DisplayName("Should write one copy per distinct recipient, chunk by chunk, keyed by broadcast and recipient")
+    void broadcast_shouldDeduplicateAndChunk() {
+        NotificationDTO.BroadcastResult result = fanoutService.broadcast(
+                List.of("a@example.com", "b@example.com", "a@example.com", "c@example.com"), "Release on Friday", "ANNOUNCEMENT", 1L, "Project");
+
+        assertThat(result.recipients()).isEqualTo(3);
+        List<List<Notification>> chunks = writtenChunks(2);
+        assertThat(chunks).extracting(List::size).containsExactly(2, 1);
+        assertThat(chunks.get(0)).extracting(Notification::getIdempotencyKey)
+                .containsExactly("broadcast:" + result.broadcastId() + ":a@example.com", "broadcast:" + result.broadcastId() + ":b@example.com");
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk with the same idempotency keys")
+    void broadcast_shouldRetryChunkIdempotently() {
+        doThrow(new DataAccessResourceFailureException("primary stepped down"))
+                .doNothing()
+                .when(notificationService).createNotificationsIdempotent(any());
+
+        fanoutService.broadcast(List.of("a@example.com"), "Release on Friday", "ANNOUNCEMENT", 1L, "Project");
+
+        List<List<Notification>> attempts = writtenChunks(2);
+        assertThat(attempts.get(0).getFirst().getIdempotencyKey()).isEqualTo(attempts.get(1).getFirst().getIdempotencyKey());
+    }
+
+    @Test
+    @DisplayName("Should notify the developers assigned to the project and reject unknown projects")
+    void broadcastToProject_shouldResolveRecipients() {
+        when(projectRepository.existsById(7L)).thenReturn(true);
+        when(projectRepository.existsById(8L)).thenReturn(false);
+        when(taskRepository.findAssignedDeveloperEmails(7L)).thenReturn(List.of("a@example.com"));
+        doNothing().when(notificationService).createNotificationsIdempotent(any());
+
+        assertThat(fanoutService.broadcastToProject(7L, "Kick-off at 10").recipients()).isEqualTo(1);
+        assertThatThrownBy(() -> fanoutService.broadcastToProject(8L, "Kick-off at 10"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(taskRepository, never()).findAssignedDeveloperEmails(8L);
+    }
+}
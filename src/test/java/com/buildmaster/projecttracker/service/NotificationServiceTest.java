@@ -0,0 +1,132 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.NotificationDTO;
+import com.buildmaster.projecttracker.model.Notification;
+import com.buildmaster.projecttracker.repository.NotificationRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final String EMAIL = "ada@example.com";
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+    @Mock
+    private NotificationStreamService notificationStreams;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(notificationRepository, mongoTemplate, unreadCounter, notificationStreams);
+        User user = new User(EMAIL, "password", List.of());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private List<Notification> notifications(int count, LocalDateTime newest) {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            notifications.add(Notification.builder()
+                    .id(new ObjectId().toHexString())
+                    .recipientEmail(EMAIL)
+                    .timestamp(newest.minusSeconds(i))
+                    .build());
+        }
+        return notifications;
+    }
+
+    @Test
+    @DisplayName("Should page the unread inbox on the compound index and resume strictly after the cursor")
+    void getInbox_shouldReturnCursorAndSeekPastIt() {
+        List<Notification> firstPage = notifications(3, LocalDateTime.now());
+        when(mongoTemplate.find(any(Query.class), eq(Notification.class))).thenReturn(firstPage, List.of());
+
+        NotificationDTO.NotificationPage page = notificationService.getInbox(true, null, 2);
+        assertThat(page.items()).extracting(NotificationDTO.NotificationResponse::id)
+                .containsExactly(firstPage.get(0).getId(), firstPage.get(1).getId());
+        assertThat(page.nextCursor()).isNotBlank();
+        notificationService.getInbox(true, page.nextCursor(), 2);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(Notification.class));
+        Query first = queries.getAllValues().getFirst();
+        assertThat(first.getQueryObject()).containsEntry("recipientEmail", EMAIL).containsEntry("read", false);
+        assertThat(first.getSortObject()).isEqualTo(new Document("timestamp", -1).append("id", -1));
+        assertThat(first.getLimit()).isEqualTo(3);
+        assertThat(queries.getAllValues().get(1).getQueryObject().toString()).contains("$or").contains(firstPage.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Should mark a range as read with one updateMany and take the modified count off the counter")
+    void markAllAsRead_shouldUpdateManyAndAdjustCounter() {
+        LocalDateTime from = LocalDateTime.now().minusDays(7);
+        LocalDateTime to = LocalDateTime.now();
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(Notification.class)))
+                .thenReturn(UpdateResult.acknowledged(12, 12L, null));
+
+        assertThat(notificationService.markAllAsRead(from, to).updated()).isEqualTo(12);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(query.capture(), any(Update.class), eq(Notification.class));
+        assertThat(query.getValue().getQueryObject())
+                .containsEntry("recipientEmail", EMAIL)
+                .containsEntry("read", false)
+                .containsEntry("timestamp", new Document("$gte", from).append("$lt", to));
+        verify(unreadCounter).add(EMAIL, -12);
+    }
+
+    @Test
+    @DisplayName("Should only decrement the counter when the notification was still unread")
+    void markNotificationAsRead_shouldDecrementOnlyOnTransition() {
+        Notification unread = notifications(1, LocalDateTime.now()).getFirst();
+        Notification alreadyRead = notifications(1, LocalDateTime.now()).getFirst();
+        alreadyRead.setRead(true);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(Notification.class))).thenReturn(unread, alreadyRead);
+
+        assertThat(notificationService.markNotificationAsRead(unread.getId()).isRead()).isTrue();
+        verify(unreadCounter).add(EMAIL, -1);
+
+        notificationService.markNotificationAsRead(alreadyRead.getId());
+        verify(unreadCounter, times(1)).add(eq(EMAIL), anyLong());
+        verify(notificationRepository, never()).save(any());
+    }
+}
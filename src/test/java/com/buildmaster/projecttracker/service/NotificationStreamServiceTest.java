@@ -0,0 +1,138 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.model.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceTest {
+
+    private static final String EMAIL = "ada@example.com";
+
+    /** Runs queued tasks only when asked, so the test decides when a stream drains. */
+    private static final class ManualExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.removeFirst().run();
+            }
+        }
+
+        @Override public void execute(Runnable command) { tasks.add(command); }
+        @Override public void shutdown() { }
+        @Override public List<Runnable> shutdownNow() { return List.of(); }
+        @Override public boolean isShutdown() { return false; }
+        @Override public boolean isTerminated() { return false; }
+        @Override public boolean awaitTermination(long timeout, TimeUnit unit) { return true; }
+    }
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private final ManualExecutor executor = new ManualExecutor();
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private NotificationStreamService service(int bufferSize, int maxPerUser) {
+        return new NotificationStreamService(mongoTemplate, meterRegistry, executor,
+                Duration.ofMinutes(1), Duration.ofSeconds(3), bufferSize, maxPerUser, 100);
+    }
+
+    private static Notification notification(String recipient, LocalDateTime timestamp) {
+        return Notification.builder()
+                .id(new ObjectId().toHexString())
+                .recipientEmail(recipient)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @Test
+    @DisplayName("Should push a notification only to its recipient's streams")
+    void publish_shouldPushOnlyToRecipient() {
+        NotificationStreamService streams = service(16, 5);
+        streams.subscribe(EMAIL, null);
+        executor.runAll();
+
+        streams.publish(List.of(notification(EMAIL, LocalDateTime.now()), notification("bob@example.com", LocalDateTime.now())));
+        executor.runAll();
+
+        assertThat(counter("notifications.stream.pushed")).isEqualTo(1);
+        assertThat(streams.openConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should close a stream whose buffer overflows instead of growing it")
+    void publish_shouldCloseStreamOnOverflow() {
+        NotificationStreamService streams = service(2, 5);
+        streams.subscribe(EMAIL, null);
+        executor.runAll();
+
+        LocalDateTime now = LocalDateTime.now();
+        streams.publish(List.of(notification(EMAIL, now), notification(EMAIL, now), notification(EMAIL, now)));
+
+        assertThat(counter("notifications.stream.overflow")).isEqualTo(1);
+        assertThat(streams.openConnections()).isZero();
+        executor.runAll();
+        assertThat(counter("notifications.stream.pushed")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replay missed notifications after Last-Event-ID and not send them twice when they also arrive live")
+    void subscribe_shouldReplayMissedWithoutDuplicates() {
+        LocalDateTime now = LocalDateTime.now();
+        Notification last = notification(EMAIL, now.minusMinutes(5));
+        List<Notification> missed = List.of(notification(EMAIL, now.minusMinutes(2)), notification(EMAIL, now.minusMinutes(1)));
+        when(mongoTemplate.findOne(any(Query.class), eq(Notification.class))).thenReturn(last);
+        when(mongoTemplate.find(any(Query.class), eq(Notification.class))).thenReturn(missed);
+        NotificationStreamService streams = service(16, 5);
+
+        streams.subscribe(EMAIL, last.getId());
+        streams.publish(List.of(missed.get(1), notification(EMAIL, now)));
+        executor.runAll();
+
+        assertThat(counter("notifications.stream.replayed")).isEqualTo(2);
+        assertThat(counter("notifications.stream.pushed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should close the oldest stream when a user opens more than the limit")
+    void subscribe_shouldEnforcePerUserLimit() {
+        NotificationStreamService streams = service(16, 2);
+
+        streams.subscribe(EMAIL, null);
+        streams.subscribe(EMAIL, null);
+        streams.subscribe(EMAIL, null);
+
+        assertThat(streams.openConnections()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,96 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.model.Notification;
+import com.buildmaster.projecttracker.model.NotificationCounter;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new NotificationUnreadCounter(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should increment existing counters and seed missing ones from the notifications")
+    void addAll_shouldSeedMissingCounters() {
+        when(mongoTemplate.find(any(Query.class), eq(NotificationCounter.class)))
+                .thenReturn(List.of(new NotificationCounter("ada@example.com", 3, 7)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationCounter.class)).thenReturn(bulkOperations);
+        when(mongoTemplate.count(any(Query.class), eq(Notification.class))).thenReturn(5L);
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        deltas.put("ada@example.com", 1L);
+        deltas.put("grace@example.com", 1L);
+
+        counter.addAll(deltas);
+
+        ArgumentCaptor<Update> incremented = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<Update> seeded = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(any(Query.class), incremented.capture());
+        verify(bulkOperations).upsert(any(Query.class), seeded.capture());
+        assertThat(incremented.getValue().getUpdateObject().get("$inc", Document.class))
+                .containsEntry("unread", 1L).containsEntry("version", 1);
+        // The count already includes this notification, so the seed is not incremented on top.
+        assertThat(seeded.getValue().getUpdateObject().get("$setOnInsert", Document.class)).containsEntry("unread", 5L);
+        assertThat(seeded.getValue().getUpdateObject()).doesNotContainKey("$inc");
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    @DisplayName("Should only overwrite a disagreeing counter whose version is unchanged")
+    void reconcile_shouldCompareAndSetOnVersion() {
+        AggregationResults<Document> results = new AggregationResults<>(
+                List.of(new Document("_id", "ada@example.com").append("unread", 2)), new Document());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(Notification.class), eq(Document.class))).thenReturn(results);
+        when(mongoTemplate.stream(any(Query.class), eq(NotificationCounter.class))).thenReturn(Stream.of(
+                new NotificationCounter("ada@example.com", 2, 4),
+                new NotificationCounter("grace@example.com", 1, 9)));
+        when(mongoTemplate.findById("grace@example.com", NotificationCounter.class))
+                .thenReturn(new NotificationCounter("grace@example.com", 1, 9));
+        when(mongoTemplate.count(any(Query.class), eq(Notification.class))).thenReturn(0L);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(NotificationCounter.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        counter.reconcile();
+
+        ArgumentCaptor<Query> guarded = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(guarded.capture(), any(Update.class), eq(NotificationCounter.class));
+        assertThat(guarded.getValue().getQueryObject().toString()).contains("grace@example.com").contains("version=9");
+        verify(mongoTemplate, never()).findById("ada@example.com", NotificationCounter.class);
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(NotificationCounter.class));
+    }
+}
@@ -0,0 +1,126 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.cache.CacheDependencyTracker;
+import com.buildmaster.projecttracker.cache.CacheReloaders;
+import com.buildmaster.projecttracker.dto.ProjectDTO;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.mapper.ProjectMapper;
+import com.buildmaster.projecttracker.model.Project;
+import com.buildmaster.projecttracker.model.Task;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.jakarta.persistence.validation.mode=none"
+})
+@Import({ProjectService.class, ProjectMapper.class})
+class ProjectServiceFetchPlanTest {
+
+    private static final int TASKS_PER_PROJECT = 3;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AuditLogService auditLogService;
+
+    @MockitoBean
+    private TaskCounterService taskCounterService;
+
+    @MockitoBean
+    private DeveloperLeaderboard developerLeaderboard;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private CacheDependencyTracker cacheDependencyTracker;
+
+    @MockitoBean
+    private CacheReloaders cacheReloaders;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should load overdue projects and their tasks in the same number of statements regardless of result size")
+    void getOverdueProjects_shouldUseConstantStatementCount() {
+        persistOverdueProjects(2);
+        long small = overdueProjectStatements(2);
+
+        persistOverdueProjects(18);
+        long large = overdueProjectStatements(20);
+
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("Should load a project together with its tasks in one statement")
+    void getProjectById_shouldFetchTasksWithProject() {
+        Long id = persistOverdueProjects(1).getFirst().getId();
+        statistics.clear();
+
+        ProjectDTO.ProjectResponse response = projectService.getProjectById(id).data();
+
+        assertThat(response.tasks()).hasSize(TASKS_PER_PROJECT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long overdueProjectStatements(int expectedProjects) {
+        statistics.clear();
+        List<ProjectDTO.ProjectResponse> responses = projectService.getOverdueProjects().data();
+
+        assertThat(responses).hasSize(expectedProjects)
+                .allSatisfy(project -> assertThat(project.tasks()).hasSize(TASKS_PER_PROJECT));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Project> persistOverdueProjects(int count) {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Project project = Project.builder()
+                    .name("Project " + i)
+                    .description("Overdue project " + i)
+                    .deadLine(LocalDate.now().minusDays(1 + i))
+                    .build();
+            entityManager.persist(project);
+            for (int j = 0; j < TASKS_PER_PROJECT; j++) {
+                entityManager.persist(Task.builder()
+                        .title("Task " + j)
+                        .description("Task " + j + " of project " + i)
+                        .status(TaskStatus.TODO)
+                        .dueDate(LocalDate.now().plusDays(j + 1))
+                        .project(project)
+                        .build());
+            }
+            projects.add(project);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return projects;
+    }
+}
@@ -0,0 +1,169 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.SearchDTO;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.SearchType;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchIndexTest {
+
+    private static final LocalDate DUE = LocalDate.of(2025, 6, 1);
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(new SimpleMeterRegistry(), "");
+        searchIndex.open();
+        searchIndex.indexTasks(List.of(
+                new SearchDTO.IndexedTask(1L, "Fix login page", "The login page rejects valid passwords", TaskStatus.IN_PROGRESS, DUE, 10L),
+                new SearchDTO.IndexedTask(2L, "Page layout", "Login button sits below the fold", TaskStatus.TODO, DUE.plusMonths(2), 10L),
+                new SearchDTO.IndexedTask(3L, "Authentication audit", "Review authorization rules", TaskStatus.COMPLETED, DUE, 20L)));
+        searchIndex.indexProjects(List.of(
+                new SearchDTO.IndexedProject(10L, "Customer portal", "Login and account pages", ProjectStatus.ACTIVE, DUE.plusYears(1)),
+                new SearchDTO.IndexedProject(20L, "Security review", "Authentication hardening", ProjectStatus.ON_HOLD, DUE)));
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    private List<String> keys(String query) {
+        return keys(new SearchDTO.SearchRequest(query, null, null, null, null));
+    }
+
+    private List<String> keys(SearchDTO.SearchRequest request) {
+        return searchIndex.search(request, null, 20).items().stream()
+                .map(hit -> hit.type() + ":" + hit.id())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above description-only matches")
+    void search_shouldRankTitleMatchesFirst() {
+        assertThat(keys("login")).startsWith("TASK:1").containsExactlyInAnyOrder("TASK:1", "TASK:2", "PROJECT:10");
+        assertThat(keys("login rejects")).containsExactly("TASK:1");
+    }
+
+    @Test
+    @DisplayName("Should match quoted text as a phrase and words ending in * as prefixes")
+    void search_shouldSupportPhraseAndPrefix() {
+        assertThat(keys("\"login page\"")).containsExactly("TASK:1");
+        assertThat(keys("auth*")).containsExactlyInAnyOrder("TASK:3", "PROJECT:20");
+        // Too short to expand; searched as the literal word.
+        assertThat(keys("a*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should filter by type, status and date range")
+    void search_shouldApplyFilters() {
+        assertThat(keys(new SearchDTO.SearchRequest("login", SearchType.TASK, null, null, null)))
+                .containsExactlyInAnyOrder("TASK:1", "TASK:2");
+        assertThat(keys(new SearchDTO.SearchRequest("login", null, "todo", null, null))).containsExactly("TASK:2");
+        assertThat(keys(new SearchDTO.SearchRequest("login", null, null, DUE.plusDays(1), DUE.plusMonths(6))))
+                .containsExactly("TASK:2");
+    }
+
+    @Test
+    @DisplayName("Should apply updates and deletes, removing a project's tasks with it")
+    void index_shouldApplyUpdatesAndDeletes() {
+        searchIndex.indexTasks(List.of(new SearchDTO.IndexedTask(2L, "Footer spacing", "Below the fold", TaskStatus.TODO, DUE, 10L)));
+        searchIndex.deleteProject(20L);
+        searchIndex.refresh();
+
+        assertThat(keys("login")).containsExactlyInAnyOrder("TASK:1", "PROJECT:10");
+        assertThat(keys("auth*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through every match exactly once with the cursor")
+    void search_shouldPageWithCursor() {
+        searchIndex.indexTasks(LongStream.rangeClosed(100, 124)
+                .mapToObj(id -> new SearchDTO.IndexedTask(id, "Migration step " + id, "Database migration", TaskStatus.TODO, DUE, 30L))
+                .toList());
+        searchIndex.refresh();
+        SearchDTO.SearchRequest request = new SearchDTO.SearchRequest("migration", null, null, null, null);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            SearchDTO.SearchPage page = searchIndex.search(request, cursor, 10);
+            page.items().forEach(hit -> seen.add(hit.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).doesNotHaveDuplicates().hasSize(25);
+        assertThatThrownBy(() -> searchIndex.search(request, "not-a-cursor", 10)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep the cursor's place when documents are renumbered between pages")
+    void search_shouldKeepCursorWhenDocIdsChange() {
+        List<SearchDTO.IndexedTask> tasks = LongStream.rangeClosed(100, 124)
+                .mapToObj(id -> new SearchDTO.IndexedTask(id, "Migration step", "Database migration", TaskStatus.TODO, DUE, 30L))
+                .toList();
+        searchIndex.indexTasks(tasks);
+        searchIndex.refresh();
+        SearchDTO.SearchRequest request = new SearchDTO.SearchRequest("migration", null, null, null, null);
+        SearchDTO.SearchPage first = searchIndex.search(request, null, 10);
+
+        // Rewriting unchanged documents keeps their scores but gives them new, higher doc ids.
+        searchIndex.indexTasks(tasks.subList(0, 15));
+        searchIndex.refresh();
+        SearchDTO.SearchPage second = searchIndex.search(request, first.nextCursor(), 10);
+
+        assertThat(second.items()).extracting(SearchDTO.SearchHit::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(110, 119).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("Should drop documents a rebuild did not rewrite")
+    void rebuild_shouldRemoveStaleDocuments() {
+        long generation = searchIndex.beginRebuild();
+        searchIndex.rewriteTasks(generation, List.of(new SearchDTO.IndexedTask(1L, "Fix login page", "Passwords", TaskStatus.IN_PROGRESS, DUE, 10L)));
+        searchIndex.finishRebuild(generation);
+
+        assertThat(keys("login")).containsExactly("TASK:1");
+    }
+
+    @Test
+    @DisplayName("Should not let a rebuild's older rows overwrite or restore documents changed since it began")
+    void rebuild_shouldSkipKeysChangedDuringRebuild() {
+        long generation = searchIndex.beginRebuild();
+        searchIndex.indexTasks(List.of(new SearchDTO.IndexedTask(1L, "Fix signup page", "Passwords", TaskStatus.IN_PROGRESS, DUE, 10L)));
+        searchIndex.deleteTasks(List.of(2L));
+        searchIndex.deleteProject(20L);
+        searchIndex.rewriteTasks(generation, List.of(
+                new SearchDTO.IndexedTask(1L, "Fix login page", "Passwords", TaskStatus.IN_PROGRESS, DUE, 10L),
+                new SearchDTO.IndexedTask(2L, "Page layout", "Login button", TaskStatus.TODO, DUE, 10L),
+                new SearchDTO.IndexedTask(3L, "Authentication audit", "Review", TaskStatus.COMPLETED, DUE, 20L)));
+        searchIndex.rewriteProjects(generation, List.of(
+                new SearchDTO.IndexedProject(10L, "Customer portal", "Login and account pages", ProjectStatus.ACTIVE, DUE),
+                new SearchDTO.IndexedProject(20L, "Security review", "Authentication hardening", ProjectStatus.ON_HOLD, DUE)));
+        searchIndex.finishRebuild(generation);
+
+        assertThat(keys("signup")).containsExactly("TASK:1");
+        assertThat(keys("login")).containsExactly("PROJECT:10");
+        assertThat(keys("auth*")).isEmpty();
+    }
+}
@@ -0,0 +1,115 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.TaskDTO;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCounterServiceTest {
+
+    private static final LocalDate YESTERDAY = LocalDate.now().minusDays(1);
+    private static final LocalDate NEXT_WEEK = LocalDate.now().plusDays(7);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskCounterService taskCounterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskCounterService = new TaskCounterService(taskRepository, meterRegistry);
+        when(taskRepository.findAllSnapshots()).thenReturn(List.of(
+                new TaskDTO.TaskSnapshot(1L, "Spec", TaskStatus.TODO, YESTERDAY, 10L, 100L),
+                new TaskDTO.TaskSnapshot(2L, "Build", TaskStatus.IN_PROGRESS, NEXT_WEEK, 10L, null),
+                new TaskDTO.TaskSnapshot(3L, "Ship", TaskStatus.COMPLETED, YESTERDAY, 20L, 100L)
+        ));
+        taskCounterService.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should serve status counts overall and per project or developer from memory")
+    void countByStatus_shouldServeFromCounters() {
+        assertThat(counts(null, null)).containsOnly(
+                Map.entry(TaskStatus.TODO, 1L), Map.entry(TaskStatus.IN_PROGRESS, 1L), Map.entry(TaskStatus.COMPLETED, 1L));
+        assertThat(counts(10L, null)).containsOnly(Map.entry(TaskStatus.TODO, 1L), Map.entry(TaskStatus.IN_PROGRESS, 1L));
+        assertThat(counts(null, 100L)).containsOnly(Map.entry(TaskStatus.TODO, 1L), Map.entry(TaskStatus.COMPLETED, 1L));
+        assertThat(counts(99L, null)).isEmpty();
+        verify(taskRepository, times(1)).findAllSnapshots();
+    }
+
+    @Test
+    @DisplayName("Should move counts and the overdue index on status transitions, creation and deletion")
+    void recordTransition_shouldUpdateCountersAndOverdueIndex() {
+        TaskDTO.TaskSnapshot before = new TaskDTO.TaskSnapshot(1L, "Spec", TaskStatus.TODO, YESTERDAY, 10L, 100L);
+        taskCounterService.recordTransition(before,
+                new TaskDTO.TaskSnapshot(1L, "Spec", TaskStatus.COMPLETED, YESTERDAY, 10L, 100L));
+        taskCounterService.recordTransition(null,
+                new TaskDTO.TaskSnapshot(4L, "Fix", TaskStatus.BLOCKED, YESTERDAY.minusDays(1), 20L, null));
+        taskCounterService.recordTransition(
+                new TaskDTO.TaskSnapshot(2L, "Build", TaskStatus.IN_PROGRESS, NEXT_WEEK, 10L, null), null);
+
+        assertThat(counts(null, null)).containsOnly(Map.entry(TaskStatus.COMPLETED, 2L), Map.entry(TaskStatus.BLOCKED, 1L));
+        assertThat(counts(10L, null)).containsOnly(Map.entry(TaskStatus.COMPLETED, 1L));
+        assertThat(taskCounterService.overdueTasks()).extracting(TaskDTO.TaskSummaryResponse::id).containsExactly(4L);
+        assertThat(meterRegistry.get("tasks.count").tag("status", "COMPLETED").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counters with the database state on reconciliation")
+    void reconcile_shouldCorrectDrift() {
+        taskCounterService.recordTransition(null,
+                new TaskDTO.TaskSnapshot(9L, "Ghost", TaskStatus.TODO, YESTERDAY, 10L, null));
+        assertThat(counts(null, null)).containsEntry(TaskStatus.TODO, 2L);
+
+        taskCounterService.reconcile();
+
+        assertThat(counts(null, null)).containsEntry(TaskStatus.TODO, 1L);
+        assertThat(taskCounterService.overdueTasks()).extracting(TaskDTO.TaskSummaryResponse::id).containsExactly(1L);
+        assertThat(meterRegistry.get("tasks.count.drift").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep transitions committed while reconciliation reads the database")
+    void reconcile_shouldKeepTransitionsDuringRebuild() {
+        TaskDTO.TaskSnapshot spec = new TaskDTO.TaskSnapshot(1L, "Spec", TaskStatus.TODO, YESTERDAY, 10L, 100L);
+        TaskDTO.TaskSnapshot build = new TaskDTO.TaskSnapshot(2L, "Build", TaskStatus.IN_PROGRESS, NEXT_WEEK, 10L, null);
+        TaskDTO.TaskSnapshot completedSpec = new TaskDTO.TaskSnapshot(1L, "Spec", TaskStatus.COMPLETED, YESTERDAY, 10L, 100L);
+        when(taskRepository.findAllSnapshots()).thenAnswer(invocation -> {
+            // The read already sees the completion of task 1 but not the deletion of task 2.
+            taskCounterService.recordTransition(spec, completedSpec);
+            taskCounterService.recordTransition(build, null);
+            return List.of(completedSpec, build,
+                    new TaskDTO.TaskSnapshot(3L, "Ship", TaskStatus.COMPLETED, YESTERDAY, 20L, 100L));
+        });
+
+        taskCounterService.reconcile();
+
+        assertThat(counts(null, null)).containsOnly(Map.entry(TaskStatus.COMPLETED, 2L));
+        assertThat(taskCounterService.overdueTasks()).isEmpty();
+        assertThat(meterRegistry.get("tasks.count.drift").counter().count()).isZero();
+    }
+
+    private Map<TaskStatus, Long> counts(Long projectId, Long developerId) {
+        return taskCounterService.countByStatus(projectId, developerId).stream()
+                .collect(Collectors.toMap(row -> (TaskStatus) row[0], row -> (Long) row[1]));
+    }
+}
@@ -0,0 +1,183 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.cache.CacheDependencyTracker;
+import com.buildmaster.projecttracker.dto.AuditLogDTO;
+import com.buildmaster.projecttracker.dto.TaskDTO;
+import com.buildmaster.projecttracker.enums.ActionType;
+import com.buildmaster.projecttracker.enums.EntityType;
+import com.buildmaster.projecttracker.enums.OutboxEventType;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.exception.ResourceNotFoundException;
+import com.buildmaster.projecttracker.mapper.TaskMapper;
+import com.buildmaster.projecttracker.model.Developer;
+import com.buildmaster.projecttracker.model.Project;
+import com.buildmaster.projecttracker.model.OutboxEvent;
+import com.buildmaster.projecttracker.model.Task;
+import com.buildmaster.projecttracker.outbox.OutboxPublisher;
+import com.buildmaster.projecttracker.repository.OutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=25"
+})
+@Import({TaskService.class, TaskMapper.class, OutboxPublisher.class, JacksonAutoConfiguration.class})
+class TaskServiceBulkTest {
+
+    private static final int TASK_COUNT = 200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AuditLogService auditLogService;
+
+    @MockitoBean
+    private TaskCounterService taskCounterService;
+
+    @MockitoBean
+    private DeveloperLeaderboard developerLeaderboard;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private CacheDependencyTracker cacheDependencyTracker;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private Statistics statistics;
+    private Project project;
+    private Developer developer;
+
+    @BeforeEach
+    void setUp() {
+        project = Project.builder().name("Apollo").description("Moon landing").deadLine(LocalDate.now().plusMonths(6)).build();
+        developer = Developer.builder().name("Ada").email("ada@example.com").build();
+        entityManager.persist(project);
+        entityManager.persist(developer);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should insert tasks in JDBC batches, emit one audit batch and queue assignments in the outbox")
+    @SuppressWarnings("unchecked")
+    void createTasks_shouldBatchInsertsAndSideEffects() {
+        List<TaskDTO.TaskRequest> rows = IntStream.range(0, TASK_COUNT)
+                .mapToObj(i -> new TaskDTO.TaskRequest("Task " + i, "Imported task " + i, LocalDate.now().plusDays(7),
+                        project.getId(), i % 2 == 0 ? developer.getId() : null))
+                .toList();
+
+        TaskDTO.TaskBulkResponse response = taskService.createTasks(new TaskDTO.TaskBulkCreateRequest(rows)).data();
+
+        assertThat(response.count()).isEqualTo(TASK_COUNT);
+        assertThat(response.ids()).doesNotHaveDuplicates().doesNotContainNull();
+        // Two IN lookups, a handful of pooled sequence calls and one statement per batch of 25 inserts.
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(TASK_COUNT / 10);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TASK_COUNT);
+
+        ArgumentCaptor<Map<String, ?>> audited = ArgumentCaptor.forClass(Map.class);
+        verify(auditLogService).logAuditBatch(eq(ActionType.CREATE), eq(EntityType.TASK), eq("system"), audited.capture());
+        assertThat(audited.getValue()).hasSize(TASK_COUNT);
+        entityManager.flush();
+        assertThat(outboxEventRepository.findAll())
+                .hasSize(TASK_COUNT / 2)
+                .allMatch(event -> event.getEventType() == OutboxEventType.TASK_ASSIGNED);
+    }
+
+    @Test
+    @DisplayName("Should reject the whole import when a referenced project does not exist")
+    void createTasks_shouldFailOnUnknownProject() {
+        TaskDTO.TaskRequest row = new TaskDTO.TaskRequest("Task", "Orphan", LocalDate.now().plusDays(7), 9_999L, null);
+
+        assertThatThrownBy(() -> taskService.createTasks(new TaskDTO.TaskBulkCreateRequest(List.of(row))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(auditLogService, times(0)).logAuditBatch(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should update many statuses with one lookup and record one diff per task")
+    @SuppressWarnings("unchecked")
+    void updateTaskStatuses_shouldLoadOnceAndAuditAsBatch() {
+        List<Long> ids = IntStream.range(0, 60).mapToObj(i -> {
+            Task task = Task.builder().title("Task " + i).description("Task " + i).dueDate(LocalDate.now().plusDays(3))
+                    .project(entityManager.getReference(Project.class, project.getId()))
+                    .assignedDeveloper(entityManager.getReference(Developer.class, developer.getId()))
+                    .build();
+            entityManager.persist(task);
+            return task.getId();
+        }).toList();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<TaskDTO.TaskStatusChange> changes = ids.stream()
+                .map(id -> new TaskDTO.TaskStatusChange(id, TaskStatus.IN_PROGRESS))
+                .toList();
+        taskService.updateTaskStatuses(new TaskDTO.TaskBulkStatusRequest(changes));
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(ids.size());
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        ArgumentCaptor<List<AuditLogDTO.AuditChange>> audited = ArgumentCaptor.forClass(List.class);
+        verify(auditLogService).logAuditChanges(eq(ActionType.UPDATE), eq(EntityType.TASK), eq("system"), audited.capture());
+        assertThat(audited.getValue()).hasSize(ids.size());
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getEventType)
+                .containsOnly(OutboxEventType.TASK_STATUS_CHANGED)
+                .hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("Should make a cached task page depend on the projects and developers it embeds")
+    @SuppressWarnings("unchecked")
+    void getAllTasks_shouldRegisterProjectAndDeveloperDependencies() {
+        Task task = Task.builder().title("Spec").description("Write the spec").dueDate(LocalDate.now().plusDays(3))
+                .project(entityManager.getReference(Project.class, project.getId()))
+                .assignedDeveloper(entityManager.getReference(Developer.class, developer.getId()))
+                .build();
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+
+        taskService.getAllTasks(PageRequest.of(0, 10));
+
+        ArgumentCaptor<Collection<String>> dependencies = ArgumentCaptor.forClass(Collection.class);
+        verify(cacheDependencyTracker).register(eq("allTasks"), any(), dependencies.capture());
+        assertThat(dependencies.getValue()).contains(CacheDependencyTracker.task(task.getId()),
+                CacheDependencyTracker.project(project.getId()), CacheDependencyTracker.developer(developer.getId()));
+    }
+}